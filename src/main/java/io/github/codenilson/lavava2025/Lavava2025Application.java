@@ -4,7 +4,10 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+import io.github.codenilson.lavava2025.config.IdempotencyProperties;
+import io.github.codenilson.lavava2025.config.RankingProperties;
 import io.github.codenilson.lavava2025.config.ValorantMapsProperties;
 
 /**
@@ -18,8 +21,9 @@ import io.github.codenilson.lavava2025.config.ValorantMapsProperties;
  * @since 2025-01-01
  */
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
-@EnableConfigurationProperties(ValorantMapsProperties.class)
+@EnableConfigurationProperties({ ValorantMapsProperties.class, RankingProperties.class, IdempotencyProperties.class })
 public class Lavava2025Application {
 
 	/**
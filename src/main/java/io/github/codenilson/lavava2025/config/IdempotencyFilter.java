@@ -0,0 +1,205 @@
+package io.github.codenilson.lavava2025.config;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import io.github.codenilson.lavava2025.errors.exceptions.IdempotentRequestTooLargeException;
+import io.github.codenilson.lavava2025.services.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Honors the {@code Idempotency-Key} header on the write requests of the paths in
+ * {@code idempotency.paths}, so that a client may retry a request without running it twice.
+ *
+ * The first request with a key runs and its response is recorded; retries with the same
+ * key and the same request get that response back, with an {@code Idempotent-Replayed}
+ * header. Keys are scoped by the authenticated user. Errors (a key reused for another
+ * request, still running, or a body over {@code idempotency.max-request-bytes}) are
+ * answered by the {@code GlobalExceptionHandler}.
+ *
+ * Runs after the Spring Security filter chain, so unauthenticated requests never
+ * claim a key.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyService idempotencyService;
+    private final IdempotencyProperties idempotencyProperties;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public IdempotencyFilter(IdempotencyService idempotencyService, IdempotencyProperties idempotencyProperties,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        this.idempotencyService = idempotencyService;
+        this.idempotencyProperties = idempotencyProperties;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!idempotencyProperties.isEnabled() || request.getHeader(HEADER) == null
+                || !WRITE_METHODS.contains(request.getMethod())) {
+            return true;
+        }
+        String path = path(request);
+        return idempotencyProperties.getPaths().stream()
+                .noneMatch(prefix -> path.equals(prefix) || path.startsWith(prefix + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        int maxBytes = idempotencyProperties.getMaxRequestBytes();
+        // A declared length over the limit is rejected before anything is read
+        byte[] body = request.getContentLengthLong() > maxBytes ? null
+                : request.getInputStream().readNBytes(maxBytes + 1);
+        IdempotencyService.Claim claim;
+        try {
+            if (body == null || body.length > maxBytes) {
+                throw new IdempotentRequestTooLargeException(maxBytes);
+            }
+            claim = idempotencyService.claim(authentication.getName(), request.getHeader(HEADER),
+                    fingerprint(request, body));
+        } catch (RuntimeException e) {
+            if (handlerExceptionResolver.resolveException(request, response, null, e) == null) {
+                throw e;
+            }
+            return;
+        }
+
+        if (claim.isReplay()) {
+            IdempotencyService.StoredResponse replay = claim.replay();
+            response.setStatus(replay.status());
+            if (replay.contentType() != null) {
+                response.setContentType(replay.contentType());
+            }
+            response.setHeader(REPLAYED_HEADER, "true");
+            response.setContentLength(replay.body().length);
+            response.getOutputStream().write(replay.body());
+            return;
+        }
+
+        ContentCachingResponseWrapper recorded = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(new CachedBodyRequest(request, body), recorded);
+        } catch (IOException | ServletException | RuntimeException e) {
+            idempotencyService.release(claim);
+            throw e;
+        }
+        try {
+            idempotencyService.complete(claim, recorded.getStatus(), recorded.getContentType(),
+                    recorded.getContentAsByteArray());
+        } finally {
+            recorded.copyBodyToResponse();
+        }
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * SHA-256 of the method, path, query and body of the request.
+     */
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + path(request) + "?" + request.getQueryString() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Request whose body was already read, to compute the fingerprint.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // The whole body is already in memory
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.codenilson.lavava2025.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties of the {@code Idempotency-Key} header on write requests.
+ * Can be configured via application.yml under {@code idempotency}.
+ */
+@ConfigurationProperties(prefix = "idempotency")
+@Getter
+@Setter
+public class IdempotencyProperties {
+
+    /**
+     * Whether the Idempotency-Key header is honored.
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Path prefixes (within the context path) whose POST, PUT, PATCH and DELETE requests
+     * honor the header.
+     * Default: the match, team and performance endpoints
+     */
+    private List<String> paths = List.of("/matches", "/teams", "/performances");
+
+    /**
+     * How long a key and its response are kept; a retry after that runs again.
+     * Default: 24h
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * How long a key stays locked by a request that never finished (e.g. the server
+     * stopped); after that a retry may run it again.
+     * Default: 1m
+     */
+    private Duration lockTimeout = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of completed keys kept in memory in front of the key table; the least
+     * recently used ones are dropped first.
+     * Default: 10000
+     */
+    private int cacheSize = 10_000;
+
+    /**
+     * Largest request body accepted with the header. The body is buffered to fingerprint
+     * the request, so larger requests are rejected with 413 before it is read.
+     * Default: 1MB
+     */
+    private int maxRequestBytes = 1024 * 1024;
+
+    /**
+     * Largest response body that is recorded for replay. Larger responses are not
+     * recorded, so their key is released once the request finishes.
+     * Default: 1MB
+     */
+    private int maxResponseBytes = 1024 * 1024;
+
+    /**
+     * Cron expression of the purge of expired keys.
+     * Default: every hour
+     */
+    private String purgeCron = "0 15 * * * *";
+}
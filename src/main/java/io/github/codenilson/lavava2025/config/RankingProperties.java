@@ -0,0 +1,269 @@
+package io.github.codenilson.lavava2025.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import io.github.codenilson.lavava2025.entities.valueobjects.ScoringMode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties for the ranking system.
+ * Can be configured via application.yml under ranking.*
+ */
+@ConfigurationProperties(prefix = "ranking")
+@Getter
+@Setter
+public class RankingProperties {
+
+    private Recalculation recalculation = new Recalculation();
+
+    private Outbox outbox = new Outbox();
+
+    private Cache cache = new Cache();
+
+    private Scoring scoring = new Scoring();
+
+    private Percentiles percentiles = new Percentiles();
+
+    private History history = new History();
+
+    private Events events = new Events();
+
+    private Decay decay = new Decay();
+
+    private Verifier verifier = new Verifier();
+
+    private MatchDeletion matchDeletion = new MatchDeletion();
+
+    @Getter
+    @Setter
+    public static class Recalculation {
+
+        /**
+         * Number of seasons recalculated at the same time.
+         * Each season holds one database connection while it runs.
+         * Default: 4
+         */
+        private int parallelism = 4;
+
+        /**
+         * Number of rows sent in each JDBC batch when writing recalculated rankings.
+         * Default: 500
+         */
+        private int batchSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Outbox {
+
+        /**
+         * Whether match results are recorded in the ranking outbox and applied by the
+         * background worker. When disabled they are applied while the match is saved.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of outbox entries applied together in one transaction.
+         * Default: 100
+         */
+        private int batchSize = 100;
+
+        /**
+         * How long the worker waits for new entries when the outbox is empty.
+         * Default: 1s
+         */
+        private Duration pollInterval = Duration.ofSeconds(1);
+
+        /**
+         * Number of failed attempts after which an entry is no longer retried.
+         * Default: 5
+         */
+        private int maxAttempts = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * Whether leaderboard, top players and season list reads are cached.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of cached reads; the least recently used ones are dropped first.
+         * Default: 1000
+         */
+        private int maxEntries = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Scoring {
+
+        /**
+         * Scoring mode of the seasons that are not listed in {@link #seasons}.
+         * Default: FLAT
+         */
+        private ScoringMode defaultMode = ScoringMode.FLAT;
+
+        /**
+         * Scoring mode by season, e.g. ranking.scoring.seasons.2026=ELO.
+         */
+        private Map<String, ScoringMode> seasons = new HashMap<>();
+
+        /**
+         * Largest rating change of a single match in ELO seasons.
+         * Default: 32
+         */
+        private int eloKFactor = 32;
+
+        /**
+         * Scoring mode of a season.
+         */
+        public ScoringMode modeOf(String season) {
+            return seasons.getOrDefault(season, defaultMode);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Percentiles {
+
+        /**
+         * How often changed percentile sketches are written to the database.
+         * Default: 30s
+         */
+        private Duration flushInterval = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class History {
+
+        /**
+         * Whether the daily rank-history snapshot runs.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * When the daily snapshot runs, as a cron expression.
+         * Default: 0 0 4 * * *
+         */
+        private String cron = "0 0 4 * * *";
+    }
+
+    @Getter
+    @Setter
+    public static class Events {
+
+        /**
+         * How long position changes of a season are gathered into one event.
+         * Default: 250ms
+         */
+        private Duration debounce = Duration.ofMillis(250);
+
+        /**
+         * How often idle subscribers receive a keep-alive comment.
+         * Default: 15s
+         */
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+        /**
+         * How long a subscription lasts before the client has to reconnect.
+         * Default: 30m
+         */
+        private Duration timeout = Duration.ofMinutes(30);
+
+        /**
+         * Events queued for a slow subscriber before it is disconnected.
+         * Default: 32
+         */
+        private int maxPendingEvents = 32;
+    }
+
+    @Getter
+    @Setter
+    public static class Decay {
+
+        /**
+         * Whether the decayed leaderboard of every season is re-materialized every night.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Time after which the points of an inactive player count half.
+         * Default: 30d
+         */
+        private Duration halfLife = Duration.ofDays(30);
+
+        /**
+         * Days of inactivity covered by the decay factor table. Older rankings use the
+         * factor of the last day.
+         * Default: 730
+         */
+        private int maxAgeDays = 730;
+
+        /**
+         * When the decayed leaderboards are re-materialized, as a cron expression.
+         * Default: 0 30 4 * * *
+         */
+        private String cron = "0 30 4 * * *";
+    }
+
+    @Getter
+    @Setter
+    public static class Verifier {
+
+        /**
+         * Whether the background consistency verifier runs.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Time between two verification runs.
+         * Default: 15m
+         */
+        private Duration interval = Duration.ofMinutes(15);
+
+        /**
+         * Number of rankings verified together.
+         * Default: 500
+         */
+        private int chunkSize = 500;
+
+        /**
+         * Pause between two chunks, so the verifier does not compete with regular traffic.
+         * Default: 200ms
+         */
+        private Duration chunkPause = Duration.ofMillis(200);
+
+        /**
+         * Largest number of drifted rankings listed by the verification status.
+         * Default: 100
+         */
+        private int maxReportedDrifts = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class MatchDeletion {
+
+        /**
+         * Number of matches deleted, and their ranking contribution reversed, in each
+         * transaction of a bulk deletion.
+         * Default: 100
+         */
+        private int chunkSize = 100;
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.codenilson.lavava2025.config;
+
+import java.util.UUID;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Registers the HQL function {@code random_uuid()}, mapped to the UUID generator of the
+ * database, so set-based {@code INSERT ... SELECT} statements can create rows with
+ * UUID keys. Hibernate only generates UUIDs in memory, one entity at a time.
+ *
+ * Registered through {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ *
+ * @author codenilson
+ * @version 1.0
+ * @since 2025-01-01
+ */
+public class UuidFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        Dialect dialect = functionContributions.getDialect();
+        // PostgreSQL 13+ has gen_random_uuid() built in, H2 calls it random_uuid()
+        String pattern = dialect instanceof PostgreSQLDialect ? "gen_random_uuid()" : "random_uuid()";
+        functionContributions.getFunctionRegistry().registerPattern("random_uuid", pattern,
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(
+                        UUID.class, SqlTypes.UUID));
+    }
+}
@@ -1,8 +1,11 @@
 package io.github.codenilson.lavava2025.controllers;
 
-import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,11 +18,17 @@ import org.springframework.web.bind.annotation.RestController;
 
 import io.github.codenilson.lavava2025.entities.Match;
 import io.github.codenilson.lavava2025.entities.dto.match.MatchCreateDTO;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchDeletionReportDTO;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchDeletionRequestDTO;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchFilterDTO;
 import io.github.codenilson.lavava2025.entities.dto.match.MatchPerformancesBatchUpdateDTO;
 import io.github.codenilson.lavava2025.entities.dto.match.MatchResponseDTO;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchSubmissionDTO;
 import io.github.codenilson.lavava2025.entities.dto.match.MatchUpdateDTO;
 import io.github.codenilson.lavava2025.mappers.MatchMapper;
+import io.github.codenilson.lavava2025.services.MatchDeletionService;
 import io.github.codenilson.lavava2025.services.MatchService;
+import io.github.codenilson.lavava2025.services.MatchSubmissionService;
 import io.github.codenilson.lavava2025.services.PlayerPerformanceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -48,27 +57,33 @@ public class MatchController {
     private final MatchService matchService;
     private final MatchMapper matchMapper;
     private final PlayerPerformanceService playerPerformanceService;
+    private final MatchSubmissionService matchSubmissionService;
+    private final MatchDeletionService matchDeletionService;
 
     /**
-     * Retrieves all matches in the system.
+     * Retrieves a page of matches, optionally filtered by season, map, player and date range.
      * 
-     * @return ResponseEntity containing a list of all matches as DTOs
+     * @param filter optional filters; absent filters match every match
+     * @param pageable pagination parameters, newest matches first by default
+     * @return ResponseEntity containing a page of matches as DTOs
      */
     @Operation(
-        summary = "Get all matches",
-        description = "Retrieves a list of all matches in the system"
+        summary = "Get matches",
+        description = "Retrieves a page of matches, newest first by default. Filters by season, map id, " +
+            "player id (in either team) and creation date range [from, to). Sortable by createdAt, " +
+            "updatedAt and season"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Matches retrieved successfully",
-            content = @Content(schema = @Schema(implementation = MatchResponseDTO.class)))
+            content = @Content(schema = @Schema(implementation = MatchResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid filter or pagination parameters")
     })
     @GetMapping
-    public ResponseEntity<List<MatchResponseDTO>> findAllMatches() {
-        List<Match> matches = matchService.findAllMatches();
-        List<MatchResponseDTO> response = matches.stream()
-                .map(MatchResponseDTO::new)
-                .toList();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<Page<MatchResponseDTO>> findAllMatches(
+            @Parameter(description = "Optional filters") MatchFilterDTO filter,
+            @Parameter(description = "Pagination parameters")
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(matchService.findMatches(filter, pageable));
     }
 
     /**
@@ -118,6 +133,32 @@ public class MatchController {
         return ResponseEntity.status(201).body(response);
     }
 
+    /**
+     * Records a finished match in a single request: map, both rosters with their stats,
+     * the winner and the MVPs. Rankings are updated once, in the same transaction.
+     * 
+     * @param submission the data transfer object containing the whole match
+     * @return ResponseEntity with status 201 and the recorded match as DTO
+     */
+    @Operation(
+        summary = "Submit finished match",
+        description = "Records a finished match at once: creates the match, both teams and every player " +
+            "performance, sets the result and updates the rankings, all in one transaction"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Match recorded successfully",
+            content = @Content(schema = @Schema(implementation = MatchResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid submission, e.g. a player in both teams or an MVP outside the expected team"),
+        @ApiResponse(responseCode = "404", description = "Map or active player not found")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/submissions")
+    public ResponseEntity<MatchResponseDTO> submitMatch(
+            @Parameter(description = "Whole match data") @RequestBody @Valid MatchSubmissionDTO submission) {
+        Match match = matchSubmissionService.submit(submission);
+        return ResponseEntity.status(201).body(new MatchResponseDTO(match));
+    }
+
     /**
      * Updates an existing match with new information.
      * 
@@ -152,7 +193,7 @@ public class MatchController {
      */
     @Operation(
         summary = "Delete match",
-        description = "Deletes a match from the system"
+        description = "Deletes a match with its teams and performances, reversing the ranking points it awarded"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Match deleted successfully"),
@@ -165,6 +206,32 @@ public class MatchController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Deletes every match that matches the given filters, in chunks, reversing the
+     * ranking points each match awarded.
+     *
+     * @param request the filters (season, period and/or match ids); at least one is required
+     * @return ResponseEntity with the number of matches deleted and chunks executed
+     */
+    @Operation(
+        summary = "Bulk delete matches",
+        description = "Deletes the matches of a season, a period or a list of ids (filters are combined), " +
+            "with their teams and performances. Each match's ranking contribution is reversed. " +
+            "Runs in chunks, one transaction per chunk"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matches deleted successfully",
+            content = @Content(schema = @Schema(implementation = MatchDeletionReportDTO.class))),
+        @ApiResponse(responseCode = "400", description = "No filter given or 'from' after 'to'"),
+        @ApiResponse(responseCode = "409", description = "Another bulk deletion is running")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/deletions")
+    public ResponseEntity<MatchDeletionReportDTO> deleteMatches(
+            @Parameter(description = "Deletion filters") @RequestBody MatchDeletionRequestDTO request) {
+        return ResponseEntity.ok(matchDeletionService.deleteMatches(request));
+    }
+
     /**
      * Updates multiple player performances for a specific match in batch using usernames.
      * This is the main endpoint used after a match ends to update all player statistics at once.
@@ -1,6 +1,7 @@
 package io.github.codenilson.lavava2025.controllers;
 
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -8,6 +9,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,13 +19,38 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import io.github.codenilson.lavava2025.entities.dto.ranking.DecayedRankingDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.LeaderboardCursorPageDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.PlayerPercentilesDTO;
 import io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankHistoryDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingEventResponseDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingOutboxStatusDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingRecalculationProgressDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingRecalculationReportDTO;
 import io.github.codenilson.lavava2025.entities.dto.ranking.RankingUpdateRequestDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingVerificationStatusDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.SeasonOperationReportDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.SeasonPercentilesDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.LeaderboardExportFormat;
+import io.github.codenilson.lavava2025.entities.valueobjects.PercentileMetric;
+import io.github.codenilson.lavava2025.services.DecayedLeaderboardService;
+import io.github.codenilson.lavava2025.services.LeaderboardEventHub;
+import io.github.codenilson.lavava2025.services.LeaderboardExportService;
+import io.github.codenilson.lavava2025.services.PlayerPercentileService;
 import io.github.codenilson.lavava2025.services.PlayerRankingService;
+import io.github.codenilson.lavava2025.services.RankHistoryService;
+import io.github.codenilson.lavava2025.services.RankingOutboxService;
+import io.github.codenilson.lavava2025.services.RankingVerificationService;
+import io.github.codenilson.lavava2025.services.RankingVerificationWorker;
+import io.github.codenilson.lavava2025.services.SeasonArchiveService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -50,6 +79,33 @@ public class PlayerRankingController {
     @Autowired
     private PlayerRankingService playerRankingService;
 
+    @Autowired
+    private RankingOutboxService rankingOutboxService;
+
+    @Autowired
+    private PlayerPercentileService playerPercentileService;
+
+    @Autowired
+    private RankHistoryService rankHistoryService;
+
+    @Autowired
+    private SeasonArchiveService seasonArchiveService;
+
+    @Autowired
+    private LeaderboardExportService leaderboardExportService;
+
+    @Autowired
+    private LeaderboardEventHub leaderboardEventHub;
+
+    @Autowired
+    private DecayedLeaderboardService decayedLeaderboardService;
+
+    @Autowired
+    private RankingVerificationService rankingVerificationService;
+
+    @Autowired
+    private RankingVerificationWorker rankingVerificationWorker;
+
     /**
      * Get current season leaderboard with pagination
      */
@@ -87,6 +143,66 @@ public class PlayerRankingController {
         return ResponseEntity.ok(leaderboard);
     }
 
+    /**
+     * Get the activity leaderboard of a season, with decayed points
+     */
+    @Operation(
+        summary = "Get decayed leaderboard for specific season",
+        description = "Returns the players of a season ordered by points that lose half their weight every "
+            + "half-life since the last ranking update. The order is re-materialized nightly"
+    )
+    @GetMapping("/leaderboard/{season}/decayed")
+    public ResponseEntity<Page<DecayedRankingDTO>> getDecayedLeaderboard(
+            @Parameter(description = "Season name") @PathVariable String season,
+            @Parameter(description = "Pagination parameters") 
+            @PageableDefault(size = 10) Pageable pageable) {
+
+        return ResponseEntity.ok(decayedLeaderboardService.getDecayedLeaderboard(season, pageable));
+    }
+
+    /**
+     * Get current season leaderboard with cursor pagination
+     */
+    @Operation(
+        summary = "Get current season leaderboard by cursor",
+        description = "Returns a page of the current season leaderboard after the given cursor. " +
+            "Pass the nextCursor of a page to read the next one; the total is only counted when count=true"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Leaderboard page retrieved successfully",
+            content = @Content(schema = @Schema(implementation = LeaderboardCursorPageDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    @GetMapping("/leaderboard/cursor")
+    public ResponseEntity<LeaderboardCursorPageDTO> getCurrentSeasonLeaderboardPage(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size", example = "20") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Whether to count the rankings of the season") @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(playerRankingService.getCurrentSeasonLeaderboardPage(cursor, size, count));
+    }
+
+    /**
+     * Get leaderboard for a specific season with cursor pagination
+     */
+    @Operation(
+        summary = "Get leaderboard for specific season by cursor",
+        description = "Returns a page of the leaderboard of a season after the given cursor. " +
+            "Pass the nextCursor of a page to read the next one; the total is only counted when count=true"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Leaderboard page retrieved successfully",
+            content = @Content(schema = @Schema(implementation = LeaderboardCursorPageDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    @GetMapping("/leaderboard/{season}/cursor")
+    public ResponseEntity<LeaderboardCursorPageDTO> getSeasonLeaderboardPage(
+            @Parameter(description = "Season name") @PathVariable String season,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size", example = "20") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Whether to count the rankings of the season") @RequestParam(defaultValue = "false") boolean count) {
+        return ResponseEntity.ok(playerRankingService.getSeasonLeaderboardPage(season, cursor, size, count));
+    }
+
     /**
      * Get top N players from current season
      */
@@ -212,6 +328,168 @@ public class PlayerRankingController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Get the players right above and below a player
+     */
+    @Operation(
+        summary = "Get leaderboard window around a player",
+        description = "Returns up to N rankings above and below a player, the player included, in leaderboard order with positions"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Leaderboard window retrieved successfully",
+            content = @Content(schema = @Schema(implementation = PlayerRankingResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid radius"),
+        @ApiResponse(responseCode = "404", description = "Player has no ranking in the season")
+    })
+    @GetMapping("/player/{playerId}/neighbors")
+    public ResponseEntity<List<PlayerRankingResponseDTO>> getPlayerNeighbors(
+            @Parameter(description = "Player unique identifier") @PathVariable UUID playerId,
+            @Parameter(description = "Number of players on each side", example = "5")
+            @RequestParam(defaultValue = "5") int radius,
+            @Parameter(description = "Season name") @RequestParam(defaultValue = "2025") String season) {
+        return ResponseEntity.ok(playerRankingService.getPlayerNeighbors(playerId, season, radius));
+    }
+
+    /**
+     * Get the players right above and below a player by username
+     */
+    @Operation(
+        summary = "Get leaderboard window around a player by username",
+        description = "Returns up to N rankings above and below a player, the player included, in leaderboard order with positions"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Leaderboard window retrieved successfully",
+            content = @Content(schema = @Schema(implementation = PlayerRankingResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid radius"),
+        @ApiResponse(responseCode = "404", description = "Player not found or no ranking in the season")
+    })
+    @GetMapping("/username/{username}/neighbors")
+    public ResponseEntity<List<PlayerRankingResponseDTO>> getPlayerNeighborsByUsername(
+            @Parameter(description = "Player username") @PathVariable String username,
+            @Parameter(description = "Number of players on each side", example = "5")
+            @RequestParam(defaultValue = "5") int radius,
+            @Parameter(description = "Season name") @RequestParam(defaultValue = "2025") String season) {
+        return ResponseEntity.ok(playerRankingService.getPlayerNeighborsByUsername(username, season, radius));
+    }
+
+    /**
+     * Get the values of a metric at given percentiles of a season
+     */
+    @Operation(
+        summary = "Get season percentiles of a metric",
+        description = "Returns the estimated values of a metric (points, kills per match, K/D, aces, assists) at the requested quantiles of a season"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Percentiles retrieved successfully",
+            content = @Content(schema = @Schema(implementation = SeasonPercentilesDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid metric or quantile")
+    })
+    @GetMapping("/percentiles/{season}")
+    public ResponseEntity<SeasonPercentilesDTO> getSeasonPercentiles(
+            @Parameter(description = "Season name") @PathVariable String season,
+            @Parameter(description = "Metric", example = "KILLS_PER_MATCH")
+            @RequestParam(defaultValue = "POINTS") PercentileMetric metric,
+            @Parameter(description = "Quantiles between 0 and 1", example = "0.5,0.9,0.95")
+            @RequestParam(required = false) List<Double> quantiles) {
+        return ResponseEntity.ok(playerPercentileService.getSeasonPercentiles(season, metric, quantiles));
+    }
+
+    /**
+     * Get the percentiles of a player in a season
+     */
+    @Operation(
+        summary = "Get player percentiles",
+        description = "Returns where the player stands among the players of the season in every metric, e.g. top 5% in kills per match"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Player percentiles retrieved successfully",
+            content = @Content(schema = @Schema(implementation = PlayerPercentilesDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Player has not played in the season")
+    })
+    @GetMapping("/player/{playerId}/percentiles")
+    public ResponseEntity<PlayerPercentilesDTO> getPlayerPercentiles(
+            @Parameter(description = "Player unique identifier") @PathVariable UUID playerId,
+            @Parameter(description = "Season name") @RequestParam(defaultValue = "2025") String season) {
+        return ResponseEntity.ok(playerPercentileService.getPlayerPercentiles(playerId, season));
+    }
+
+    /**
+     * Get the daily rank history of a player in a season
+     */
+    @Operation(
+        summary = "Get player rank history",
+        description = "Returns the daily leaderboard position and points of the player in a season. Days without change are omitted"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rank history retrieved successfully",
+            content = @Content(schema = @Schema(implementation = RankHistoryDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Player has no ranking in the season")
+    })
+    @GetMapping("/player/{playerId}/history")
+    public ResponseEntity<RankHistoryDTO> getPlayerRankHistory(
+            @Parameter(description = "Player unique identifier") @PathVariable UUID playerId,
+            @Parameter(description = "Season name") @RequestParam(defaultValue = "2025") String season) {
+        return ResponseEntity.ok(rankHistoryService.getHistory(playerId, season));
+    }
+
+    /**
+     * Export the full leaderboard of a season
+     */
+    @Operation(
+        summary = "Export season leaderboard",
+        description = "Streams every leaderboard row of a season with its position, as CSV or NDJSON. " +
+                      "The response is gzip-compressed when the client accepts it"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Leaderboard export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Unknown format")
+    })
+    @GetMapping("/export/{season}")
+    public ResponseEntity<StreamingResponseBody> exportLeaderboard(
+            @Parameter(description = "Season name") @PathVariable String season,
+            @Parameter(description = "File format", example = "CSV") @RequestParam(defaultValue = "CSV") LeaderboardExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                leaderboardExportService.export(season, format, compressed);
+                compressed.finish();
+            } else {
+                leaderboardExportService.export(season, format, out);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, format.contentType() + ";charset=UTF-8")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("leaderboard-" + season + "." + format.extension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Subscribe to the leaderboard position changes of a season
+     */
+    @Operation(
+        summary = "Stream leaderboard position changes",
+        description = "Server-sent events stream of the season. Each rank-changes event lists the players whose " +
+                      "position or points changed (player, old position, new position, points), " +
+                      "gathered over a short window after match results are applied"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Subscription opened")
+    })
+    @GetMapping(value = "/stream/{season}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRankChanges(
+            @Parameter(description = "Season name") @PathVariable String season) {
+        return leaderboardEventHub.subscribe(season);
+    }
+
     /**
      * Get all available seasons with ranking data
      */
@@ -266,15 +544,53 @@ public class PlayerRankingController {
         description = "Resets all player rankings for a specific season"
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Season rankings reset successfully"),
+        @ApiResponse(responseCode = "200", description = "Season rankings reset successfully",
+            content = @Content(schema = @Schema(implementation = SeasonOperationReportDTO.class))),
         @ApiResponse(responseCode = "403", description = "Access denied - admins only")
     })
     @DeleteMapping("/season/{season}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Void> resetSeasonRankings(
+    public ResponseEntity<SeasonOperationReportDTO> resetSeasonRankings(
+            @Parameter(description = "Season name") @PathVariable String season) {
+        return ResponseEntity.ok(playerRankingService.resetSeasonRankings(season));
+    }
+
+    /**
+     * Archive the rankings of a season - Admin only
+     */
+    @Operation(
+        summary = "Archive season rankings (Admin only)",
+        description = "Moves all player rankings of a season to the archive table with set-based statements"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Season rankings archived successfully",
+            content = @Content(schema = @Schema(implementation = SeasonOperationReportDTO.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied - admins only")
+    })
+    @PostMapping("/season/{season}/archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SeasonOperationReportDTO> archiveSeason(
             @Parameter(description = "Season name") @PathVariable String season) {
-        playerRankingService.resetSeasonRankings(season);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(seasonArchiveService.archiveSeason(season));
+    }
+
+    /**
+     * Start a season for every active player - Admin only
+     */
+    @Operation(
+        summary = "Roll over to a new season (Admin only)",
+        description = "Creates an empty ranking in the season for every active player that has none, in a single statement"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Season rankings created successfully",
+            content = @Content(schema = @Schema(implementation = SeasonOperationReportDTO.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied - admins only")
+    })
+    @PostMapping("/season/{season}/rollover")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SeasonOperationReportDTO> rolloverSeason(
+            @Parameter(description = "New season name") @PathVariable String season) {
+        return ResponseEntity.ok(seasonArchiveService.rolloverSeason(season));
     }
 
     /**
@@ -366,4 +682,140 @@ public class PlayerRankingController {
         return updatedRanking.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
-}
\ No newline at end of file
+
+    /**
+     * Recalculate every ranking from the stored matches - Admin only
+     */
+    @Operation(
+        summary = "Recalculate all rankings (Admin only)",
+        description = "Rebuilds the rankings of every season from the stored matches and performances. " +
+                      "Bonus points added manually are read from the ranking ledger and kept"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rankings recalculated successfully",
+            content = @Content(schema = @Schema(implementation = RankingRecalculationReportDTO.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied - admins only"),
+        @ApiResponse(responseCode = "409", description = "A recalculation is already running")
+    })
+    @PostMapping("/recalculate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RankingRecalculationReportDTO> recalculateAllRankings() {
+        return ResponseEntity.ok(playerRankingService.recalculateAllRankings());
+    }
+
+    /**
+     * Get the progress of the ranking recalculation - Admin only
+     */
+    @Operation(
+        summary = "Get recalculation progress (Admin only)",
+        description = "Returns the progress and throughput of the running recalculation, or of the last one"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Progress retrieved successfully",
+            content = @Content(schema = @Schema(implementation = RankingRecalculationProgressDTO.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied - admins only")
+    })
+    @GetMapping("/recalculate/progress")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RankingRecalculationProgressDTO> getRecalculationProgress() {
+        return ResponseEntity.ok(playerRankingService.getRecalculationProgress());
+    }
+
+    /**
+     * Rebuild the rankings of a season from the ranking ledger - Admin only
+     */
+    @Operation(
+        summary = "Replay season ledger (Admin only)",
+        description = "Rebuilds every ranking of a season by replaying its ranking events"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Season replayed successfully",
+            content = @Content(schema = @Schema(implementation = RankingRecalculationReportDTO.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied - admins only"),
+        @ApiResponse(responseCode = "409", description = "A recalculation is already running")
+    })
+    @PostMapping("/season/{season}/replay")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RankingRecalculationReportDTO> replaySeason(
+            @Parameter(description = "Season name") @PathVariable String season) {
+        return ResponseEntity.ok(playerRankingService.replaySeason(season));
+    }
+
+    /**
+     * Get the ranking events of a player in a season - Admin only
+     */
+    @Operation(
+        summary = "Get player ranking events (Admin only)",
+        description = "Returns every change made to the ranking of a player in a season, oldest first"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ranking events retrieved successfully",
+            content = @Content(schema = @Schema(implementation = RankingEventResponseDTO.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied - admins only")
+    })
+    @GetMapping("/player/{playerId}/events")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<RankingEventResponseDTO>> getRankingEvents(
+            @Parameter(description = "Player unique identifier") @PathVariable UUID playerId,
+            @Parameter(description = "Season name") @RequestParam(defaultValue = "2025") String season) {
+        return ResponseEntity.ok(playerRankingService.getRankingEvents(playerId, season));
+    }
+
+    /**
+     * Get the state of the ranking outbox - Admin only
+     */
+    @Operation(
+        summary = "Get ranking outbox status (Admin only)",
+        description = "Returns the number of match results waiting to be applied to the rankings and the lag of the outbox worker"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Outbox status retrieved successfully",
+            content = @Content(schema = @Schema(implementation = RankingOutboxStatusDTO.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied - admins only")
+    })
+    @GetMapping("/outbox")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RankingOutboxStatusDTO> getOutboxStatus() {
+        return ResponseEntity.ok(rankingOutboxService.getStatus());
+    }
+
+    /**
+     * Get the state of the ranking consistency verifier - Admin only
+     */
+    @Operation(
+        summary = "Get ranking verification status (Admin only)",
+        description = "Returns the counters of the background verifier that compares the rankings with the recorded matches and performances, and the drifted rankings of its last run"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Verification status retrieved successfully",
+            content = @Content(schema = @Schema(implementation = RankingVerificationStatusDTO.class))),
+        @ApiResponse(responseCode = "403", description = "Access denied - admins only")
+    })
+    @GetMapping("/verification")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RankingVerificationStatusDTO> getVerificationStatus() {
+        return ResponseEntity.ok(rankingVerificationService.getStatus());
+    }
+
+    /**
+     * Start a ranking verification run now - Admin only
+     */
+    @Operation(
+        summary = "Run the ranking verification (Admin only)",
+        description = "Wakes the background verifier up (202). When the verifier is disabled the run happens in the request (200)"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Verification finished",
+            content = @Content(schema = @Schema(implementation = RankingVerificationStatusDTO.class))),
+        @ApiResponse(responseCode = "202", description = "Verification started in the background"),
+        @ApiResponse(responseCode = "403", description = "Access denied - admins only")
+    })
+    @PostMapping("/verification/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RankingVerificationStatusDTO> runVerification() {
+        if (rankingVerificationWorker.wakeUp()) {
+            return ResponseEntity.accepted().body(rankingVerificationService.getStatus());
+        }
+        return ResponseEntity.ok(rankingVerificationService.verifyAll());
+    }
+}
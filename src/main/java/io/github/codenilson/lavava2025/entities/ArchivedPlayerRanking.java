@@ -0,0 +1,102 @@
+package io.github.codenilson.lavava2025.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Comment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Final state of a {@link PlayerRanking} of an archived season.
+ *
+ * Rows are only written by the set-based copy of
+ * {@link io.github.codenilson.lavava2025.repositories.PlayerRankingRepository#archiveBySeason},
+ * which keeps the id of the original ranking.
+ *
+ * @author codenilson
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Entity
+@Table(name = "player_rankings_archive", indexes = {
+    @Index(columnList = "season, total_points DESC")
+})
+@ToString
+@Getter
+public class ArchivedPlayerRanking {
+
+    @Id
+    private UUID id;
+
+    @Comment("Player of the archived ranking")
+    @Column(name = "player_id")
+    private UUID playerId;
+
+    @Comment("Season of the archived ranking")
+    @Column(nullable = false)
+    private String season;
+
+    @Comment("Total points at archival")
+    @Column(name = "total_points", nullable = false)
+    private Integer totalPoints;
+
+    @Comment("Matches won at archival")
+    @Column(nullable = false)
+    private Integer matchesWon;
+
+    @Comment("Matches played at archival")
+    @Column(nullable = false)
+    private Integer matchesPlayed;
+
+    @Comment("Win rate at archival (0.0 to 1.0)")
+    @Column(nullable = false)
+    private Double winRate;
+
+    @Comment("Timestamp of the last ranking update")
+    private LocalDateTime lastUpdated;
+
+    @Comment("Timestamp the ranking was created")
+    private LocalDateTime createdAt;
+
+    @Comment("Timestamp the ranking was archived")
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    protected ArchivedPlayerRanking() {
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((id == null) ? 0 : id.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        ArchivedPlayerRanking other = (ArchivedPlayerRanking) obj;
+        if (id == null) {
+            if (other.id != null)
+                return false;
+        } else if (!id.equals(other.id))
+            return false;
+        return true;
+    }
+}
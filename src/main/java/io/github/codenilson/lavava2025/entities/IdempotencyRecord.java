@@ -0,0 +1,136 @@
+package io.github.codenilson.lavava2025.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Comment;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Idempotency-Key of a write request and the response it produced.
+ * The record is inserted before the request runs, which locks the key for the
+ * requests retried meanwhile, and completed with the response, which is replayed
+ * to the retries that come after.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "idempotency_keys", uniqueConstraints = {
+    @UniqueConstraint(columnNames = { "principal", "idempotency_key" })
+}, indexes = {
+    @Index(columnList = "created_at")
+})
+@ToString(exclude = "responseBody")
+public class IdempotencyRecord {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Getter
+    private UUID id;
+
+    @Comment("User that sent the request; keys are scoped by user")
+    @Column(nullable = false, updatable = false)
+    @Getter
+    private String principal;
+
+    @Comment("Value of the Idempotency-Key header")
+    @Column(name = "idempotency_key", nullable = false, updatable = false, length = MAX_KEY_LENGTH)
+    @Getter
+    private String idempotencyKey;
+
+    @Comment("Hash of the method, path and body of the request")
+    @Column(nullable = false, updatable = false, length = 64)
+    @Getter
+    private String fingerprint;
+
+    @Comment("When the request running with this key started, or was taken over after a timeout")
+    @Column(nullable = false)
+    @Getter
+    private LocalDateTime lockedAt;
+
+    @Comment("HTTP status of the response, null while the request is running")
+    @Getter
+    private Integer responseStatus;
+
+    @Getter
+    private String responseContentType;
+
+    @Column(length = 16 * 1024 * 1024)
+    @Getter
+    private byte[] responseBody;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Getter
+    private LocalDateTime createdAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    protected IdempotencyRecord() {
+    }
+
+    public IdempotencyRecord(String principal, String idempotencyKey, String fingerprint, LocalDateTime lockedAt) {
+        this.principal = principal;
+        this.idempotencyKey = idempotencyKey;
+        this.fingerprint = fingerprint;
+        this.lockedAt = lockedAt;
+    }
+
+    /**
+     * Whether the request that holds the key has finished.
+     */
+    public boolean isCompleted() {
+        return responseStatus != null;
+    }
+
+    public void complete(int status, String contentType, byte[] body) {
+        this.responseStatus = status;
+        this.responseContentType = contentType;
+        this.responseBody = body;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((id == null) ? 0 : id.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        IdempotencyRecord other = (IdempotencyRecord) obj;
+        if (id == null) {
+            if (other.id != null)
+                return false;
+        } else if (!id.equals(other.id))
+            return false;
+        return true;
+    }
+
+}
@@ -22,7 +22,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PostLoad;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -95,6 +97,19 @@ public class Match {
     @Setter
     private String season = "2025";
 
+    /**
+     * Season the match had when it was loaded, the one its performances were counted in.
+     */
+    @Transient
+    @Getter
+    private String loadedSeason;
+
+    @Comment("Fingerprint of the result last handed to the rankings, null while the match has none.")
+    @Column(name = "ranked_result", length = 64)
+    @Getter
+    @Setter
+    private String rankedResult;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     @Getter
@@ -115,6 +130,11 @@ public class Match {
         this.season = "2025";
     }
 
+    @PostLoad
+    void markSeasonLoaded() {
+        this.loadedSeason = season;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -11,6 +11,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import io.github.codenilson.lavava2025.entities.valueobjects.Roles;
+import io.github.codenilson.lavava2025.services.PlayerLeaderboardListener;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -36,7 +37,7 @@ import lombok.ToString;
  * @since 2025-01-01
  */
 @Entity
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({ AuditingEntityListener.class, PlayerLeaderboardListener.class })
 @ToString
 public class Player {
 
@@ -10,6 +10,8 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import io.github.codenilson.lavava2025.entities.valueobjects.PerformanceStats;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -18,7 +20,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.Setter;
@@ -95,6 +99,20 @@ public class PlayerPerformance {
     @Getter
     private LocalDateTime updatedAt;
 
+    /**
+     * Counters already added to the player's season stats, used to record only the
+     * difference when the performance is edited.
+     */
+    @Transient
+    private PerformanceStats recordedStats = PerformanceStats.ZERO;
+
+    /**
+     * Season the recorded counters were added to, null while it is the one the match
+     * was loaded with.
+     */
+    @Transient
+    private String recordedSeason;
+
     public PlayerPerformance() {
     }
 
@@ -104,6 +122,47 @@ public class PlayerPerformance {
         this.match = match;
     }
 
+    /**
+     * Counters changed since the performance was loaded or last recorded.
+     */
+    public PerformanceStats unrecordedStats() {
+        return PerformanceStats.of(this).minus(recordedStats);
+    }
+
+    /**
+     * Counters already added to the player's season stats.
+     */
+    public PerformanceStats recordedStats() {
+        return recordedStats;
+    }
+
+    /**
+     * Season whose stats hold the recorded counters. It differs from the season of the
+     * match once the match is moved to another season.
+     */
+    public String recordedSeason() {
+        if (recordedSeason != null) {
+            return recordedSeason;
+        }
+        return match.getLoadedSeason() != null ? match.getLoadedSeason() : match.getSeason();
+    }
+
+    /**
+     * Marks the current counters as added to the player's season stats.
+     */
+    @PostLoad
+    public void markStatsRecorded() {
+        this.recordedStats = PerformanceStats.of(this);
+    }
+
+    /**
+     * Marks the current counters as added to the stats of the given season.
+     */
+    public void markStatsRecorded(String season) {
+        markStatsRecorded();
+        this.recordedSeason = season;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -3,21 +3,27 @@ package io.github.codenilson.lavava2025.entities;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import io.github.codenilson.lavava2025.services.PlayerRankingIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -32,13 +38,29 @@ import lombok.ToString;
  * @since 2025-01-01
  */
 @Entity
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({ AuditingEntityListener.class, PlayerRankingIndexListener.class })
 @Table(name = "player_rankings", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"player_id", "season"})
+}, indexes = {
+    // Leaderboard order, so a keyset page or a position count is a single range scan of this index
+    @Index(columnList = "season, sort_key DESC, id")
 })
 @ToString(exclude = "player")
 public class PlayerRanking {
 
+    /**
+     * Points awarded for each match won.
+     */
+    public static final int POINTS_PER_WIN = 3;
+
+    /**
+     * Largest number of matches won that still orders rankings; more wins tie on it.
+     */
+    public static final int MAX_SORTED_MATCHES_WON = (1 << 18) - 1;
+
+    private static final long POINTS_UNIT = 1L << 32;
+    private static final long WIN_RATE_UNIT = 1L << 18;
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     @Getter
@@ -82,6 +104,19 @@ public class PlayerRanking {
     @Setter
     private String season = "2025";
 
+    @Comment("Leaderboard order packed in one value, see sortKeyOf")
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Getter
+    private Long sortKey = 0L;
+
+    @Comment("Incremented by every update of the row, so changes can be told apart in commit order")
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Getter
+    private Long version;
+
     @Comment("Timestamp of the last ranking update")
     @Column
     @Getter
@@ -128,7 +163,7 @@ public class PlayerRanking {
 
     /**
      * Records a match result for this player, updating statistics and points.
-     * For wins, adds 3 points to the total score.
+     * For wins, adds {@link #POINTS_PER_WIN} points to the total score.
      * 
      * @param won Whether the player won the match
      */
@@ -136,7 +171,7 @@ public class PlayerRanking {
         this.matchesPlayed++;
         if (won) {
             this.matchesWon++;
-            addPoints(3); // 3 points per win
+            addPoints(POINTS_PER_WIN);
         }
         updateWinRate();
         this.lastUpdated = LocalDateTime.now();
@@ -148,13 +183,78 @@ public class PlayerRanking {
      * If no matches have been played, win rate is set to 0.0.
      */
     private void updateWinRate() {
-        if (this.matchesPlayed > 0) {
-            double rawWinRate = (double) this.matchesWon / this.matchesPlayed;
+        this.winRate = winRateOf(this.matchesWon, this.matchesPlayed);
+    }
+
+    /**
+     * Keeps {@link #sortKey} in sync with the counters before every insert and update.
+     */
+    @PrePersist
+    @PreUpdate
+    void updateSortKey() {
+        this.sortKey = sortKeyOf(totalPoints, winRate, matchesWon);
+    }
+
+    /**
+     * Packs the leaderboard order (total points, then win rate, then matches won, all
+     * descending) in a single value, so one {@code (season, sort_key)} index serves every
+     * leaderboard read: the points take the high 32 bits, the win rate in basis points the
+     * next 14 and the matches won (capped at {@link #MAX_SORTED_MATCHES_WON}) the low 18.
+     * 
+     * @param totalPoints total points, may be negative
+     * @param winRate win rate (0.0 to 1.0)
+     * @param matchesWon matches won
+     * @return the sort key, higher is better
+     */
+    public static long sortKeyOf(int totalPoints, double winRate, int matchesWon) {
+        long basisPoints = Math.round(winRate * 10_000);
+        return totalPoints * POINTS_UNIT + basisPoints * WIN_RATE_UNIT
+                + Math.clamp(matchesWon, 0, MAX_SORTED_MATCHES_WON);
+    }
+
+    /**
+     * SQL form of {@link #sortKeyOf} over the given SQL expressions, for statements that
+     * write the counters directly.
+     * 
+     * @param totalPoints expression of the total points
+     * @param basisPoints expression of the win rate in basis points (0 to 10000)
+     * @param matchesWon expression of the matches won
+     * @return the SQL expression of the sort key
+     */
+    public static String sortKeySql(String totalPoints, String basisPoints, String matchesWon) {
+        return "CAST(" + totalPoints + " AS BIGINT) * " + POINTS_UNIT
+                + " + CAST(" + basisPoints + " AS BIGINT) * " + WIN_RATE_UNIT
+                + " + LEAST(GREATEST(" + matchesWon + ", 0), " + MAX_SORTED_MATCHES_WON + ")";
+    }
+
+    /**
+     * Win rate for the given statistics, rounded half up to 2 decimal places in integer
+     * arithmetic, so the SQL increments ({@link #winRatePercentSql}) get the same value:
+     * 29/200 is 0.15 in both, where rounding the double would give 0.14.
+     * 
+     * @param matchesWon matches won
+     * @param matchesPlayed matches played
+     * @return the win rate (0.0 to 1.0), 0.0 if no matches have been played
+     */
+    public static double winRateOf(int matchesWon, int matchesPlayed) {
+        if (matchesPlayed > 0) {
             // Arredondar para 2 casas decimais
-            this.winRate = Math.round(rawWinRate * 100.0) / 100.0;
-        } else {
-            this.winRate = 0.0;
+            long percent = (200L * matchesWon + matchesPlayed) / (2L * matchesPlayed);
+            return percent / 100.0;
         }
+        return 0.0;
+    }
+
+    /**
+     * SQL form of the rounding of {@link #winRateOf}: the win rate in whole percent, with
+     * integer division. Only valid when the matches played are positive.
+     * 
+     * @param matchesWon integer expression of the matches won
+     * @param matchesPlayed integer expression of the matches played, used twice
+     * @return the SQL expression of the win rate percent (0 to 100)
+     */
+    public static String winRatePercentSql(String matchesWon, String matchesPlayed) {
+        return "((200 * (" + matchesWon + ") + (" + matchesPlayed + ")) / (2 * (" + matchesPlayed + ")))";
     }
 
     @Override
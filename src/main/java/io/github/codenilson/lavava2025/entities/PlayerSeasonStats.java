@@ -0,0 +1,172 @@
+package io.github.codenilson.lavava2025.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Comment;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import io.github.codenilson.lavava2025.entities.valueobjects.PerformanceStats;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Per-season totals of a player's performances.
+ * The row is updated by delta every time one of the player's performances is
+ * created or edited, so ranking updates read a single row instead of every
+ * performance of the season.
+ *
+ * @author codenilson
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "player_season_stats", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"player_id", "season"})
+})
+@ToString(exclude = "player")
+public class PlayerSeasonStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Getter
+    @Setter
+    private UUID id;
+
+    @Comment("Player the totals belong to")
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id", nullable = false)
+    @Getter
+    @Setter
+    private Player player;
+
+    @Comment("Season identifier of the totals")
+    @Column(nullable = false)
+    @Getter
+    @Setter
+    private String season;
+
+    @Comment("Total aces of the player in the season")
+    @Column(nullable = false)
+    @Getter
+    private int aces = 0;
+
+    @Comment("Total kills of the player in the season")
+    @Column(nullable = false)
+    @Getter
+    private int kills = 0;
+
+    @Comment("Total deaths of the player in the season")
+    @Column(nullable = false)
+    @Getter
+    private int deaths = 0;
+
+    @Comment("Total assists of the player in the season")
+    @Column(nullable = false)
+    @Getter
+    private int assists = 0;
+
+    @Comment("Number of performances of the player in the season with counters filled in")
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Getter
+    private int matches = 0;
+
+    @Comment("Aces already converted into ranking points")
+    @Column(nullable = false)
+    @Getter
+    private int acesAwarded = 0;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    @Getter
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    @Getter
+    private LocalDateTime updatedAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    public PlayerSeasonStats() {
+    }
+
+    public PlayerSeasonStats(Player player, String season) {
+        this.player = player;
+        this.season = season;
+    }
+
+    /**
+     * Adds a difference of performance counters to the totals.
+     *
+     * @param delta counters to add (negative values when a performance was lowered)
+     */
+    public void apply(PerformanceStats delta) {
+        this.aces += delta.aces();
+        this.kills += delta.kills();
+        this.deaths += delta.deaths();
+        this.assists += delta.assists();
+        this.matches += delta.matches();
+    }
+
+    /**
+     * Current totals of the season.
+     */
+    public PerformanceStats totals() {
+        return new PerformanceStats(aces, kills, deaths, assists, matches);
+    }
+
+    /**
+     * Marks every ace of the season as converted into ranking points.
+     *
+     * @return aces not awarded yet (negative if aces were removed after being awarded)
+     */
+    public int awardPendingAces() {
+        int pending = this.aces - this.acesAwarded;
+        this.acesAwarded = this.aces;
+        return pending;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((id == null) ? 0 : id.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        PlayerSeasonStats other = (PlayerSeasonStats) obj;
+        if (id == null) {
+            if (other.id != null)
+                return false;
+        } else if (!id.equals(other.id))
+            return false;
+        return true;
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.codenilson.lavava2025.entities;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Comment;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Daily position and points of a ranking, stored as a single delta-encoded series.
+ *
+ * Every entry holds the days since the previous entry and the change of position and
+ * points, as zig-zag varints, so a day usually takes three bytes. The last entry is kept
+ * in plain columns to append the next one without decoding the series. Days on which
+ * neither the position nor the points changed are not stored.
+ *
+ * @author codenilson
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "rank_history", indexes = {
+    @Index(columnList = "season")
+})
+@ToString(exclude = "data")
+public class RankHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Getter
+    private UUID id;
+
+    @Comment("Ranking the series belongs to")
+    @Column(name = "ranking_id", nullable = false, unique = true, updatable = false)
+    @Getter
+    private UUID rankingId;
+
+    @Comment("Season of the ranking")
+    @Column(nullable = false, updatable = false)
+    @Getter
+    private String season;
+
+    @Comment("Date the deltas of the first entry are relative to")
+    @Column(nullable = false, updatable = false)
+    @Getter
+    private LocalDate startDate;
+
+    @Comment("Date of the last entry")
+    @Getter
+    private LocalDate lastDate;
+
+    @Comment("Position of the last entry")
+    @Column(nullable = false)
+    @Getter
+    private long lastPosition;
+
+    @Comment("Points of the last entry")
+    @Column(nullable = false)
+    @Getter
+    private int lastPoints;
+
+    @Comment("Number of entries in the series")
+    @Column(nullable = false)
+    @Getter
+    private int entries;
+
+    @Comment("Delta-encoded entries")
+    @Column(nullable = false, length = 65536)
+    @Getter
+    private byte[] data = new byte[0];
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    @Getter
+    private LocalDateTime updatedAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    protected RankHistory() {
+    }
+
+    public RankHistory(UUID rankingId, String season, LocalDate startDate) {
+        this.rankingId = rankingId;
+        this.season = season;
+        this.startDate = startDate;
+    }
+
+    /**
+     * Replaces the series with one more entry appended.
+     *
+     * @param data the encoded series, including the new entry
+     */
+    public void append(byte[] data, LocalDate date, long position, int points) {
+        this.data = data;
+        this.lastDate = date;
+        this.lastPosition = position;
+        this.lastPoints = points;
+        this.entries++;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((id == null) ? 0 : id.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        RankHistory other = (RankHistory) obj;
+        if (id == null) {
+            if (other.id != null)
+                return false;
+        } else if (!id.equals(other.id))
+            return false;
+        return true;
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.codenilson.lavava2025.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Comment;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import io.github.codenilson.lavava2025.entities.valueobjects.RankingEventReason;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Append-only record of a change to a player's ranking.
+ * A {@link PlayerRanking} is the sum of the events of its player and season, so the
+ * ledger explains every point and can rebuild the rankings of a season.
+ * Events are never updated; a match can produce each reason only once per player and
+ * revision. A correction of a match result is recorded under a new revision, as events
+ * that reverse the part of the old contribution that no longer holds and events for the
+ * new part.
+ *
+ * @author codenilson
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "ranking_events", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"player_id", "match_id", "reason", "revision"})
+}, indexes = {
+    @Index(columnList = "season, player_id"),
+    @Index(columnList = "match_id")
+})
+@ToString(exclude = "player")
+public class RankingEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Getter
+    private UUID id;
+
+    @Comment("Player whose ranking changed")
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id", nullable = false, updatable = false)
+    @Getter
+    private Player player;
+
+    @Comment("Season of the changed ranking")
+    @Column(nullable = false, updatable = false)
+    @Getter
+    private String season;
+
+    @Comment("Match that caused the change, null for changes made outside a match")
+    @Column(name = "match_id", updatable = false)
+    @Getter
+    private UUID matchId;
+
+    @Comment("Why the ranking changed")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    @Getter
+    private RankingEventReason reason;
+
+    @Comment("Points added to the ranking (negative to remove points)")
+    @Column(nullable = false, updatable = false)
+    @Getter
+    private int deltaPoints;
+
+    @Comment("Matches played added to the ranking")
+    @Column(nullable = false, updatable = false)
+    @Getter
+    private int deltaPlayed;
+
+    @Comment("Matches won added to the ranking")
+    @Column(nullable = false, updatable = false)
+    @Getter
+    private int deltaWon;
+
+    @Comment("Revision of the match result that produced the event, 0 for its first application")
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    @Getter
+    private int revision;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    @Getter
+    private LocalDateTime createdAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    protected RankingEvent() {
+    }
+
+    public RankingEvent(Player player, String season, UUID matchId, RankingEventReason reason, int deltaPoints,
+            int deltaPlayed, int deltaWon) {
+        this(player, season, matchId, reason, deltaPoints, deltaPlayed, deltaWon, 0);
+    }
+
+    public RankingEvent(Player player, String season, UUID matchId, RankingEventReason reason, int deltaPoints,
+            int deltaPlayed, int deltaWon, int revision) {
+        this.player = player;
+        this.season = season;
+        this.matchId = matchId;
+        this.reason = reason;
+        this.deltaPoints = deltaPoints;
+        this.deltaPlayed = deltaPlayed;
+        this.deltaWon = deltaWon;
+        this.revision = revision;
+    }
+
+    /**
+     * A win or a loss: one match played and, for a win, {@link PlayerRanking#POINTS_PER_WIN} points.
+     */
+    public static RankingEvent matchResult(Player player, String season, UUID matchId, boolean won) {
+        return matchResult(player, season, matchId, won, won ? PlayerRanking.POINTS_PER_WIN : 0);
+    }
+
+    /**
+     * A win or a loss worth the given points, as decided by the scoring of the season.
+     */
+    public static RankingEvent matchResult(Player player, String season, UUID matchId, boolean won, int points) {
+        return won
+                ? new RankingEvent(player, season, matchId, RankingEventReason.WIN, points, 1, 1)
+                : new RankingEvent(player, season, matchId, RankingEventReason.LOSS, points, 1, 0);
+    }
+
+    /**
+     * Points that do not count as a match played (MVP, ace, admin bonus).
+     */
+    public static RankingEvent bonus(Player player, String season, UUID matchId, RankingEventReason reason,
+            int points) {
+        return new RankingEvent(player, season, matchId, reason, points, 0, 0);
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((id == null) ? 0 : id.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        RankingEvent other = (RankingEvent) obj;
+        if (id == null) {
+            if (other.id != null)
+                return false;
+        } else if (!id.equals(other.id))
+            return false;
+        return true;
+    }
+}
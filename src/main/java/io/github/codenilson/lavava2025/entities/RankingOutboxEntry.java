@@ -0,0 +1,125 @@
+package io.github.codenilson.lavava2025.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Comment;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Match result waiting to be applied to the rankings.
+ * Entries are written in the same transaction as the match and drained by the ranking
+ * outbox worker, so a saved match result is never lost and never applied while the
+ * match transaction can still roll back.
+ *
+ * @author codenilson
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "ranking_outbox", indexes = {
+    @Index(columnList = "processed_at, created_at")
+})
+@ToString
+public class RankingOutboxEntry {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Getter
+    private UUID id;
+
+    @Comment("Match whose result is waiting to be applied")
+    @Column(name = "match_id", nullable = false, updatable = false)
+    @Getter
+    private UUID matchId;
+
+    @Comment("Match result serialized as JSON")
+    @Column(nullable = false, updatable = false, length = 4000)
+    @Getter
+    private String payload;
+
+    @Comment("Number of failed attempts to apply the entry")
+    @Column(nullable = false)
+    @Getter
+    private int attempts;
+
+    @Comment("Error of the last failed attempt")
+    @Column(length = MAX_ERROR_LENGTH)
+    @Getter
+    private String lastError;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Getter
+    private LocalDateTime createdAt;
+
+    @Comment("When the result was applied, null while pending")
+    @Column(name = "processed_at")
+    @Getter
+    private LocalDateTime processedAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    protected RankingOutboxEntry() {
+    }
+
+    public RankingOutboxEntry(UUID matchId, String payload) {
+        this.matchId = matchId;
+        this.payload = payload;
+    }
+
+    public void markProcessed(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+
+    /**
+     * Records a failed attempt to apply the entry.
+     */
+    public void recordFailure(String error) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((id == null) ? 0 : id.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        RankingOutboxEntry other = (RankingOutboxEntry) obj;
+        if (id == null) {
+            if (other.id != null)
+                return false;
+        } else if (!id.equals(other.id))
+            return false;
+        return true;
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.codenilson.lavava2025.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Comment;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import io.github.codenilson.lavava2025.entities.valueobjects.PercentileMetric;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Persisted quantile sketch of one metric in one season, so percentiles survive a
+ * restart without reading every ranking and performance of the season again.
+ *
+ * @author codenilson
+ * @version 1.0
+ * @since 2025-01-01
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "season_metric_sketches", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"season", "metric"})
+})
+@ToString(exclude = "data")
+public class SeasonMetricSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Getter
+    private UUID id;
+
+    @Comment("Season of the sketched values")
+    @Column(nullable = false)
+    @Getter
+    private String season;
+
+    @Comment("Metric of the sketched values")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Getter
+    private PercentileMetric metric;
+
+    @Comment("Encoded sketch buckets")
+    @Column(nullable = false, length = 65536)
+    @Getter
+    private byte[] data;
+
+    @Comment("Number of values in the sketch")
+    @Column(name = "sample_count", nullable = false)
+    @Getter
+    private long sampleCount;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    @Getter
+    private LocalDateTime updatedAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    protected SeasonMetricSketch() {
+    }
+
+    public SeasonMetricSketch(String season, PercentileMetric metric) {
+        this.season = season;
+        this.metric = metric;
+    }
+
+    public void update(byte[] data, long sampleCount) {
+        this.data = data;
+        this.sampleCount = sampleCount;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((id == null) ? 0 : id.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        SeasonMetricSketch other = (SeasonMetricSketch) obj;
+        if (id == null) {
+            if (other.id != null)
+                return false;
+        } else if (!id.equals(other.id))
+            return false;
+        return true;
+    }
+}
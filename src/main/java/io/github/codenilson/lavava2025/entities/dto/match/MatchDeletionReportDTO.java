@@ -0,0 +1,21 @@
+package io.github.codenilson.lavava2025.entities.dto.match;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de uma remoção de partidas em massa.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchDeletionReportDTO {
+
+    private int matchesDeleted;
+
+    /** Transações executadas, uma por lote de partidas */
+    private int chunks;
+
+    private long elapsedMillis;
+}
@@ -0,0 +1,30 @@
+package io.github.codenilson.lavava2025.entities.dto.match;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filtros da remoção de partidas em massa. Campos nulos não filtram, mas ao menos um
+ * deve ser informado; os filtros informados são combinados.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchDeletionRequestDTO {
+
+    private String season;
+
+    // createdAt >= from
+    private LocalDateTime from;
+
+    // createdAt < to
+    private LocalDateTime to;
+
+    // apenas estas partidas
+    private List<UUID> ids;
+}
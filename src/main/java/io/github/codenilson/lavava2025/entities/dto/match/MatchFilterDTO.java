@@ -0,0 +1,34 @@
+package io.github.codenilson.lavava2025.entities.dto.match;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filtros opcionais da listagem de partidas. Campos nulos não filtram.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchFilterDTO {
+
+    private String season;
+
+    private UUID mapId;
+
+    // jogador de qualquer um dos times
+    private UUID playerId;
+
+    // createdAt >= from
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    // createdAt < to
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+}
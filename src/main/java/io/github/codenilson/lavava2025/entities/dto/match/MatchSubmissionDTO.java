@@ -0,0 +1,70 @@
+package io.github.codenilson.lavava2025.entities.dto.match;
+
+import java.util.List;
+
+import io.github.codenilson.lavava2025.entities.dto.playerperformance.PlayerPerformanceUpdateDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO for submitting a finished match at once: map, both rosters with stats and the result")
+public class MatchSubmissionDTO {
+
+    @NotBlank(message = "Map name is required")
+    @Schema(description = "Name of the map", example = "Ascent")
+    private String mapName;
+
+    @Schema(description = "Season of the match, the default season when absent", example = "2025")
+    private String season;
+
+    @NotNull(message = "Winner team is required")
+    @Valid
+    @Schema(description = "Roster and stats of the winning team")
+    private TeamSubmission winner;
+
+    @NotNull(message = "Loser team is required")
+    @Valid
+    @Schema(description = "Roster and stats of the losing team")
+    private TeamSubmission loser;
+
+    @Schema(description = "Username of the match MVP, from the winning team", example = "john_doe")
+    private String mvpUsername;
+
+    @Schema(description = "Username of the loser MVP, from the losing team", example = "jane_doe")
+    private String loserMvpUsername;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Roster of one team within a match submission")
+    public static class TeamSubmission {
+
+        @NotEmpty(message = "Team players list cannot be empty")
+        @Valid
+        @Schema(description = "Players of the team with their stats")
+        private List<PlayerSubmission> players;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Player and stats within a team submission")
+    public static class PlayerSubmission {
+
+        @NotBlank(message = "Player username is required")
+        @Schema(description = "Player username", example = "john_doe")
+        private String playerUsername;
+
+        @Valid
+        @Schema(description = "Performance statistics of the player")
+        private PlayerPerformanceUpdateDTO stats;
+    }
+}
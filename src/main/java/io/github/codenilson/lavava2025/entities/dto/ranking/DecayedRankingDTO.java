@@ -0,0 +1,31 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row of the decayed leaderboard, where the points of a player lose weight with the
+ * time since their last ranking update.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DecayedRankingDTO {
+
+    private Long position;
+
+    private UUID playerId;
+
+    private String playerUsername;
+
+    private Integer totalPoints;
+
+    /** Total points weighted by the decay factor of the days since the last update */
+    private Double decayedPoints;
+
+    private LocalDateTime lastUpdated;
+}
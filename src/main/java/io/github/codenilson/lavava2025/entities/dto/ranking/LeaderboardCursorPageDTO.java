@@ -0,0 +1,27 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of a leaderboard read with keyset pagination.
+ *
+ * {@code nextCursor} is null on the last page. {@code totalElements} is only filled
+ * when the count was requested, since it costs an extra query.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LeaderboardCursorPageDTO {
+
+    private List<PlayerRankingResponseDTO> content;
+
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    private Long totalElements;
+}
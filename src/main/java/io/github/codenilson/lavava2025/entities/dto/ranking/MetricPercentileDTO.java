@@ -0,0 +1,28 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import io.github.codenilson.lavava2025.entities.valueobjects.PercentileMetric;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Where a player's value of a metric stands among the players of the season.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MetricPercentileDTO {
+
+    private PercentileMetric metric;
+
+    private double value;
+
+    /** Estimated percentage of players below the value */
+    private double percentile;
+
+    /** Estimated percentage of players at or above the value, e.g. 5 for "top 5%" */
+    private double topPercent;
+
+    /** Players in the distribution */
+    private long sampleSize;
+}
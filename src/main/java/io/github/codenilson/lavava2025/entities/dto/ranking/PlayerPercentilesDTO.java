@@ -0,0 +1,23 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Percentiles of a player in every metric the player has in a season.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PlayerPercentilesDTO {
+
+    private UUID playerId;
+
+    private String season;
+
+    private List<MetricPercentileDTO> metrics;
+}
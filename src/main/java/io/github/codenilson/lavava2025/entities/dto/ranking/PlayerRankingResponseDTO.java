@@ -55,4 +55,24 @@ public class PlayerRankingResponseDTO {
         this(ranking);
         this.position = position;
     }
+
+    /**
+     * Constructor used by JPQL constructor expressions so leaderboard rows and
+     * their positions can be read in a single query without hydrating entities.
+     */
+    public PlayerRankingResponseDTO(UUID id, UUID playerId, String playerUsername, Integer totalPoints,
+            Integer matchesWon, Integer matchesPlayed, Double winRate, String season, Long position,
+            LocalDateTime lastUpdated, LocalDateTime createdAt) {
+        this.id = id;
+        this.playerId = playerId;
+        this.playerUsername = playerUsername;
+        this.totalPoints = totalPoints;
+        this.matchesWon = matchesWon;
+        this.matchesPlayed = matchesPlayed;
+        this.winRate = winRate;
+        this.season = season;
+        this.position = position;
+        this.lastUpdated = lastUpdated;
+        this.createdAt = createdAt;
+    }
 }
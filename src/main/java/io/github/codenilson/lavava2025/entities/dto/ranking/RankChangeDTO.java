@@ -0,0 +1,25 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change of the leaderboard position of a player, pushed to leaderboard subscribers.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankChangeDTO {
+
+    private UUID playerId;
+
+    /** Position before the change, null for a new ranking */
+    private Long oldPosition;
+
+    private Long newPosition;
+
+    private Integer points;
+}
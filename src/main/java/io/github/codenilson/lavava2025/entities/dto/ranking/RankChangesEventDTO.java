@@ -0,0 +1,21 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Position changes of a season gathered over one debounce window, sent as one
+ * server-sent event.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankChangesEventDTO {
+
+    private String season;
+
+    private List<RankChangeDTO> changes;
+}
@@ -0,0 +1,37 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Daily leaderboard position and points of a player in a season. Days on which neither
+ * changed are omitted: a point holds until the next one.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankHistoryDTO {
+
+    private UUID playerId;
+
+    private String season;
+
+    private List<Point> points;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Point {
+
+        private LocalDate date;
+
+        private long position;
+
+        private int points;
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A ranking whose counters differ from the ones derived from the recorded matches and
+ * performances.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankingDriftDTO {
+
+    private UUID playerId;
+
+    private String season;
+
+    /** Null when the points of the season depend on the order of the matches (ELO) */
+    private Integer expectedPoints;
+
+    private Integer actualPoints;
+
+    private Integer expectedMatchesPlayed;
+
+    private Integer actualMatchesPlayed;
+
+    private Integer expectedMatchesWon;
+
+    private Integer actualMatchesWon;
+}
@@ -0,0 +1,46 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import io.github.codenilson.lavava2025.entities.RankingEvent;
+import io.github.codenilson.lavava2025.entities.valueobjects.RankingEventReason;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An entry of the ranking ledger of a player.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankingEventResponseDTO {
+
+    private UUID id;
+
+    private String season;
+
+    private UUID matchId;
+
+    private RankingEventReason reason;
+
+    private int deltaPoints;
+
+    private int deltaPlayed;
+
+    private int deltaWon;
+
+    private LocalDateTime createdAt;
+
+    public RankingEventResponseDTO(RankingEvent event) {
+        this.id = event.getId();
+        this.season = event.getSeason();
+        this.matchId = event.getMatchId();
+        this.reason = event.getReason();
+        this.deltaPoints = event.getDeltaPoints();
+        this.deltaPlayed = event.getDeltaPlayed();
+        this.deltaWon = event.getDeltaWon();
+        this.createdAt = event.getCreatedAt();
+    }
+}
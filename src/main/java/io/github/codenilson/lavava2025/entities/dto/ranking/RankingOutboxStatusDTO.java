@@ -0,0 +1,37 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State and lag of the ranking outbox.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankingOutboxStatusDTO {
+
+    private boolean enabled;
+
+    /** Entries waiting to be applied */
+    private long pending;
+
+    /** Entries that failed too many times and are no longer retried */
+    private long failed;
+
+    /** Age of the oldest pending entry, 0 when the outbox is empty */
+    private long lagMillis;
+
+    /** Entries applied since the application started */
+    private long appliedTotal;
+
+    /** Entries applied by the last batch */
+    private int lastBatchSize;
+
+    /** Time between the creation of the oldest entry of the last batch and its application */
+    private long lastBatchLagMillis;
+
+    /** Time spent applying the last batch */
+    private long lastBatchMillis;
+}
@@ -0,0 +1,26 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of the ranking recalculation that is running (or of the last one).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankingRecalculationProgressDTO {
+
+    private boolean running;
+
+    private int seasonsTotal;
+
+    private int seasonsDone;
+
+    private long rowsRead;
+
+    private long elapsedMillis;
+
+    private double rowsPerSecond;
+}
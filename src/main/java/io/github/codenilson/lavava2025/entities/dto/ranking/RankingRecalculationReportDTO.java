@@ -0,0 +1,48 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Summary of a full ranking recalculation, with the result of every season
+ * and the overall read throughput.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankingRecalculationReportDTO {
+
+    private List<SeasonReport> seasons;
+
+    /** Match participations, MVPs and performances read in total */
+    private long rowsRead;
+
+    private int rankingsWritten;
+
+    private long elapsedMillis;
+
+    private double rowsPerSecond;
+
+    /**
+     * Result of the recalculation of one season.
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class SeasonReport {
+
+        private String season;
+
+        private long rowsRead;
+
+        /** Players with a ranking in the season after the recalculation */
+        private int players;
+
+        private int rankingsWritten;
+
+        private long elapsedMillis;
+    }
+}
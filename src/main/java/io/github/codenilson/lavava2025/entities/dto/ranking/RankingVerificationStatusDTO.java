@@ -0,0 +1,49 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of the background ranking consistency verifier and the drift it found.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankingVerificationStatusDTO {
+
+    private boolean enabled;
+
+    private boolean running;
+
+    /** Runs completed since the application started */
+    private long runs;
+
+    private LocalDateTime lastRunStartedAt;
+
+    private long lastRunMillis;
+
+    /** Rankings compared with their matches by the last run */
+    private long lastRunChecked;
+
+    /** Rankings skipped by the last run because their checksum did not change */
+    private long lastRunSkipped;
+
+    /** Rankings found drifted by the last run */
+    private long lastRunDrifted;
+
+    /** Rankings compared since the application started */
+    private long checkedTotal;
+
+    /** Rankings skipped since the application started */
+    private long skippedTotal;
+
+    /** Drifted rankings found since the application started */
+    private long driftedTotal;
+
+    /** Drifted rankings of the last run, at most {@code ranking.verifier.max-reported-drifts} */
+    private List<RankingDriftDTO> drifts;
+}
@@ -0,0 +1,22 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a set-based operation on the rankings of a season, such as an archival
+ * or a rollover.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeasonOperationReportDTO {
+
+    private String season;
+
+    /** Rankings archived, deleted or created */
+    private int rowsAffected;
+
+    private long elapsedMillis;
+}
@@ -0,0 +1,29 @@
+package io.github.codenilson.lavava2025.entities.dto.ranking;
+
+import java.util.Map;
+
+import io.github.codenilson.lavava2025.entities.valueobjects.PercentileMetric;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Estimated values of a metric at the requested quantiles of a season.
+ *
+ * Values are keyed by percentile, e.g. {@code p95}, and are null when no player has
+ * the metric yet.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeasonPercentilesDTO {
+
+    private String season;
+
+    private PercentileMetric metric;
+
+    /** Players in the distribution */
+    private long sampleSize;
+
+    private Map<String, Double> values;
+}
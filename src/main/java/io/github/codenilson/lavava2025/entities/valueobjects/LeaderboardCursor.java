@@ -0,0 +1,57 @@
+package io.github.codenilson.lavava2025.entities.valueobjects;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+
+/**
+ * Position of the last row of a leaderboard page, used to read the next page with
+ * a keyset seek instead of an OFFSET scan.
+ *
+ * The cursor holds both columns of the leaderboard order (the packed sort key,
+ * descending, then the ranking id), so the next page starts exactly after the last row
+ * seen even if other rankings move in between. It travels as an opaque URL-safe string.
+ *
+ * @param sortKey sort key of the last row, see {@link PlayerRanking#sortKeyOf}
+ * @param rankingId ranking id of the last row
+ */
+public record LeaderboardCursor(long sortKey, UUID rankingId) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encodes the cursor as an opaque URL-safe string.
+     */
+    public String encode() {
+        String raw = sortKey + SEPARATOR + rankingId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode()}.
+     *
+     * @param cursor the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static LeaderboardCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length == 4) {
+                // Cursors issued before the sort key: points, win rate and matches won
+                return new LeaderboardCursor(PlayerRanking.sortKeyOf(Integer.parseInt(parts[0]),
+                        Double.parseDouble(parts[1]), Integer.parseInt(parts[2])), UUID.fromString(parts[3]));
+            }
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid leaderboard cursor: " + cursor);
+            }
+            return new LeaderboardCursor(Long.parseLong(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException too
+            throw new IllegalArgumentException("Invalid leaderboard cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.codenilson.lavava2025.entities.valueobjects;
+
+/**
+ * File formats of a leaderboard export.
+ */
+public enum LeaderboardExportFormat {
+    /** Comma-separated values with a header row */
+    CSV("text/csv", "csv"),
+    /** One JSON object per line */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    LeaderboardExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
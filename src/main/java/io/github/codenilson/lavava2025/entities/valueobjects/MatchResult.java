@@ -0,0 +1,87 @@
+package io.github.codenilson.lavava2025.entities.valueobjects;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import io.github.codenilson.lavava2025.entities.Match;
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.PlayerPerformance;
+import io.github.codenilson.lavava2025.entities.Team;
+
+/**
+ * Outcome of a finished match, as needed to update the rankings of its players.
+ *
+ * @param matchId id of the match, used to apply only what changed since the result recorded for it
+ *        (null if unknown)
+ * @param season season the match counts for
+ * @param winnerIds ids of the players of the winning team
+ * @param loserIds ids of the players of the losing team
+ * @param mvpId id of the MVP player, or null
+ * @param loserMvpId id of the MVP player of the losing team, or null
+ */
+public record MatchResult(UUID matchId, String season, List<UUID> winnerIds, List<UUID> loserIds, UUID mvpId,
+        UUID loserMvpId) {
+
+    /**
+     * Builds the result of a match that already has a winner and a loser.
+     */
+    public static MatchResult of(Match match) {
+        return new MatchResult(match.getId(), match.getSeason(), playerIds(match.getWinner()),
+                playerIds(match.getLoser()), playerId(match.getMvp()), playerId(match.getLoserMvp()));
+    }
+
+    /**
+     * The result of a match that no longer has a winner and a loser: applying it takes back
+     * whatever the match had contributed to the rankings.
+     */
+    public static MatchResult withdrawn(UUID matchId, String season) {
+        return new MatchResult(matchId, season, List.of(), List.of(), null, null);
+    }
+
+    /**
+     * Hash of the season, teams and MVPs, independent of the order of the players. Two
+     * results with the same fingerprint contribute the same to the rankings.
+     */
+    public String fingerprint() {
+        String canonical = season + "|" + sorted(winnerIds) + "|" + sorted(loserIds) + "|" + mvpId + "|" + loserMvpId;
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Ids of every player involved in the match, winners first.
+     */
+    public Set<UUID> playerIds() {
+        Set<UUID> playerIds = new LinkedHashSet<>(winnerIds);
+        playerIds.addAll(loserIds);
+        if (mvpId != null) {
+            playerIds.add(mvpId);
+        }
+        if (loserMvpId != null) {
+            playerIds.add(loserMvpId);
+        }
+        return playerIds;
+    }
+
+    private static List<UUID> sorted(List<UUID> ids) {
+        return ids.stream().sorted().toList();
+    }
+
+    private static List<UUID> playerIds(Team team) {
+        return team.getPlayers().stream().map(Player::getId).toList();
+    }
+
+    private static UUID playerId(PlayerPerformance performance) {
+        return performance != null ? performance.getPlayer().getId() : null;
+    }
+}
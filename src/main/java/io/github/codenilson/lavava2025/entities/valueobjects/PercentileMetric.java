@@ -0,0 +1,43 @@
+package io.github.codenilson.lavava2025.entities.valueobjects;
+
+import java.util.List;
+
+/**
+ * Per-player values of a season whose distribution is kept in a quantile sketch.
+ *
+ * {@link #POINTS} counts every player with a played match in the season; the other
+ * metrics come from the season totals of the players with at least one filled-in
+ * performance.
+ */
+public enum PercentileMetric {
+    /** Total ranking points */
+    POINTS,
+    /** Average kills per match */
+    KILLS_PER_MATCH,
+    /** Kills divided by deaths (kills alone when there are no deaths) */
+    KD_RATIO,
+    /** Total aces */
+    ACES,
+    /** Total assists */
+    ASSISTS;
+
+    /**
+     * Metrics derived from the season totals of a player.
+     */
+    public static final List<PercentileMetric> STATS = List.of(KILLS_PER_MATCH, KD_RATIO, ACES, ASSISTS);
+
+    /**
+     * Value of a metric derived from season totals.
+     *
+     * @throws IllegalStateException for {@link #POINTS}
+     */
+    public double valueOf(PerformanceStats totals) {
+        return switch (this) {
+            case KILLS_PER_MATCH -> totals.matches() > 0 ? (double) totals.kills() / totals.matches() : 0.0;
+            case KD_RATIO -> (double) totals.kills() / Math.max(1, totals.deaths());
+            case ACES -> totals.aces();
+            case ASSISTS -> totals.assists();
+            case POINTS -> throw new IllegalStateException("Points are not derived from season totals");
+        };
+    }
+}
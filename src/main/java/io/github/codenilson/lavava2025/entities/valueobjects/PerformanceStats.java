@@ -0,0 +1,48 @@
+package io.github.codenilson.lavava2025.entities.valueobjects;
+
+import io.github.codenilson.lavava2025.entities.PlayerPerformance;
+
+/**
+ * Counters of a performance that are aggregated per player and season.
+ * Missing kills, deaths or assists are counted as zero.
+ *
+ * @param aces number of aces
+ * @param kills number of kills
+ * @param deaths number of deaths
+ * @param assists number of assists
+ * @param matches number of performances with any counter filled in (0 or 1 for a single performance)
+ */
+public record PerformanceStats(int aces, int kills, int deaths, int assists, int matches) {
+
+    public static final PerformanceStats ZERO = new PerformanceStats(0, 0, 0, 0, 0);
+
+    public static PerformanceStats of(PlayerPerformance performance) {
+        return of(performance.getAce(), valueOf(performance.getKills()), valueOf(performance.getDeaths()),
+                valueOf(performance.getAssists()));
+    }
+
+    /**
+     * Counters of a single performance. A performance whose counters are all zero (such
+     * as the ones created along with a team) does not count as a match yet.
+     */
+    public static PerformanceStats of(int aces, int kills, int deaths, int assists) {
+        boolean filledIn = aces != 0 || kills != 0 || deaths != 0 || assists != 0;
+        return new PerformanceStats(aces, kills, deaths, assists, filledIn ? 1 : 0);
+    }
+
+    /**
+     * Difference between these counters and the given ones.
+     */
+    public PerformanceStats minus(PerformanceStats other) {
+        return new PerformanceStats(aces - other.aces, kills - other.kills, deaths - other.deaths,
+                assists - other.assists, matches - other.matches);
+    }
+
+    public boolean isZero() {
+        return equals(ZERO);
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.codenilson.lavava2025.entities.valueobjects;
+
+/**
+ * Why a ranking event changed a player's ranking.
+ */
+public enum RankingEventReason {
+    WIN,
+    LOSS,
+    MVP,
+    LOSER_MVP,
+    ACE,
+    ADMIN_BONUS,
+    /** Counters a ranking already had when the ledger was introduced */
+    OPENING_BALANCE;
+}
@@ -0,0 +1,75 @@
+package io.github.codenilson.lavava2025.entities.valueobjects;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+
+/**
+ * Immutable snapshot of the fields that decide a ranking's position.
+ * Rankings are ordered by total points, then win rate, then matches won (all descending),
+ * compared through the same packed sort key the database orders by
+ * ({@link PlayerRanking#sortKeyOf}); the ranking id is only used to keep the order total
+ * when scores tie.
+ *
+ * @param rankingId the ranking row identifier
+ * @param totalPoints total points of the ranking
+ * @param winRate win rate of the ranking (0.0 to 1.0)
+ * @param matchesWon matches won in the season
+ * @param version version of the ranking row the score was read from; a score is never
+ *        replaced by one of an older version
+ */
+public record RankingScore(UUID rankingId, Integer totalPoints, Double winRate, Integer matchesWon, long version) {
+
+    /**
+     * Tie-break used by every leaderboard: best score first, ties share a position.
+     */
+    public static final Comparator<RankingScore> BY_SCORE = Comparator
+            .comparingLong(RankingScore::sortKey).reversed();
+
+    /**
+     * Total order over rankings: {@link #BY_SCORE} followed by the ranking id.
+     */
+    public static final Comparator<RankingScore> BY_SCORE_THEN_ID = BY_SCORE
+            .thenComparing(RankingScore::rankingId);
+
+    /**
+     * A score that is only compared with others, not read from a stored ranking.
+     */
+    public RankingScore(UUID rankingId, Integer totalPoints, Double winRate, Integer matchesWon) {
+        this(rankingId, totalPoints, winRate, matchesWon, 0L);
+    }
+
+    public static RankingScore of(PlayerRanking ranking) {
+        return new RankingScore(ranking.getId(), ranking.getTotalPoints(), ranking.getWinRate(),
+                ranking.getMatchesWon(), ranking.getVersion() == null ? 0L : ranking.getVersion());
+    }
+
+    /**
+     * Whether this score was read from an older version of the ranking than the other one.
+     */
+    public boolean isOlderThan(RankingScore other) {
+        return version < other.version;
+    }
+
+    /**
+     * The packed leaderboard order of this score, higher is better.
+     */
+    public long sortKey() {
+        return PlayerRanking.sortKeyOf(totalPoints, winRate, matchesWon);
+    }
+
+    /**
+     * Whether this score is ranked strictly above the other one.
+     */
+    public boolean beats(RankingScore other) {
+        return BY_SCORE.compare(this, other) < 0;
+    }
+
+    /**
+     * Whether both scores share the same position on the leaderboard.
+     */
+    public boolean tiesWith(RankingScore other) {
+        return BY_SCORE.compare(this, other) == 0;
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.codenilson.lavava2025.entities.valueobjects;
+
+/**
+ * How match results are turned into ranking points in a season.
+ */
+public enum ScoringMode {
+    /** Fixed points per win, plus MVP and ace bonuses */
+    FLAT,
+    /** Elo rating updated from the average rating of each team */
+    ELO;
+}
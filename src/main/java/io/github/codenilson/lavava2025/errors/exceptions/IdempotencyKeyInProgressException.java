@@ -0,0 +1,11 @@
+package io.github.codenilson.lavava2025.errors.exceptions;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public IdempotencyKeyInProgressException() {
+        super("A request with this Idempotency-Key is still being processed.");
+    }
+
+}
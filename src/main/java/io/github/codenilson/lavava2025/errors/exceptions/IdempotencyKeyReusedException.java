@@ -0,0 +1,11 @@
+package io.github.codenilson.lavava2025.errors.exceptions;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public IdempotencyKeyReusedException() {
+        super("This Idempotency-Key was already used with a different request.");
+    }
+
+}
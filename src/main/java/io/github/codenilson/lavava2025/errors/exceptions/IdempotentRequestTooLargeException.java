@@ -0,0 +1,11 @@
+package io.github.codenilson.lavava2025.errors.exceptions;
+
+public class IdempotentRequestTooLargeException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public IdempotentRequestTooLargeException(int maxBytes) {
+        super("Requests with an Idempotency-Key must not have a body larger than " + maxBytes + " bytes.");
+    }
+
+}
@@ -0,0 +1,11 @@
+package io.github.codenilson.lavava2025.errors.exceptions;
+
+public class MatchDeletionInProgressException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public MatchDeletionInProgressException() {
+        super("A bulk match deletion is already running.");
+    }
+
+}
@@ -0,0 +1,11 @@
+package io.github.codenilson.lavava2025.errors.exceptions;
+
+public class RecalculationInProgressException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public RecalculationInProgressException() {
+        super("A ranking recalculation is already running.");
+    }
+
+}
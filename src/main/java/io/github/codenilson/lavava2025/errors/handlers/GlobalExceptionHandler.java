@@ -14,6 +14,11 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import io.github.codenilson.lavava2025.errors.exceptions.IdempotencyKeyInProgressException;
+import io.github.codenilson.lavava2025.errors.exceptions.IdempotencyKeyReusedException;
+import io.github.codenilson.lavava2025.errors.exceptions.IdempotentRequestTooLargeException;
+import io.github.codenilson.lavava2025.errors.exceptions.MatchDeletionInProgressException;
+import io.github.codenilson.lavava2025.errors.exceptions.RecalculationInProgressException;
 import io.github.codenilson.lavava2025.errors.exceptions.UsernameAlreadyExistsException;
 import jakarta.persistence.EntityNotFoundException;
 
@@ -69,6 +74,61 @@ public class GlobalExceptionHandler {
                 .body(response);
     }
 
+    @ExceptionHandler(RecalculationInProgressException.class)
+    public ResponseEntity<Object> handleRecalculationInProgressException(RecalculationInProgressException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        response.put("status", HttpStatus.CONFLICT.value());
+        response.put("error", "Recalculation in progress");
+        response.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(response);
+    }
+
+    @ExceptionHandler(MatchDeletionInProgressException.class)
+    public ResponseEntity<Object> handleMatchDeletionInProgressException(MatchDeletionInProgressException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        response.put("status", HttpStatus.CONFLICT.value());
+        response.put("error", "Match deletion in progress");
+        response.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(response);
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<Object> handleIdempotencyKeyInProgressException(IdempotencyKeyInProgressException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        response.put("status", HttpStatus.CONFLICT.value());
+        response.put("error", "Request in progress");
+        response.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(response);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<Object> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        response.put("status", HttpStatus.UNPROCESSABLE_ENTITY.value());
+        response.put("error", "Idempotency key reused");
+        response.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(response);
+    }
+
+    @ExceptionHandler(IdempotentRequestTooLargeException.class)
+    public ResponseEntity<Object> handleIdempotentRequestTooLargeException(IdempotentRequestTooLargeException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        response.put("status", HttpStatus.PAYLOAD_TOO_LARGE.value());
+        response.put("error", "Request too large");
+        response.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(response);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Object> handleIllegalArgumentException(IllegalArgumentException ex) {
         Map<String, Object> response = new HashMap<>();
@@ -0,0 +1,18 @@
+package io.github.codenilson.lavava2025.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import io.github.codenilson.lavava2025.entities.ArchivedPlayerRanking;
+
+public interface ArchivedPlayerRankingRepository extends JpaRepository<ArchivedPlayerRanking, UUID> {
+
+    /**
+     * Archived rankings of a season, best first.
+     */
+    List<ArchivedPlayerRanking> findBySeasonOrderByTotalPointsDesc(String season);
+
+    long countBySeason(String season);
+}
@@ -0,0 +1,43 @@
+package io.github.codenilson.lavava2025.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.codenilson.lavava2025.entities.IdempotencyRecord;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, UUID> {
+
+    Optional<IdempotencyRecord> findByPrincipalAndIdempotencyKey(String principal, String idempotencyKey);
+
+    /**
+     * Takes over the key of a request that never finished, if it is still unfinished and
+     * locked since before {@code staleBefore}. Returns 1 if the key was taken over.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.lockedAt = :now " +
+            "WHERE r.id = :id AND r.responseStatus IS NULL AND r.lockedAt < :staleBefore")
+    int takeOver(@Param("id") UUID id, @Param("now") LocalDateTime now,
+            @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Releases the key of an unfinished request, so that a retry runs it again.
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.responseStatus IS NULL")
+    int release(@Param("id") UUID id);
+
+    /**
+     * Removes the keys created before the given time.
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :createdBefore")
+    int deleteExpired(@Param("createdBefore") LocalDateTime createdBefore);
+}
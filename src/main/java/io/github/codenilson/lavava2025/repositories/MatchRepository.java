@@ -1,14 +1,169 @@
 package io.github.codenilson.lavava2025.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import io.github.codenilson.lavava2025.entities.Match;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 public interface MatchRepository extends JpaRepository<Match, UUID> {
 	/**
 	 * Busca todas as partidas de uma season específica.
 	 */
 	java.util.List<Match> findBySeason(String season);
+
+	/**
+	 * Busca todas as seasons que possuem partidas.
+	 */
+	@Query("SELECT DISTINCT m.season FROM Match m")
+	List<String> findAllSeasons();
+
+	/**
+	 * Percorre os jogadores das partidas finalizadas da season, uma linha por jogador e partida:
+	 * id da partida, id do jogador e se ele venceu. As linhas de uma partida vêm juntas e as
+	 * partidas vêm em ordem de criação, que é a ordem em que os ratings são recalculados.
+	 * Deve ser consumido dentro de uma transação e fechado ao final.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT m.id, p.id, CASE WHEN t = m.winner THEN true ELSE false END " +
+			"FROM Match m JOIN Team t ON t = m.winner OR t = m.loser JOIN t.players p " +
+			"WHERE m.season = :season AND m.winner IS NOT NULL AND m.loser IS NOT NULL " +
+			"ORDER BY m.createdAt, m.id")
+	Stream<Object[]> streamResultRowsBySeason(@Param("season") String season);
+
+	/**
+	 * Percorre o id do jogador de cada MVP (do time vencedor ou perdedor) das partidas finalizadas da season.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT pp.player.id FROM Match m JOIN PlayerPerformance pp ON pp = m.mvp OR pp = m.loserMvp " +
+			"WHERE m.season = :season AND m.winner IS NOT NULL AND m.loser IS NOT NULL")
+	Stream<UUID> streamMvpPlayerIdsBySeason(@Param("season") String season);
+
+	/**
+	 * Resume as partidas finalizadas de cada jogador dado na season, como linhas
+	 * [player id, partidas, vitórias, última atualização de uma partida]. Usado pelo
+	 * verificador de consistência dos rankings.
+	 */
+	@Query("SELECT p.id, COUNT(m), SUM(CASE WHEN t = m.winner THEN 1 ELSE 0 END), MAX(m.updatedAt) " +
+			"FROM Match m JOIN Team t ON t = m.winner OR t = m.loser JOIN t.players p " +
+			"WHERE m.season = :season AND m.winner IS NOT NULL AND m.loser IS NOT NULL AND p.id IN :playerIds " +
+			"GROUP BY p.id")
+	List<Object[]> summarizeResultsByPlayers(@Param("season") String season,
+			@Param("playerIds") Collection<UUID> playerIds);
+
+	/**
+	 * Conta as vezes em que cada jogador dado foi MVP (do time vencedor ou perdedor) na season,
+	 * como linhas [player id, MVPs].
+	 */
+	@Query("SELECT pp.player.id, COUNT(m) FROM Match m JOIN PlayerPerformance pp ON pp = m.mvp OR pp = m.loserMvp " +
+			"WHERE m.season = :season AND m.winner IS NOT NULL AND m.loser IS NOT NULL " +
+			"AND pp.player.id IN :playerIds GROUP BY pp.player.id")
+	List<Object[]> countMvpsByPlayers(@Param("season") String season,
+			@Param("playerIds") Collection<UUID> playerIds);
+
+	/**
+	 * Busca os ids das partidas finalizadas que não têm resultado aplicado registrado nem
+	 * eventos no ledger, isto é, partidas pontuadas antes do ledger existir, em ordem de criação.
+	 */
+	@Query("SELECT m.id FROM Match m WHERE m.rankedResult IS NULL " +
+			"AND m.winner IS NOT NULL AND m.loser IS NOT NULL " +
+			"AND NOT EXISTS (SELECT 1 FROM RankingEvent e WHERE e.matchId = m.id) " +
+			"ORDER BY m.createdAt, m.id")
+	List<UUID> findUnrankedFinishedIds();
+
+	/**
+	 * Registra o resultado aplicado de uma partida sem passar pela auditoria da entidade.
+	 */
+	@Modifying
+	@Query("UPDATE Match m SET m.rankedResult = :rankedResult WHERE m.id = :id")
+	int updateRankedResult(@Param("id") UUID id, @Param("rankedResult") String rankedResult);
+
+	/**
+	 * Busca uma página de ids de partidas com os filtros dados; filtros nulos são ignorados.
+	 * O jogador é procurado nos dois times da partida.
+	 */
+	@Query(value = "SELECT m.id FROM Match m " +
+			"WHERE (:season IS NULL OR m.season = :season) " +
+			"AND (:mapId IS NULL OR m.map.id = :mapId) " +
+			"AND (:from IS NULL OR m.createdAt >= :from) " +
+			"AND (:to IS NULL OR m.createdAt < :to) " +
+			"AND (:playerId IS NULL OR EXISTS (SELECT 1 FROM Team t JOIN t.players p " +
+			"WHERE t.match = m AND p.id = :playerId))",
+			countQuery = "SELECT COUNT(m) FROM Match m " +
+			"WHERE (:season IS NULL OR m.season = :season) " +
+			"AND (:mapId IS NULL OR m.map.id = :mapId) " +
+			"AND (:from IS NULL OR m.createdAt >= :from) " +
+			"AND (:to IS NULL OR m.createdAt < :to) " +
+			"AND (:playerId IS NULL OR EXISTS (SELECT 1 FROM Team t JOIN t.players p " +
+			"WHERE t.match = m AND p.id = :playerId))")
+	Page<UUID> findIdsByFilter(@Param("season") String season, @Param("mapId") UUID mapId,
+			@Param("playerId") UUID playerId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+			Pageable pageable);
+
+	/**
+	 * Carrega as partidas dadas com mapa, times, MVPs e desempenhos (com jogador e time)
+	 * em uma única query. Os jogadores dos times são carregados à parte, veja
+	 * {@link TeamRepository#findByMatchIdsWithPlayers}.
+	 */
+	@EntityGraph(attributePaths = { "map", "winner", "loser", "mvp", "loserMvp", "playerPerformances",
+			"playerPerformances.player", "playerPerformances.player.roles", "playerPerformances.team" })
+	@Query("SELECT m FROM Match m WHERE m.id IN :ids")
+	List<Match> findAllWithDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+
+	/**
+	 * Busca e trava ({@code SELECT ... FOR UPDATE}) o próximo lote de partidas a remover
+	 * por filtro, como linhas [id, temporada]. Uma edição concorrente da partida espera a
+	 * remoção, então a temporada lida é a que será revertida. Como as partidas do lote são
+	 * removidas, o lote seguinte é sempre a primeira página.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT m.id, m.season FROM Match m " +
+			"WHERE (:season IS NULL OR m.season = :season) " +
+			"AND (:from IS NULL OR m.createdAt >= :from) " +
+			"AND (:to IS NULL OR m.createdAt < :to) " +
+			"ORDER BY m.id")
+	List<Object[]> findDeletionChunk(@Param("season") String season, @Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to, Pageable pageable);
+
+	/**
+	 * Como {@link #findDeletionChunk}, restrito às partidas dadas.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT m.id, m.season FROM Match m WHERE m.id IN :ids " +
+			"AND (:season IS NULL OR m.season = :season) " +
+			"AND (:from IS NULL OR m.createdAt >= :from) " +
+			"AND (:to IS NULL OR m.createdAt < :to)")
+	List<Object[]> findDeletionChunkByIdIn(@Param("ids") Collection<UUID> ids, @Param("season") String season,
+			@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+	/**
+	 * Solta os times e desempenhos referenciados pelas partidas dadas (vencedor,
+	 * perdedor e MVPs), para que possam ser removidos em massa.
+	 */
+	@Modifying
+	@Query("UPDATE Match m SET m.winner = NULL, m.loser = NULL, m.mvp = NULL, m.loserMvp = NULL " +
+			"WHERE m.id IN :ids")
+	int clearResultsByIdIn(@Param("ids") Collection<UUID> ids);
+
+	/**
+	 * Remove as partidas dadas em um único comando.
+	 */
+	@Modifying
+	@Query("DELETE FROM Match m WHERE m.id IN :ids")
+	int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -1,12 +1,20 @@
 package io.github.codenilson.lavava2025.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import io.github.codenilson.lavava2025.entities.PlayerPerformance;
+import jakarta.persistence.QueryHint;
 
 public interface PlayerPerformanceRepository extends JpaRepository<PlayerPerformance, UUID> {
     Optional<PlayerPerformance> findByPlayerIdAndMatchId(UUID playerId, UUID matchId);
@@ -20,7 +28,52 @@ public interface PlayerPerformanceRepository extends JpaRepository<PlayerPerform
     List<PlayerPerformance> findByPlayerId(UUID playerId);
 
     /**
-     * Finds all performances for a player in a list of matches (for a season).
+     * Streams the counters of every performance of a season as
+     * [player id, ace, kills, deaths, assists] rows, without loading entities.
+     * Must be consumed inside a transaction and closed afterwards.
+     *
+     * @param season Season identifier
+     * @return stream of performance rows
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT pp.player.id, pp.ace, pp.kills, pp.deaths, pp.assists FROM PlayerPerformance pp " +
+           "WHERE pp.match.season = :season")
+    Stream<Object[]> streamStatsBySeason(@Param("season") String season);
+
+    /**
+     * Summarizes the performances of the given players in a season as
+     * [player id, performances, aces, last update] rows.
+     *
+     * @param season Season identifier
+     * @param playerIds Players to summarize
+     * @return one row per player with performances
+     */
+    @Query("SELECT pp.player.id, COUNT(pp), SUM(pp.ace), MAX(pp.updatedAt) FROM PlayerPerformance pp " +
+           "WHERE pp.match.season = :season AND pp.player.id IN :playerIds GROUP BY pp.player.id")
+    List<Object[]> summarizeByPlayers(@Param("season") String season,
+                                      @Param("playerIds") Collection<UUID> playerIds);
+
+    /**
+     * Sums the counters of the performances of the given matches per player and season,
+     * as [player id, season, aces, kills, deaths, assists, filled-in performances] rows.
+     *
+     * @param matchIds Matches to summarize
+     * @return one row per player and season
+     */
+    @Query("SELECT pp.player.id, pp.match.season, SUM(pp.ace), SUM(COALESCE(pp.kills, 0)), " +
+           "SUM(COALESCE(pp.deaths, 0)), SUM(COALESCE(pp.assists, 0)), " +
+           "SUM(CASE WHEN pp.ace <> 0 OR COALESCE(pp.kills, 0) <> 0 OR COALESCE(pp.deaths, 0) <> 0 " +
+           "OR COALESCE(pp.assists, 0) <> 0 THEN 1 ELSE 0 END) FROM PlayerPerformance pp " +
+           "WHERE pp.match.id IN :matchIds GROUP BY pp.player.id, pp.match.season")
+    List<Object[]> summarizeByMatchIds(@Param("matchIds") Collection<UUID> matchIds);
+
+    /**
+     * Deletes the performances of the given matches in a single statement.
+     *
+     * @param matchIds Matches whose performances are deleted
+     * @return number of performances deleted
      */
-    List<PlayerPerformance> findByPlayerIdAndMatchIdIn(UUID playerId, List<UUID> matchIds);
+    @Modifying
+    @Query("DELETE FROM PlayerPerformance pp WHERE pp.match.id IN :matchIds")
+    int deleteByMatchIds(@Param("matchIds") Collection<UUID> matchIds);
 }
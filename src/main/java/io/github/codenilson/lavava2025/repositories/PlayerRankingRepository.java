@@ -1,18 +1,29 @@
 package io.github.codenilson.lavava2025.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import io.github.codenilson.lavava2025.entities.Player;
 import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.RankingScore;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for PlayerRanking entity operations.
@@ -39,38 +50,157 @@ public interface PlayerRankingRepository extends JpaRepository<PlayerRanking, UU
     /**
      * Get all rankings for a specific season ordered by total points (descending)
      */
-    @Query("SELECT pr FROM PlayerRanking pr WHERE pr.season = :season ORDER BY pr.totalPoints DESC, pr.winRate DESC, pr.matchesWon DESC")
+    @Query("SELECT pr FROM PlayerRanking pr WHERE pr.season = :season ORDER BY pr.sortKey DESC, pr.id")
     List<PlayerRanking> findBySeasonOrderByTotalPointsDesc(@Param("season") String season);
 
     /**
      * Get paginated leaderboard for a specific season
      */
-    @Query("SELECT pr FROM PlayerRanking pr WHERE pr.season = :season ORDER BY pr.totalPoints DESC, pr.winRate DESC, pr.matchesWon DESC")
+    @Query("SELECT pr FROM PlayerRanking pr WHERE pr.season = :season ORDER BY pr.sortKey DESC, pr.id")
     Page<PlayerRanking> findBySeasonOrderByTotalPointsDesc(@Param("season") String season, Pageable pageable);
 
     /**
      * Get top N players for a specific season
      */
-    @Query("SELECT pr FROM PlayerRanking pr WHERE pr.season = :season ORDER BY pr.totalPoints DESC, pr.winRate DESC, pr.matchesWon DESC")
+    @Query("SELECT pr FROM PlayerRanking pr WHERE pr.season = :season ORDER BY pr.sortKey DESC, pr.id")
     List<PlayerRanking> findTopPlayersBySeason(@Param("season") String season, Pageable pageable);
 
+    /**
+     * Get paginated leaderboard rows with their positions computed in the same query.
+     * The position uses RANK() over the ranking tie-break, so tied players share a position
+     * exactly like {@link #findPlayerPosition}.
+     */
+    @Query(value = "SELECT new io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO(" +
+           "pr.id, p.id, p.username, pr.totalPoints, pr.matchesWon, pr.matchesPlayed, pr.winRate, pr.season, " +
+           "RANK() OVER (ORDER BY pr.sortKey DESC), " +
+           "pr.lastUpdated, pr.createdAt) " +
+           "FROM PlayerRanking pr JOIN pr.player p WHERE pr.season = :season " +
+           "ORDER BY pr.sortKey DESC, pr.id",
+           countQuery = "SELECT COUNT(pr) FROM PlayerRanking pr WHERE pr.season = :season")
+    Page<PlayerRankingResponseDTO> findLeaderboardWithPositions(@Param("season") String season, Pageable pageable);
+
+    /**
+     * Get top N players for a specific season with their positions computed in the same query
+     */
+    @Query("SELECT new io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO(" +
+           "pr.id, p.id, p.username, pr.totalPoints, pr.matchesWon, pr.matchesPlayed, pr.winRate, pr.season, " +
+           "RANK() OVER (ORDER BY pr.sortKey DESC), " +
+           "pr.lastUpdated, pr.createdAt) " +
+           "FROM PlayerRanking pr JOIN pr.player p WHERE pr.season = :season " +
+           "ORDER BY pr.sortKey DESC, pr.id")
+    List<PlayerRankingResponseDTO> findTopPlayersWithPositions(@Param("season") String season, Pageable pageable);
+
+    /**
+     * Get the first leaderboard rows of a season for keyset pagination; positions are filled by the caller
+     */
+    @Query("SELECT new io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO(" +
+           "pr.id, p.id, p.username, pr.totalPoints, pr.matchesWon, pr.matchesPlayed, pr.winRate, pr.season, " +
+           "CAST(NULL AS Long), pr.lastUpdated, pr.createdAt) " +
+           "FROM PlayerRanking pr JOIN pr.player p WHERE pr.season = :season " +
+           "ORDER BY pr.sortKey DESC, pr.id")
+    List<PlayerRankingResponseDTO> findLeaderboardRows(@Param("season") String season, Pageable pageable);
+
+    /**
+     * Get the leaderboard rows of a season that come after the given row in leaderboard order.
+     * The {@code sortKey <= :sortKey} bound makes the read a single range scan of the
+     * leaderboard index that starts at the cursor; positions are filled by the caller
+     */
+    @Query("SELECT new io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO(" +
+           "pr.id, p.id, p.username, pr.totalPoints, pr.matchesWon, pr.matchesPlayed, pr.winRate, pr.season, " +
+           "CAST(NULL AS Long), pr.lastUpdated, pr.createdAt) " +
+           "FROM PlayerRanking pr JOIN pr.player p WHERE pr.season = :season AND pr.sortKey <= :sortKey AND " +
+           "(pr.sortKey < :sortKey OR pr.id > :id) " +
+           "ORDER BY pr.sortKey DESC, pr.id")
+    List<PlayerRankingResponseDTO> findLeaderboardRowsAfter(@Param("season") String season,
+                                                            @Param("sortKey") long sortKey,
+                                                            @Param("id") UUID id,
+                                                            Pageable pageable);
+
     /**
      * Get all rankings for active players in a specific season
      */
-    @Query("SELECT pr FROM PlayerRanking pr WHERE pr.season = :season AND pr.player.active = true ORDER BY pr.totalPoints DESC, pr.winRate DESC")
+    @Query("SELECT pr FROM PlayerRanking pr WHERE pr.season = :season AND pr.player.active = true ORDER BY pr.sortKey DESC, pr.id")
     List<PlayerRanking> findBySeasonAndPlayerActiveOrderByTotalPointsDesc(@Param("season") String season);
 
     /**
-     * Get player's ranking position in the season
+     * Get player's ranking position in the season: one plus the rankings with a higher sort key,
+     * counted with a single range scan of the leaderboard index
+     */
+    @Query("SELECT COUNT(pr) + 1 FROM PlayerRanking pr WHERE pr.season = :season AND pr.sortKey > :sortKey")
+    Long findPlayerPosition(@Param("season") String season, @Param("sortKey") long sortKey);
+
+    /**
+     * Get the score of every ranking in a season, used to hydrate the in-memory leaderboard index
+     */
+    @Query("SELECT new io.github.codenilson.lavava2025.entities.valueobjects.RankingScore(" +
+           "pr.id, pr.totalPoints, pr.winRate, pr.matchesWon, pr.version) FROM PlayerRanking pr WHERE pr.season = :season")
+    List<RankingScore> findScoresBySeason(@Param("season") String season);
+
+    /**
+     * Get leaderboard rows for the given ranking ids; positions are filled by the caller
+     */
+    @Query("SELECT new io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO(" +
+           "pr.id, p.id, p.username, pr.totalPoints, pr.matchesWon, pr.matchesPlayed, pr.winRate, pr.season, " +
+           "CAST(NULL AS Long), pr.lastUpdated, pr.createdAt) " +
+           "FROM PlayerRanking pr JOIN pr.player p WHERE pr.id IN :ids")
+    List<PlayerRankingResponseDTO> findRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Get the rankings of the given players in a season, with players and their roles fetched in the same query
+     */
+    @Query("SELECT pr FROM PlayerRanking pr JOIN FETCH pr.player p LEFT JOIN FETCH p.roles " +
+           "WHERE pr.season = :season AND p.id IN :playerIds")
+    List<PlayerRanking> findByPlayerIdInAndSeason(@Param("playerIds") Collection<UUID> playerIds,
+                                                  @Param("season") String season);
+
+    /**
+     * Stream the ids of the players that have a ranking in a season
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT pr.player.id FROM PlayerRanking pr WHERE pr.season = :season AND pr.player IS NOT NULL")
+    Stream<UUID> streamPlayerIdsBySeason(@Param("season") String season);
+
+    /**
+     * Streams every leaderboard row of a season in leaderboard order, for exports; positions
+     * are filled by the caller. Rows are DTOs, so the persistence context does not grow.
+     * Must be consumed inside a transaction and closed afterwards.
      */
-    @Query("SELECT COUNT(pr) + 1 FROM PlayerRanking pr WHERE pr.season = :season AND " +
-           "(pr.totalPoints > :totalPoints OR " +
-           "(pr.totalPoints = :totalPoints AND pr.winRate > :winRate) OR " +
-           "(pr.totalPoints = :totalPoints AND pr.winRate = :winRate AND pr.matchesWon > :matchesWon))")
-    Long findPlayerPosition(@Param("season") String season, 
-                           @Param("totalPoints") Integer totalPoints, 
-                           @Param("winRate") Double winRate, 
-                           @Param("matchesWon") Integer matchesWon);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO(" +
+           "pr.id, p.id, p.username, pr.totalPoints, pr.matchesWon, pr.matchesPlayed, pr.winRate, pr.season, " +
+           "CAST(NULL AS Long), pr.lastUpdated, pr.createdAt) " +
+           "FROM PlayerRanking pr JOIN pr.player p WHERE pr.season = :season " +
+           "ORDER BY pr.sortKey DESC, pr.id")
+    Stream<PlayerRankingResponseDTO> streamLeaderboardRows(@Param("season") String season);
+
+    /**
+     * Streams the total points of the rankings of a season with at least one played match.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT pr.totalPoints FROM PlayerRanking pr WHERE pr.season = :season AND pr.matchesPlayed > 0")
+    Stream<Integer> streamPlayedPointsBySeason(@Param("season") String season);
+
+    /**
+     * Get the counters of the first rankings of a season in player id order, as
+     * [ranking id, player id, total points, matches played, matches won] rows
+     */
+    @Query("SELECT pr.id, pr.player.id, pr.totalPoints, pr.matchesPlayed, pr.matchesWon FROM PlayerRanking pr " +
+           "WHERE pr.season = :season AND pr.player IS NOT NULL ORDER BY pr.player.id")
+    List<Object[]> findCounterRows(@Param("season") String season, Pageable pageable);
+
+    /**
+     * Get the counters of the rankings of a season that come after the given player in player id order
+     *
+     * @see #findCounterRows(String, Pageable)
+     */
+    @Query("SELECT pr.id, pr.player.id, pr.totalPoints, pr.matchesPlayed, pr.matchesWon FROM PlayerRanking pr " +
+           "WHERE pr.season = :season AND pr.player.id > :playerId ORDER BY pr.player.id")
+    List<Object[]> findCounterRowsAfter(@Param("season") String season, @Param("playerId") UUID playerId,
+                                        Pageable pageable);
 
     /**
      * Check if a player has any ranking record for a season
@@ -83,6 +213,11 @@ public interface PlayerRankingRepository extends JpaRepository<PlayerRanking, UU
     @Query("SELECT DISTINCT pr.season FROM PlayerRanking pr ORDER BY pr.season DESC")
     List<String> findAllSeasons();
 
+    /**
+     * Get total number of rankings in a season
+     */
+    long countBySeason(String season);
+
     /**
      * Get total number of players with ranking in a season
      */
@@ -92,4 +227,64 @@ public interface PlayerRankingRepository extends JpaRepository<PlayerRanking, UU
      * Find players with minimum matches played in a season
      */
     List<PlayerRanking> findBySeasonAndMatchesPlayedGreaterThanEqualOrderByTotalPointsDesc(String season, Integer minMatches);
+
+    /**
+     * Locks every ranking of a season until the end of the transaction
+     * ({@code SELECT ... FOR UPDATE}), so concurrent result updates wait for the bulk
+     * statements that follow. Rankings created afterwards are not locked.
+     *
+     * @return ids of the locked rankings
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pr.id FROM PlayerRanking pr WHERE pr.season = :season")
+    List<UUID> lockIdsBySeason(@Param("season") String season);
+
+    /**
+     * Copies every ranking of a season to the archive table in a single statement.
+     *
+     * @return number of rankings archived
+     */
+    @Modifying
+    @Query("INSERT INTO ArchivedPlayerRanking (id, playerId, season, totalPoints, matchesWon, matchesPlayed, " +
+           "winRate, lastUpdated, createdAt, archivedAt) " +
+           "SELECT pr.id, pr.player.id, pr.season, pr.totalPoints, pr.matchesWon, pr.matchesPlayed, " +
+           "pr.winRate, pr.lastUpdated, pr.createdAt, :archivedAt " +
+           "FROM PlayerRanking pr WHERE pr.season = :season")
+    int archiveBySeason(@Param("season") String season, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * Deletes every ranking of a season in a single statement. It bypasses the
+     * persistence context: callers must evict the season from {@code PlayerRankingIndex}.
+     *
+     * @return number of rankings deleted
+     */
+    @Modifying
+    @Query("DELETE FROM PlayerRanking pr WHERE pr.season = :season")
+    int deleteBySeason(@Param("season") String season);
+
+    /**
+     * Deletes the rankings of a season copied by {@link #archiveBySeason} at the given
+     * time, in a single statement. Same caveat as {@link #deleteBySeason}.
+     *
+     * @return number of rankings deleted
+     */
+    @Modifying
+    @Query("DELETE FROM PlayerRanking pr WHERE pr.season = :season AND pr.id IN (" +
+           "SELECT a.id FROM ArchivedPlayerRanking a WHERE a.season = :season AND a.archivedAt = :archivedAt)")
+    int deleteArchivedBySeason(@Param("season") String season, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * Creates an empty ranking in a season for every active player that has none, in a
+     * single statement. Ids come from the database ({@code random_uuid()}, see
+     * {@code UuidFunctionContributor}). Same caveat as {@link #deleteBySeason}.
+     *
+     * @return number of rankings created
+     */
+    @Modifying
+    @Query("INSERT INTO PlayerRanking (id, player, season, totalPoints, matchesWon, matchesPlayed, winRate, " +
+           "sortKey, lastUpdated, createdAt, updatedAt) " +
+           "SELECT random_uuid(), p, :season, 0, 0, 0, 0.0, 0, :now, :now, :now FROM Player p " +
+           "WHERE p.active = true AND NOT EXISTS (" +
+           "SELECT 1 FROM PlayerRanking pr WHERE pr.player = p AND pr.season = :season)")
+    int createRankingsForActivePlayers(@Param("season") String season, @Param("now") LocalDateTime now);
 }
@@ -6,6 +6,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.github.codenilson.lavava2025.entities.Player;
 
@@ -25,5 +27,17 @@ public interface PlayerRepository extends JpaRepository<Player, UUID> {
 
     List<Player> findAllByIdInAndActiveTrue(Collection<UUID> ids);
 
+    /**
+     * Busca os jogadores ativos com os usernames dados, com os roles carregados na mesma query.
+     */
+    @Query("SELECT DISTINCT p FROM Player p LEFT JOIN FETCH p.roles WHERE p.username IN :usernames AND p.active = true")
+    List<Player> findAllByUsernameInAndActiveTrue(@Param("usernames") Collection<String> usernames);
+
     Optional<Player> findByDiscordId(Long discordId);
+
+    /**
+     * Returns which of the given ids belong to existing players, without loading them.
+     */
+    @Query("SELECT p.id FROM Player p WHERE p.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,82 @@
+package io.github.codenilson.lavava2025.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import io.github.codenilson.lavava2025.entities.PlayerSeasonStats;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface PlayerSeasonStatsRepository extends JpaRepository<PlayerSeasonStats, UUID> {
+
+    /**
+     * Finds the season totals of a player.
+     *
+     * @param playerId Player unique identifier
+     * @param season Season identifier
+     * @return the totals, empty if the player has no performance in the season
+     */
+    Optional<PlayerSeasonStats> findByPlayerIdAndSeason(UUID playerId, String season);
+
+    /**
+     * Finds the season totals of several players at once.
+     */
+    List<PlayerSeasonStats> findByPlayerIdInAndSeason(Collection<UUID> playerIds, String season);
+
+    /**
+     * Finds and locks ({@code SELECT ... FOR UPDATE}) the season totals of a player until
+     * the end of the transaction, so concurrent changes to the same totals are serialized.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PlayerSeasonStats s WHERE s.player.id = :playerId AND s.season = :season")
+    Optional<PlayerSeasonStats> lockByPlayerIdAndSeason(@Param("playerId") UUID playerId,
+            @Param("season") String season);
+
+    /**
+     * Batch version of {@link #lockByPlayerIdAndSeason}. Rows are locked in player id
+     * order, so transactions sharing players do not deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PlayerSeasonStats s WHERE s.player.id IN :playerIds AND s.season = :season "
+            + "ORDER BY s.player.id")
+    List<PlayerSeasonStats> lockByPlayerIdInAndSeason(@Param("playerIds") Collection<UUID> playerIds,
+            @Param("season") String season);
+
+    /**
+     * Streams the ids of the players that have totals in a season.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.player.id FROM PlayerSeasonStats s WHERE s.season = :season")
+    Stream<UUID> streamPlayerIdsBySeason(@Param("season") String season);
+
+    /**
+     * Streams the totals of a season as [aces, kills, deaths, assists, matches] rows, for
+     * the players with at least one counted performance.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.aces, s.kills, s.deaths, s.assists, s.matches FROM PlayerSeasonStats s "
+            + "WHERE s.season = :season AND s.matches > 0")
+    Stream<Object[]> streamTotalsBySeason(@Param("season") String season);
+
+    /**
+     * Deletes the totals of a season, along with their awarded aces, in a single
+     * statement.
+     *
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM PlayerSeasonStats s WHERE s.season = :season")
+    int deleteBySeason(@Param("season") String season);
+}
@@ -0,0 +1,32 @@
+package io.github.codenilson.lavava2025.repositories;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import io.github.codenilson.lavava2025.entities.RankHistory;
+
+public interface RankHistoryRepository extends JpaRepository<RankHistory, UUID> {
+
+    /**
+     * Finds the series of a ranking.
+     */
+    Optional<RankHistory> findByRankingId(UUID rankingId);
+
+    /**
+     * Finds the series of every ranking of a season.
+     */
+    List<RankHistory> findBySeason(String season);
+
+    /**
+     * Deletes the series of every ranking of a season.
+     */
+    @Modifying
+    @Query("DELETE FROM RankHistory h WHERE h.season = :season")
+    int deleteBySeason(@Param("season") String season);
+}
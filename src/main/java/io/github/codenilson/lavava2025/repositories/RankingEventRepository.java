@@ -0,0 +1,81 @@
+package io.github.codenilson.lavava2025.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.RankingEvent;
+import jakarta.persistence.QueryHint;
+
+public interface RankingEventRepository extends JpaRepository<RankingEvent, UUID> {
+
+    /**
+     * Sums the events recorded for the given matches per season, player and reason, as
+     * [match id, season, player id, reason, points, matches played, matches won, latest
+     * revision] rows. A reason whose events were reversed sums to zero.
+     */
+    @Query("SELECT e.matchId, e.season, e.player.id, e.reason, SUM(e.deltaPoints), SUM(e.deltaPlayed), "
+            + "SUM(e.deltaWon), MAX(e.revision) FROM RankingEvent e WHERE e.matchId IN :matchIds "
+            + "GROUP BY e.matchId, e.season, e.player.id, e.reason")
+    List<Object[]> findMatchContributions(@Param("matchIds") Collection<UUID> matchIds);
+
+    /**
+     * Finds the events of a player in a season, oldest first.
+     */
+    @Query("SELECT e FROM RankingEvent e WHERE e.player.id = :playerId AND e.season = :season "
+            + "ORDER BY e.createdAt, e.id")
+    List<RankingEvent> findByPlayerIdAndSeason(@Param("playerId") UUID playerId, @Param("season") String season);
+
+    /**
+     * Streams the deltas of every event of a season as rows of player id, points, matches
+     * played and matches won.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.player.id, e.deltaPoints, e.deltaPlayed, e.deltaWon FROM RankingEvent e WHERE e.season = :season")
+    Stream<Object[]> streamDeltasBySeason(@Param("season") String season);
+
+    /**
+     * Streams the admin bonus points of a season summed per player, as rows of player id and points.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.player.id, SUM(e.deltaPoints) FROM RankingEvent e WHERE e.season = :season "
+            + "AND e.reason = io.github.codenilson.lavava2025.entities.valueobjects.RankingEventReason.ADMIN_BONUS "
+            + "GROUP BY e.player.id")
+    Stream<Object[]> streamAdminBonusBySeason(@Param("season") String season);
+
+    /**
+     * Finds the rankings that have counters but no event in the ledger, i.e. rankings
+     * written before the ledger existed.
+     */
+    @Query("SELECT pr FROM PlayerRanking pr WHERE pr.player IS NOT NULL "
+            + "AND (pr.totalPoints <> 0 OR pr.matchesPlayed <> 0 OR pr.matchesWon <> 0) "
+            + "AND NOT EXISTS (SELECT 1 FROM RankingEvent e WHERE e.player = pr.player AND e.season = pr.season)")
+    List<PlayerRanking> findRankingsWithoutEvents();
+
+    /**
+     * Deletes every event of a season.
+     */
+    @Modifying
+    @Query("DELETE FROM RankingEvent e WHERE e.season = :season")
+    int deleteBySeason(@Param("season") String season);
+
+    /**
+     * Summarizes the ledger of the given players in a season as [player id, events, admin
+     * bonus points] rows.
+     */
+    @Query("SELECT e.player.id, COUNT(e), SUM(CASE WHEN e.reason = "
+            + "io.github.codenilson.lavava2025.entities.valueobjects.RankingEventReason.ADMIN_BONUS "
+            + "THEN e.deltaPoints ELSE 0 END) FROM RankingEvent e "
+            + "WHERE e.season = :season AND e.player.id IN :playerIds GROUP BY e.player.id")
+    List<Object[]> summarizeByPlayers(@Param("season") String season,
+                                      @Param("playerIds") Collection<UUID> playerIds);
+}
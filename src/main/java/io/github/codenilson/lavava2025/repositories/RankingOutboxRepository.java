@@ -0,0 +1,75 @@
+package io.github.codenilson.lavava2025.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import io.github.codenilson.lavava2025.entities.RankingOutboxEntry;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface RankingOutboxRepository extends JpaRepository<RankingOutboxEntry, UUID> {
+
+    /**
+     * Locks the oldest pending entries that can still be retried. Entries locked by
+     * another worker are skipped, so several application instances can drain the
+     * outbox at the same time. Only the oldest pending entry of each match is returned:
+     * the newer ones wait until it is applied or gives up, so the entries of a match are
+     * never applied out of order, even by different workers.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM RankingOutboxEntry o WHERE o.processedAt IS NULL AND o.attempts < :maxAttempts "
+            + "AND NOT EXISTS (SELECT 1 FROM RankingOutboxEntry p WHERE p.matchId = o.matchId "
+            + "AND p.processedAt IS NULL AND p.attempts < :maxAttempts "
+            + "AND (p.createdAt < o.createdAt OR (p.createdAt = o.createdAt AND p.id < o.id))) "
+            + "ORDER BY o.createdAt, o.id")
+    List<RankingOutboxEntry> lockPending(@Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    /**
+     * Locks a single pending entry, empty if it was applied or is locked by another worker.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM RankingOutboxEntry o WHERE o.id = :id AND o.processedAt IS NULL")
+    Optional<RankingOutboxEntry> lockPendingById(@Param("id") UUID id);
+
+    /**
+     * Marks the pending entries of the given matches as processed without applying them,
+     * because a newer entry with the complete result of the match replaces them.
+     *
+     * @return number of entries superseded
+     */
+    @Modifying
+    @Query("UPDATE RankingOutboxEntry o SET o.processedAt = :now "
+            + "WHERE o.matchId IN :matchIds AND o.processedAt IS NULL")
+    int supersedePending(@Param("matchIds") Collection<UUID> matchIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Counts the entries that are waiting to be applied.
+     */
+    @Query("SELECT COUNT(o) FROM RankingOutboxEntry o WHERE o.processedAt IS NULL AND o.attempts < :maxAttempts")
+    long countPending(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Counts the entries that failed too many times to be retried.
+     */
+    @Query("SELECT COUNT(o) FROM RankingOutboxEntry o WHERE o.processedAt IS NULL AND o.attempts >= :maxAttempts")
+    long countFailed(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Creation time of the oldest entry waiting to be applied.
+     */
+    @Query("SELECT MIN(o.createdAt) FROM RankingOutboxEntry o WHERE o.processedAt IS NULL AND o.attempts < :maxAttempts")
+    Optional<LocalDateTime> findOldestPendingCreatedAt(@Param("maxAttempts") int maxAttempts);
+}
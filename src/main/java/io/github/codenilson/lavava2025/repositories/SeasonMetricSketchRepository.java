@@ -0,0 +1,28 @@
+package io.github.codenilson.lavava2025.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.codenilson.lavava2025.entities.SeasonMetricSketch;
+
+public interface SeasonMetricSketchRepository extends JpaRepository<SeasonMetricSketch, UUID> {
+
+    /**
+     * Finds the persisted sketches of every metric of a season.
+     */
+    List<SeasonMetricSketch> findBySeason(String season);
+
+    /**
+     * Deletes the persisted sketches of a season, so they are rebuilt on the next read.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SeasonMetricSketch s WHERE s.season = :season")
+    int deleteBySeason(@Param("season") String season);
+}
@@ -1,11 +1,14 @@
 package io.github.codenilson.lavava2025.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.github.codenilson.lavava2025.entities.Team;
 
@@ -23,4 +26,19 @@ public interface TeamRepository extends JpaRepository<Team, UUID> {
      */
     @Query("SELECT t FROM Team t LEFT JOIN FETCH t.players LEFT JOIN FETCH t.match WHERE t.id = :id")
     Optional<Team> findByIdWithPlayers(UUID id);
+
+    /**
+     * Busca os teams das partidas dadas com players (e seus roles) carregados
+     */
+    @Query("SELECT DISTINCT t FROM Team t LEFT JOIN FETCH t.players p LEFT JOIN FETCH p.roles " +
+            "WHERE t.match.id IN :matchIds")
+    List<Team> findByMatchIdsWithPlayers(@Param("matchIds") Collection<UUID> matchIds);
+
+    /**
+     * Remove os teams das partidas dadas em um único comando (o Hibernate remove antes
+     * as linhas da tabela de junção dos players)
+     */
+    @Modifying
+    @Query("DELETE FROM Team t WHERE t.match.id IN :matchIds")
+    int deleteByMatchIds(@Param("matchIds") Collection<UUID> matchIds);
 }
@@ -0,0 +1,229 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import io.github.codenilson.lavava2025.entities.dto.ranking.DecayedRankingDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço do leaderboard por atividade, em que os pontos perdem peso com o tempo desde a
+ * última atualização do ranking ({@code ranking.decay.half-life}).
+ *
+ * Os pontos decaídos não são gravados: são calculados na leitura, apenas para a página
+ * pedida, a partir de uma tabela de fatores por dia de inatividade. A ordem da temporada
+ * é materializada uma vez por noite ({@code ranking.decay.cron}), ou na primeira leitura
+ * depois de qualquer alteração nos rankings da temporada (a versão do
+ * {@link PlayerRankingIndex} muda).
+ *
+ * A ordem vale para o dia em que foi materializada. Enquanto os fatores são exponenciais
+ * todos os rankings envelhecem pelo mesmo fator e a ordem se mantém, mas um ranking que
+ * chega a {@code ranking.decay.max-age-days} para de decair e pode passar os outros; até
+ * a próxima materialização (no máximo um dia depois) as posições podem estar
+ * desatualizadas, embora os pontos decaídos de cada página sejam sempre os do dia.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DecayedLeaderboardService {
+
+    private final PlayerRankingRepository playerRankingRepository;
+    private final PlayerRankingIndex playerRankingIndex;
+    private final PlatformTransactionManager transactionManager;
+    private final RankingProperties rankingProperties;
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private volatile DecayTable decayTable;
+
+    /**
+     * Materializa a ordem decaída de todas as temporadas.
+     */
+    @Scheduled(cron = "${ranking.decay.cron:0 30 4 * * *}")
+    public void scheduledMaterialize() {
+        if (!rankingProperties.getDecay().isEnabled()) {
+            return;
+        }
+        try {
+            materializeAll(LocalDate.now());
+        } catch (RuntimeException e) {
+            log.error("Decayed leaderboard materialization failed", e);
+        }
+    }
+
+    /**
+     * Materializa a ordem decaída de todas as temporadas com rankings.
+     *
+     * @param today dia de referência do decaimento
+     * @return número de rankings ordenados
+     */
+    public int materializeAll(LocalDate today) {
+        int rows = 0;
+        for (String season : playerRankingRepository.findAllSeasons()) {
+            rows += materialize(season, today);
+        }
+        log.info("Decayed leaderboards of {}: {} rankings", today, rows);
+        return rows;
+    }
+
+    /**
+     * Materializa a ordem decaída de uma temporada, substituindo a anterior.
+     *
+     * @param season temporada
+     * @param today dia de referência do decaimento
+     * @return número de rankings ordenados
+     */
+    public int materialize(String season, LocalDate today) {
+        Snapshot snapshot = load(season, today);
+        snapshots.put(season, snapshot);
+        return snapshot.rows().size();
+    }
+
+    /**
+     * Busca uma página do leaderboard decaído de uma temporada.
+     *
+     * @param season temporada desejada
+     * @param pageable parâmetros de paginação
+     * @return página com a posição e os pontos decaídos de cada jogador
+     */
+    public Page<DecayedRankingDTO> getDecayedLeaderboard(String season, Pageable pageable) {
+        return getDecayedLeaderboard(season, pageable, LocalDate.now());
+    }
+
+    Page<DecayedRankingDTO> getDecayedLeaderboard(String season, Pageable pageable, LocalDate today) {
+        Snapshot snapshot = snapshots.get(season);
+        // Missed nights (batch disabled or failed) and ranking changes are caught up by the first read
+        if (snapshot == null || snapshot.asOf().isBefore(today.minusDays(1))
+                || snapshot.version() != playerRankingIndex.version(season)) {
+            snapshot = load(season, today);
+            snapshots.put(season, snapshot);
+        }
+        List<Row> rows = snapshot.rows();
+        DecayTable table = decayTable();
+        List<DecayedRankingDTO> content = new ArrayList<>(pageable.getPageSize());
+        int from = (int) Math.min(pageable.getOffset(), rows.size());
+        int to = Math.min(from + pageable.getPageSize(), rows.size());
+        for (Row row : rows.subList(from, to)) {
+            double factor = table.factor(row.ranking().getLastUpdated(), today);
+            double decayed = Math.round(row.totalPoints() * factor * 100.0) / 100.0;
+            content.add(new DecayedRankingDTO(row.position(), row.playerId(), row.playerUsername(),
+                    row.totalPoints(), decayed, row.ranking().getLastUpdated()));
+        }
+        return new PageImpl<>(content, pageable, rows.size());
+    }
+
+    /**
+     * Descarta a ordem materializada de uma temporada, depois de operações em massa.
+     */
+    public void evictSeason(String season) {
+        snapshots.remove(season);
+    }
+
+    private Snapshot load(String season, LocalDate today) {
+        // Read before the rows, so a change committed while loading triggers another rebuild
+        long version = playerRankingIndex.version(season);
+        DecayTable table = decayTable();
+        List<Row> rows = new ArrayList<>();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> {
+            try (Stream<PlayerRankingResponseDTO> stream = playerRankingRepository.streamLeaderboardRows(season)) {
+                stream.forEach(ranking -> rows.add(
+                        new Row(ranking, ranking.getTotalPoints() * table.factor(ranking.getLastUpdated(), today))));
+            }
+        });
+        // Stream order (total points, win rate, wins) breaks ties between equal decayed scores
+        rows.sort(Comparator.comparingDouble(Row::score).reversed());
+        long position = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (i == 0 || rows.get(i).score() != rows.get(i - 1).score()) {
+                position = i + 1;
+            }
+            rows.get(i).ranking().setPosition(position);
+        }
+        return new Snapshot(today, version, List.copyOf(rows));
+    }
+
+    /**
+     * The decay factor table for the configured half-life, rebuilt when the settings change.
+     */
+    private DecayTable decayTable() {
+        RankingProperties.Decay settings = rankingProperties.getDecay();
+        DecayTable table = decayTable;
+        if (table == null || !table.halfLife().equals(settings.getHalfLife())
+                || table.factors().length != settings.getMaxAgeDays() + 1) {
+            table = DecayTable.of(settings.getHalfLife(), settings.getMaxAgeDays());
+            decayTable = table;
+        }
+        return table;
+    }
+
+    /**
+     * Factor of each day of inactivity: {@code 0.5 ^ (days / halfLife)}.
+     */
+    private record DecayTable(Duration halfLife, double[] factors) {
+
+        static DecayTable of(Duration halfLife, int maxAgeDays) {
+            double halfLifeDays = halfLife.toSeconds() / (double) Duration.ofDays(1).toSeconds();
+            double[] factors = new double[maxAgeDays + 1];
+            for (int days = 0; days <= maxAgeDays; days++) {
+                factors[days] = Math.pow(0.5, days / halfLifeDays);
+            }
+            return new DecayTable(halfLife, factors);
+        }
+
+        double factor(LocalDateTime lastUpdated, LocalDate today) {
+            if (lastUpdated == null) {
+                return factors[factors.length - 1];
+            }
+            long days = ChronoUnit.DAYS.between(lastUpdated.toLocalDate(), today);
+            return factors[Math.clamp(days, 0, factors.length - 1)];
+        }
+    }
+
+    private record Row(PlayerRankingResponseDTO ranking, double score) {
+
+        UUID playerId() {
+            return ranking.getPlayerId();
+        }
+
+        String playerUsername() {
+            return ranking.getPlayerUsername();
+        }
+
+        int totalPoints() {
+            return ranking.getTotalPoints() == null ? 0 : ranking.getTotalPoints();
+        }
+
+        long position() {
+            return ranking.getPosition();
+        }
+    }
+
+    private record Snapshot(LocalDate asOf, long version, List<Row> rows) {
+    }
+}
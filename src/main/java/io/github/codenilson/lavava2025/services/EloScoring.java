@@ -0,0 +1,54 @@
+package io.github.codenilson.lavava2025.services;
+
+import org.springframework.stereotype.Component;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import io.github.codenilson.lavava2025.entities.valueobjects.ScoringMode;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Elo rating computed from the average rating of each team.
+ *
+ * The total points of a ranking are the player's rating relative to the initial rating,
+ * so every player starts at 0. Only the difference between the teams matters to the
+ * expected result, which makes the initial rating irrelevant. Winners gain and losers
+ * lose the same amount, rounded to whole points and at least one. There are no MVP or
+ * ace bonuses.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+@RequiredArgsConstructor
+public class EloScoring implements RankingScoringStrategy {
+
+    private final RankingProperties rankingProperties;
+
+    @Override
+    public ScoringMode mode() {
+        return ScoringMode.ELO;
+    }
+
+    @Override
+    public MatchPoints score(double winnersAverage, double losersAverage) {
+        double expected = 1.0 / (1.0 + Math.pow(10.0, (losersAverage - winnersAverage) / 400.0));
+        int change = (int) Math.max(1, Math.round(rankingProperties.getScoring().getEloKFactor() * (1.0 - expected)));
+        return new MatchPoints(change, -change);
+    }
+
+    @Override
+    public int mvpBonus() {
+        return 0;
+    }
+
+    @Override
+    public boolean awardsAces() {
+        return false;
+    }
+
+    @Override
+    public boolean dependsOnMatchOrder() {
+        return true;
+    }
+}
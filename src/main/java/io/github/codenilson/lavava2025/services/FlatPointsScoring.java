@@ -0,0 +1,40 @@
+package io.github.codenilson.lavava2025.services;
+
+import org.springframework.stereotype.Component;
+
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.valueobjects.ScoringMode;
+
+/**
+ * The original scoring: {@link PlayerRanking#POINTS_PER_WIN} points per win, one bonus
+ * point for the MVP of each team and one point per ace.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class FlatPointsScoring implements RankingScoringStrategy {
+
+    private static final MatchPoints POINTS = new MatchPoints(PlayerRanking.POINTS_PER_WIN, 0);
+
+    @Override
+    public ScoringMode mode() {
+        return ScoringMode.FLAT;
+    }
+
+    @Override
+    public MatchPoints score(double winnersAverage, double losersAverage) {
+        return POINTS;
+    }
+
+    @Override
+    public int mvpBonus() {
+        return 1;
+    }
+
+    @Override
+    public boolean awardsAces() {
+        return true;
+    }
+}
@@ -0,0 +1,191 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.codenilson.lavava2025.config.IdempotencyProperties;
+import io.github.codenilson.lavava2025.entities.IdempotencyRecord;
+import io.github.codenilson.lavava2025.errors.exceptions.IdempotencyKeyInProgressException;
+import io.github.codenilson.lavava2025.errors.exceptions.IdempotencyKeyReusedException;
+import io.github.codenilson.lavava2025.repositories.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service that keeps the Idempotency-Key of write requests and their responses.
+ *
+ * A request claims its key by inserting it in the key table; the unique constraint on
+ * (user, key) is the duplicate check, so a new key costs a single insert. A retry that
+ * finds the key completed gets the recorded response back, and one that finds it still
+ * running is rejected. Completed keys are also kept in a bounded in-memory cache in
+ * front of the table, so replaying a recent response does not touch the database.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyProperties idempotencyProperties;
+
+    private final Map<Key, StoredResponse> completed = new LinkedHashMap<>(16, 0.75f, true);
+
+    private record Key(String principal, String idempotencyKey) {
+    }
+
+    /**
+     * Response recorded for a key, replayed to the retries of the request.
+     */
+    public record StoredResponse(String fingerprint, int status, String contentType, byte[] body,
+            LocalDateTime createdAt) {
+    }
+
+    /**
+     * Result of {@link #claim}: either the request runs, holding the key until
+     * {@link #complete} or {@link #release}, or the recorded response is replayed.
+     */
+    public record Claim(UUID recordId, StoredResponse replay) {
+
+        public boolean isReplay() {
+            return replay != null;
+        }
+    }
+
+    /**
+     * Claims a key for a request.
+     *
+     * @param principal user that sent the request
+     * @param idempotencyKey value of the Idempotency-Key header
+     * @param fingerprint hash of the request, to detect a key reused for another request
+     * @return the claim, holding the key or carrying the response to replay
+     * @throws IllegalArgumentException if the key is blank or too long
+     * @throws IdempotencyKeyReusedException if the key was used for a different request
+     * @throws IdempotencyKeyInProgressException if the request with this key is still running
+     */
+    public Claim claim(String principal, String idempotencyKey, String fingerprint) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > IdempotencyRecord.MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Idempotency-Key must have between 1 and " + IdempotencyRecord.MAX_KEY_LENGTH + " characters");
+        }
+        Key key = new Key(principal, idempotencyKey);
+        StoredResponse cached = lookup(key);
+        if (cached != null) {
+            return replay(cached, fingerprint);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            IdempotencyRecord record = idempotencyRecordRepository
+                    .saveAndFlush(new IdempotencyRecord(principal, idempotencyKey, fingerprint, now));
+            return new Claim(record.getId(), null);
+        } catch (DataIntegrityViolationException e) {
+            // The key exists: a retry
+        }
+
+        IdempotencyRecord record = idempotencyRecordRepository
+                .findByPrincipalAndIdempotencyKey(principal, idempotencyKey)
+                // Purged between the insert and the read
+                .orElseThrow(IdempotencyKeyInProgressException::new);
+        if (!record.getFingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException();
+        }
+        if (record.isCompleted()) {
+            StoredResponse response = toResponse(record);
+            store(key, response);
+            return new Claim(null, response);
+        }
+        LocalDateTime staleBefore = now.minus(idempotencyProperties.getLockTimeout());
+        if (idempotencyRecordRepository.takeOver(record.getId(), now, staleBefore) == 1) {
+            log.warn("Idempotency key {} of {} taken over after its request did not finish", idempotencyKey,
+                    principal);
+            return new Claim(record.getId(), null);
+        }
+        throw new IdempotencyKeyInProgressException();
+    }
+
+    /**
+     * Records the response of a request that held its key. Server errors and responses
+     * too large to record release the key instead, so a retry runs the request again.
+     */
+    @Transactional
+    public void complete(Claim claim, int status, String contentType, byte[] body) {
+        if (status >= 500 || body.length > idempotencyProperties.getMaxResponseBytes()) {
+            release(claim);
+            return;
+        }
+        idempotencyRecordRepository.findById(claim.recordId()).ifPresent(record -> {
+            record.complete(status, contentType, body);
+            idempotencyRecordRepository.save(record);
+            store(new Key(record.getPrincipal(), record.getIdempotencyKey()), toResponse(record));
+        });
+    }
+
+    /**
+     * Releases the key of a request that failed, so that a retry runs it again.
+     */
+    @Transactional
+    public void release(Claim claim) {
+        idempotencyRecordRepository.release(claim.recordId());
+    }
+
+    /**
+     * Removes the keys older than {@code idempotency.ttl}.
+     */
+    @Scheduled(cron = "${idempotency.purge-cron:0 15 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = idempotencyRecordRepository.deleteExpired(LocalDateTime.now().minus(idempotencyProperties.getTtl()));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private static Claim replay(StoredResponse response, String fingerprint) {
+        if (!response.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException();
+        }
+        return new Claim(null, response);
+    }
+
+    private static StoredResponse toResponse(IdempotencyRecord record) {
+        byte[] body = record.getResponseBody() == null ? new byte[0] : record.getResponseBody();
+        return new StoredResponse(record.getFingerprint(), record.getResponseStatus(),
+                record.getResponseContentType(), body, record.getCreatedAt());
+    }
+
+    private StoredResponse lookup(Key key) {
+        synchronized (completed) {
+            StoredResponse response = completed.get(key);
+            if (response != null
+                    && response.createdAt().isBefore(LocalDateTime.now().minus(idempotencyProperties.getTtl()))) {
+                completed.remove(key);
+                return null;
+            }
+            return response;
+        }
+    }
+
+    private void store(Key key, StoredResponse response) {
+        synchronized (completed) {
+            completed.put(key, response);
+            int maxEntries = Math.max(1, idempotencyProperties.getCacheSize());
+            Iterator<Key> eldest = completed.keySet().iterator();
+            while (completed.size() > maxEntries) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bounded cache of leaderboard reads, keyed by season, query and the season version kept
+ * by {@link PlayerRankingIndex}.
+ *
+ * Nothing is ever invalidated explicitly: any change to a season bumps its version, so
+ * reads after the change miss and entries of older versions are eventually dropped as the
+ * least recently used ones. Concurrent misses for the same key are coalesced, only one
+ * caller loads the value and the others wait for it.
+ *
+ * Reads made inside a read-write transaction bypass the cache, since they may see changes
+ * that are not committed yet.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaderboardCache {
+
+    private final PlayerRankingIndex playerRankingIndex;
+    private final RankingProperties rankingProperties;
+
+    private final Map<Key, Object> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Key, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    private record Key(String season, long version, String query) {
+    }
+
+    /**
+     * Returns the cached result of a read of one season, loading it if needed.
+     *
+     * @param season season read by the query
+     * @param query identifies the read and its arguments within the season
+     * @param loader loads the value on a miss
+     * @return the cached or freshly loaded value
+     */
+    public <T> T get(String season, String query, Supplier<T> loader) {
+        return get(new Key(season, playerRankingIndex.version(season), query), loader);
+    }
+
+    /**
+     * Returns the cached result of a read that spans every season, loading it if needed.
+     *
+     * @param query identifies the read and its arguments
+     * @param loader loads the value on a miss
+     * @return the cached or freshly loaded value
+     */
+    public <T> T getAcrossSeasons(String query, Supplier<T> loader) {
+        return get(new Key(null, playerRankingIndex.version(), query), loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Key key, Supplier<T> loader) {
+        if (!rankingProperties.getCache().isEnabled() || inReadWriteTransaction()) {
+            return loader.get();
+        }
+
+        Object cached = lookup(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = loading.putIfAbsent(key, load);
+        if (running != null) {
+            return (T) await(running);
+        }
+        try {
+            // Another caller may have finished loading between the lookup and the claim
+            Object value = lookup(key);
+            if (value == null) {
+                value = loader.get();
+                store(key, value);
+            }
+            load.complete(value);
+            return (T) value;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    private Object lookup(Key key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private void store(Key key, Object value) {
+        if (value == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, value);
+            int maxEntries = Math.max(1, rankingProperties.getCache().getMaxEntries());
+            Iterator<Key> eldest = entries.keySet().iterator();
+            while (entries.size() > maxEntries) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
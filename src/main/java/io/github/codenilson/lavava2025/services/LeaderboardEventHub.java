@@ -0,0 +1,308 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankChangeDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankChangesEventDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes leaderboard position changes to server-sent event subscribers.
+ *
+ * Changes are recorded when match results commit and gathered per season for
+ * {@code ranking.events.debounce}, so the players of a match (or of several matches in
+ * the same window) arrive in one {@code rank-changes} event. The event is serialized once
+ * per season and handed to every subscriber.
+ *
+ * Subscriptions are asynchronous requests: an idle subscriber holds no thread. Each
+ * event is written by a virtual thread per subscriber, in order, so a slow client only
+ * delays itself; one with more than {@code ranking.events.max-pending-events} queued is
+ * disconnected. Idle subscribers get a keep-alive comment every
+ * {@code ranking.events.heartbeat-interval}.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardEventHub implements SmartLifecycle {
+
+    static final String EVENT_NAME = "rank-changes";
+
+    private final PlayerRankingIndex playerRankingIndex;
+    private final ObjectMapper objectMapper;
+    private final RankingProperties rankingProperties;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // Changes waiting for the next event of their season, guarded by the hub
+    private final Map<String, Map<UUID, RankChangeDTO>> pending = new HashMap<>();
+    private final Semaphore signal = new Semaphore(0);
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile Thread thread;
+    private volatile boolean running;
+
+    /**
+     * Opens a subscription to the position changes of a season.
+     */
+    public SseEmitter subscribe(String season) {
+        SseEmitter emitter = new SseEmitter(rankingProperties.getEvents().getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(season, emitter);
+        subscribers.computeIfAbsent(season, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        return emitter;
+    }
+
+    /**
+     * Whether anyone listens to a season, so writers can skip computing positions.
+     */
+    public boolean hasSubscribers(String season) {
+        Set<Subscriber> listeners = subscribers.get(season);
+        return listeners != null && !listeners.isEmpty();
+    }
+
+    /**
+     * Current positions of the given rankings, by ranking id. Rankings that are not on
+     * the leaderboard yet are left out.
+     */
+    public Map<UUID, Long> positionsOf(String season, Collection<PlayerRanking> rankings) {
+        Map<UUID, Long> positions = new HashMap<>();
+        for (PlayerRanking ranking : rankings) {
+            if (ranking.getId() != null) {
+                playerRankingIndex.find(season, ranking.getId())
+                        .ifPresent(score -> positions.put(ranking.getId(), playerRankingIndex.position(season, score)));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Records the position changes of updated rankings once the current transaction commits.
+     * The new positions are read from the leaderboard index at that moment.
+     *
+     * @param season season of the rankings
+     * @param positionsBefore position of each ranking id before the update (absent for new rankings)
+     * @param updated the rankings after the update
+     */
+    public void recordChanges(String season, Map<UUID, Long> positionsBefore, Collection<PlayerRanking> updated) {
+        if (updated.isEmpty()) {
+            return;
+        }
+        Runnable record = () -> {
+            Map<UUID, RankChangeDTO> changes = new LinkedHashMap<>();
+            for (PlayerRanking ranking : updated) {
+                Long newPosition = playerRankingIndex.find(season, ranking.getId())
+                        .map(score -> playerRankingIndex.position(season, score))
+                        .orElse(null);
+                changes.put(ranking.getId(), new RankChangeDTO(ranking.getPlayer().getId(),
+                        positionsBefore.get(ranking.getId()), newPosition, ranking.getTotalPoints()));
+            }
+            synchronized (this) {
+                Map<UUID, RankChangeDTO> seasonChanges = pending.computeIfAbsent(season, key -> new LinkedHashMap<>());
+                changes.forEach((rankingId, change) -> seasonChanges.merge(rankingId, change, (earlier, later) -> {
+                    // Several changes in one window: from the first old position to the last state
+                    later.setOldPosition(earlier.getOldPosition());
+                    return later;
+                }));
+            }
+            signal.release();
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // After the committed changes reached the leaderboard index
+                if (status == STATUS_COMMITTED) {
+                    record.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Sends the pending changes of every season now.
+     */
+    public void flush() {
+        Map<String, Map<UUID, RankChangeDTO>> ready;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            ready = new HashMap<>(pending);
+            pending.clear();
+        }
+        ready.forEach((season, changes) -> {
+            Set<Subscriber> listeners = subscribers.get(season);
+            if (listeners == null || listeners.isEmpty()) {
+                return;
+            }
+            Set<DataWithMediaType> event;
+            try {
+                event = SseEmitter.event()
+                        .name(EVENT_NAME)
+                        .data(objectMapper.writeValueAsString(
+                                new RankChangesEventDTO(season, new ArrayList<>(changes.values()))),
+                                MediaType.APPLICATION_JSON)
+                        .build();
+            } catch (JsonProcessingException e) {
+                log.error("Failed to serialize the rank changes of season {}", season, e);
+                return;
+            }
+            listeners.forEach(subscriber -> subscriber.deliver(event));
+        });
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofVirtual().name("leaderboard-event-hub").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread hub = thread;
+        if (hub != null) {
+            hub.interrupt();
+            try {
+                hub.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+        subscribers.values().forEach(listeners -> listeners.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        senders.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        RankingProperties.Events settings = rankingProperties.getEvents();
+        long lastHeartbeat = System.nanoTime();
+        while (running) {
+            try {
+                long untilHeartbeat = settings.getHeartbeatInterval().toNanos() - (System.nanoTime() - lastHeartbeat);
+                if (signal.tryAcquire(Math.max(0, untilHeartbeat), TimeUnit.NANOSECONDS)) {
+                    // Let the rest of the window arrive, then send it as one event per season
+                    Thread.sleep(settings.getDebounce().toMillis());
+                    signal.drainPermits();
+                    flush();
+                } else {
+                    heartbeat();
+                    lastHeartbeat = System.nanoTime();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to push leaderboard events", e);
+            }
+        }
+    }
+
+    private void heartbeat() {
+        Set<DataWithMediaType> comment = null;
+        for (Set<Subscriber> listeners : subscribers.values()) {
+            for (Subscriber subscriber : listeners) {
+                if (comment == null) {
+                    comment = SseEmitter.event().comment("keep-alive").build();
+                }
+                subscriber.deliver(comment);
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        Set<Subscriber> listeners = subscribers.get(subscriber.season);
+        if (listeners != null) {
+            listeners.remove(subscriber);
+        }
+    }
+
+    /**
+     * A subscription with its own queue of events, written in order by one virtual thread
+     * at a time.
+     */
+    private final class Subscriber {
+
+        private final String season;
+        private final SseEmitter emitter;
+        private final ConcurrentLinkedQueue<Set<DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private Subscriber(String season, SseEmitter emitter) {
+            this.season = season;
+            this.emitter = emitter;
+        }
+
+        private void deliver(Set<DataWithMediaType> event) {
+            if (queued.incrementAndGet() > rankingProperties.getEvents().getMaxPendingEvents()) {
+                unsubscribe(this);
+                emitter.complete();
+                return;
+            }
+            queue.add(event);
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::send);
+            }
+        }
+
+        private void send() {
+            do {
+                Set<DataWithMediaType> event;
+                while ((event = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        // The client went away or the emitter is already complete
+                        unsubscribe(this);
+                        queue.clear();
+                        return;
+                    }
+                }
+                sending.set(false);
+            } while (!queue.isEmpty() && sending.compareAndSet(false, true));
+        }
+    }
+}
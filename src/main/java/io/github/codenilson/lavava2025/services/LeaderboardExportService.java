@@ -0,0 +1,162 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.LeaderboardExportFormat;
+import io.github.codenilson.lavava2025.entities.valueobjects.RankingScore;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serviço de exportação do leaderboard completo de uma temporada em CSV ou NDJSON.
+ *
+ * As linhas são lidas de um cursor do banco em ordem de leaderboard e escritas uma a uma
+ * na saída, e a posição é calculada durante a iteração (jogadores empatados dividem a
+ * posição, como no {@code RANK()} das consultas paginadas). Nenhuma lista é montada:
+ * a memória usada não cresce com o tamanho da temporada. A saída é descarregada a cada
+ * {@value #FLUSH_EVERY_ROWS} linhas, não a cada linha.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaderboardExportService {
+
+    static final String CSV_HEADER = "position,player_id,username,total_points,matches_won,matches_played,"
+            + "win_rate,last_updated";
+    static final int FLUSH_EVERY_ROWS = 1000;
+
+    private final PlayerRankingRepository playerRankingRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Escreve o leaderboard de uma temporada na saída. A saída não é fechada.
+     *
+     * @param season temporada a exportar
+     * @param format formato do arquivo
+     * @param out destino das linhas
+     * @return número de linhas exportadas
+     */
+    public long export(String season, LeaderboardExportFormat format, OutputStream out) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        Long rows = transaction.execute(status -> {
+            try (Stream<PlayerRankingResponseDTO> stream = playerRankingRepository.streamLeaderboardRows(season)) {
+                return format == LeaderboardExportFormat.CSV ? writeCsv(stream.iterator(), out)
+                        : writeNdjson(stream.iterator(), out);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write the leaderboard export of season " + season, e);
+            }
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    private long writeCsv(Iterator<PlayerRankingResponseDTO> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        Positions positions = new Positions();
+        while (rows.hasNext()) {
+            PlayerRankingResponseDTO row = rows.next();
+            writer.write(Long.toString(positions.next(row)));
+            writer.write(',');
+            writer.write(String.valueOf(row.getPlayerId()));
+            writer.write(',');
+            writer.write(csvField(row.getPlayerUsername()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getTotalPoints()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getMatchesWon()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getMatchesPlayed()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getWinRate()));
+            writer.write(',');
+            writer.write(row.getLastUpdated() == null ? "" : row.getLastUpdated().toString());
+            writer.write('\n');
+            if (positions.count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return positions.count;
+    }
+
+    private long writeNdjson(Iterator<PlayerRankingResponseDTO> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        // The mapper flushes after every value by default, which would send one chunk per row
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        Positions positions = new Positions();
+        while (rows.hasNext()) {
+            PlayerRankingResponseDTO row = rows.next();
+            row.setPosition(positions.next(row));
+            writer.writeValue(generator, row);
+            generator.writeRaw('\n');
+            if (positions.count % FLUSH_EVERY_ROWS == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+        return positions.count;
+    }
+
+    /**
+     * Quotes a field when needed. Values that a spreadsheet would read as a formula
+     * (starting with {@code = + - @}, a tab or a carriage return) are prefixed with a
+     * quote, since usernames are chosen by the players.
+     */
+    static String csvField(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String field = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Leaderboard positions of rows read in leaderboard order.
+     */
+    private static final class Positions {
+
+        private long count;
+        private long position;
+        private RankingScore previous;
+
+        long next(PlayerRankingResponseDTO row) {
+            RankingScore score = new RankingScore(row.getId(), row.getTotalPoints(), row.getWinRate(),
+                    row.getMatchesWon());
+            count++;
+            if (previous == null || !score.tiesWith(previous)) {
+                position = count;
+            }
+            previous = score;
+            return position;
+        }
+    }
+}
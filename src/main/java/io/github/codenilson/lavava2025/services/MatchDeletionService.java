@@ -0,0 +1,165 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchDeletionReportDTO;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchDeletionRequestDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.MatchResult;
+import io.github.codenilson.lavava2025.errors.exceptions.MatchDeletionInProgressException;
+import io.github.codenilson.lavava2025.repositories.MatchRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerPerformanceRepository;
+import io.github.codenilson.lavava2025.repositories.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Remoção de partidas, uma a uma ou em massa por filtro (temporada, período ou lista de
+ * ids), desfazendo o que cada partida somou aos rankings.
+ *
+ * As partidas são removidas em lotes de {@code ranking.match-deletion.chunk-size}, cada
+ * lote em sua própria transação: uma limpeza grande não segura uma transação gigante e o
+ * que já foi removido continua removido se ela for interrompida. Cada lote custa um
+ * número fixo de comandos, independente do número de partidas e jogadores:
+ * <ol>
+ * <li>as partidas do lote são travadas ({@code SELECT ... FOR UPDATE}), para que uma
+ * edição concorrente não mude o resultado ou a temporada que está sendo revertida;</li>
+ * <li>os contadores dos desempenhos saem dos totais da temporada (uma query de soma e um
+ * lote JDBC por temporada);</li>
+ * <li>a contribuição de cada partida é revertida pelo ledger, aplicando o resultado
+ * retirado ({@link MatchResult#withdrawn}): os eventos de reversão vão em um lote e os
+ * contadores de cada jogador em um único incremento. Com o outbox ativo a reversão é
+ * enfileirada, depois dos resultados ainda pendentes das mesmas partidas;</li>
+ * <li>desempenhos, times (com a tabela de junção dos jogadores) e partidas são removidos
+ * com comandos em massa.</li>
+ * </ol>
+ * Os eventos das partidas removidas continuam no ledger e explicam os pontos revertidos.
+ * Remoções avulsas são recusadas enquanto uma remoção em massa está em andamento.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MatchDeletionService {
+
+    private final MatchRepository matchRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerPerformanceRepository playerPerformanceRepository;
+    private final PlayerSeasonStatsService playerSeasonStatsService;
+    private final PlayerRankingService playerRankingService;
+    private final RankingOutboxService rankingOutboxService;
+    private final PlatformTransactionManager transactionManager;
+    private final RankingProperties rankingProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Remove uma partida e reverte sua contribuição para os rankings.
+     *
+     * @param id id da partida
+     * @return false se a partida não existe
+     * @throws MatchDeletionInProgressException se uma remoção em massa estiver em andamento
+     */
+    public boolean delete(UUID id) {
+        if (running.get()) {
+            throw new MatchDeletionInProgressException();
+        }
+        Integer deleted = new TransactionTemplate(transactionManager).execute(
+                status -> deleteChunk(matchRepository.findDeletionChunkByIdIn(List.of(id), null, null, null)));
+        return deleted != null && deleted > 0;
+    }
+
+    /**
+     * Remove em lotes todas as partidas que atendem aos filtros e reverte a contribuição
+     * delas para os rankings.
+     *
+     * @param request filtros combinados; ao menos um é obrigatório
+     * @return partidas removidas, lotes e duração
+     * @throws IllegalArgumentException se nenhum filtro for informado ou se o início do
+     *         período for depois do fim
+     * @throws MatchDeletionInProgressException se outra remoção em massa estiver em andamento
+     */
+    public MatchDeletionReportDTO deleteMatches(MatchDeletionRequestDTO request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (!byIds && request.getSeason() == null && request.getFrom() == null && request.getTo() == null) {
+            throw new IllegalArgumentException("At least one of 'season', 'from', 'to' or 'ids' is required");
+        }
+        if (request.getFrom() != null && request.getTo() != null && request.getFrom().isAfter(request.getTo())) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new MatchDeletionInProgressException();
+        }
+        try {
+            long startedAt = System.nanoTime();
+            int chunkSize = Math.max(1, rankingProperties.getMatchDeletion().getChunkSize());
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            int deleted = 0;
+            int chunks = 0;
+            if (byIds) {
+                List<UUID> ids = List.copyOf(new LinkedHashSet<>(request.getIds()));
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                    int rows = transaction.execute(status -> deleteChunk(matchRepository.findDeletionChunkByIdIn(
+                            chunk, request.getSeason(), request.getFrom(), request.getTo())));
+                    deleted += rows;
+                    chunks += rows > 0 ? 1 : 0;
+                }
+            } else {
+                // The matches of a chunk are gone once it commits, so the next one is the first page again
+                Pageable firstPage = PageRequest.of(0, chunkSize);
+                int rows;
+                do {
+                    rows = transaction.execute(status -> deleteChunk(matchRepository.findDeletionChunk(
+                            request.getSeason(), request.getFrom(), request.getTo(), firstPage)));
+                    deleted += rows;
+                    chunks += rows > 0 ? 1 : 0;
+                } while (rows == chunkSize);
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            log.info("Deleted {} matches in {} chunks in {} ms", deleted, chunks, elapsedMillis);
+            return new MatchDeletionReportDTO(deleted, chunks, elapsedMillis);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * @param matches [id, season] rows of the matches to delete
+     * @return number of matches deleted
+     */
+    private int deleteChunk(List<Object[]> matches) {
+        if (matches.isEmpty()) {
+            return 0;
+        }
+        List<UUID> ids = matches.stream().map(row -> (UUID) row[0]).toList();
+
+        playerSeasonStatsService.removeAll(playerPerformanceRepository.summarizeByMatchIds(ids));
+        List<MatchResult> withdrawn = matches.stream()
+                .map(row -> MatchResult.withdrawn((UUID) row[0], (String) row[1]))
+                .toList();
+        if (rankingProperties.getOutbox().isEnabled()) {
+            rankingOutboxService.enqueueAll(withdrawn);
+        } else {
+            playerRankingService.applyMatchResults(withdrawn);
+        }
+
+        matchRepository.clearResultsByIdIn(ids);
+        playerPerformanceRepository.deleteByMatchIds(ids);
+        teamRepository.deleteByMatchIds(ids);
+        return matchRepository.deleteByIdIn(ids);
+    }
+}
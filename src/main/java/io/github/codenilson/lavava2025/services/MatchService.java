@@ -1,16 +1,28 @@
 package io.github.codenilson.lavava2025.services;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.github.codenilson.lavava2025.config.RankingProperties;
 import io.github.codenilson.lavava2025.entities.Match;
-import io.github.codenilson.lavava2025.entities.Player;
-import io.github.codenilson.lavava2025.entities.Team;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchFilterDTO;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchResponseDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.MatchResult;
 import io.github.codenilson.lavava2025.repositories.MatchRepository;
+import io.github.codenilson.lavava2025.repositories.TeamRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
@@ -29,8 +41,17 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MatchService {
 
+    /**
+     * Propriedades pelas quais a listagem de partidas pode ser ordenada.
+     */
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("createdAt", "updatedAt", "season");
+
     private final MatchRepository matchRepository;
+    private final TeamRepository teamRepository;
     private final PlayerRankingService playerRankingService;
+    private final RankingOutboxService rankingOutboxService;
+    private final RankingProperties rankingProperties;
+    private final MatchDeletionService matchDeletionService;
 
     @Transactional
     public Match save(Match match) {
@@ -52,8 +73,51 @@ public class MatchService {
         return matchRepository.findAll();
     }
 
+    /**
+     * Busca uma página de partidas com os filtros dados.
+     *
+     * A página custa um número fixo de queries, independente do tamanho: os ids da página
+     * (e o COUNT), as partidas com mapa, times, MVPs e desempenhos, e os jogadores dos times.
+     *
+     * @param filter filtros opcionais (temporada, mapa, jogador, período)
+     * @param pageable parâmetros de paginação; o id desempata a ordenação pedida
+     * @return página de partidas como DTOs
+     * @throws IllegalArgumentException se o início do período for depois do fim ou se a
+     *         ordenação usar uma propriedade fora de {@link #SORTABLE_PROPERTIES}
+     */
+    @Transactional(readOnly = true)
+    public Page<MatchResponseDTO> findMatches(MatchFilterDTO filter, Pageable pageable) {
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter(filter.getTo())) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Matches cannot be sorted by '" + order.getProperty()
+                        + "', use one of " + SORTABLE_PROPERTIES);
+            }
+        }
+        // A stable order, so that pages do not overlap when createdAt ties
+        Pageable ordered = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().and(Sort.by("id")));
+        Page<UUID> ids = matchRepository.findIdsByFilter(filter.getSeason(), filter.getMapId(),
+                filter.getPlayerId(), filter.getFrom(), filter.getTo(), ordered);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), ordered, ids.getTotalElements());
+        }
+        Map<UUID, Match> matches = matchRepository.findAllWithDetailsByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Match::getId, Function.identity()));
+        // Initializes the players of the teams already loaded above
+        teamRepository.findByMatchIdsWithPlayers(ids.getContent());
+        return ids.map(id -> new MatchResponseDTO(matches.get(id)));
+    }
+
+    /**
+     * Remove a partida, seus times e desempenhos, e reverte o que ela somou aos rankings.
+     *
+     * @see MatchDeletionService
+     */
     public void delete(Match match) {
-        matchRepository.delete(match);
+        matchDeletionService.delete(match.getId());
     }
 
     public void deleteById(UUID id) {
@@ -62,40 +126,28 @@ public class MatchService {
     }
 
     /**
-     * Updates player rankings based on match results.
-     * Only updates rankings if the match has a winner (completed match).
+     * Hands the result of the match to the rankings when it differs from the last one
+     * handed, which is tracked by its fingerprint in the match. Saves that do not change
+     * the teams or the MVPs (map, score, ...) do no ranking work; a match that lost its
+     * winner or loser has its contribution taken back.
+     * With the ranking outbox enabled the result is only recorded here and applied
+     * by the outbox worker after the match is committed.
      */
     private void updatePlayerRankings(Match match) {
-        // Only update rankings if the match has a winner (completed match)
-        if (match.getWinner() != null && match.getLoser() != null) {
-            
-            // Get winner team players
-            Team winnerTeam = match.getWinner();
-            List<UUID> winnerPlayerIds = winnerTeam.getPlayers().stream()
-                    .map(Player::getId)
-                    .collect(Collectors.toList());
-            
-            // Get loser team players
-            Team loserTeam = match.getLoser();
-            List<UUID> loserPlayerIds = loserTeam.getPlayers().stream()
-                    .map(Player::getId)
-                    .collect(Collectors.toList());
-            
-            // Update rankings for winners (3 points each)
-            playerRankingService.updateTeamRankings(winnerPlayerIds, true);
-            
-            // Update rankings for losers (0 points)
-            playerRankingService.updateTeamRankings(loserPlayerIds, false);
-            
-            // Add bonus points for MVP if available
-            if (match.getMvp() != null) {
-                playerRankingService.addBonusPoints(match.getMvp().getPlayer().getId(), 1); // 1 bonus point for MVP
-            }
-
-            // Add bonus points for Ace if available
-            if (match.getLoserMvp() != null) {
-                playerRankingService.addBonusPoints(match.getLoserMvp().getPlayer().getId(), 1); // 1 bonus point for Ace
-            }
+        MatchResult result = match.getWinner() != null && match.getLoser() != null ? MatchResult.of(match) : null;
+        String fingerprint = result == null ? null : result.fingerprint();
+        if (Objects.equals(fingerprint, match.getRankedResult())) {
+            return;
+        }
+        if (result == null) {
+            result = MatchResult.withdrawn(match.getId(), match.getSeason());
+        }
+        match.setRankedResult(fingerprint);
+        if (rankingProperties.getOutbox().isEnabled()) {
+            rankingOutboxService.enqueue(result);
+        } else {
+            // Only the difference to the contribution in the ledger is applied, all in a single batch
+            playerRankingService.applyMatchResult(result);
         }
     }
 }
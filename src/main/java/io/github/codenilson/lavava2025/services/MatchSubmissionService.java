@@ -0,0 +1,150 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.codenilson.lavava2025.entities.Match;
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.PlayerPerformance;
+import io.github.codenilson.lavava2025.entities.Team;
+import io.github.codenilson.lavava2025.entities.ValorantMap;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchSubmissionDTO;
+import io.github.codenilson.lavava2025.entities.dto.playerperformance.PlayerPerformanceUpdateDTO;
+import io.github.codenilson.lavava2025.repositories.MatchRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerPerformanceRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerRepository;
+import io.github.codenilson.lavava2025.repositories.TeamRepository;
+import io.github.codenilson.lavava2025.repositories.ValorantMapRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service that records a finished match in a single call.
+ *
+ * The match, both teams, every performance and the season totals are written in one
+ * transaction with batched inserts, and the rankings are updated once, at the end,
+ * exactly like saving a match with a winner and a loser through {@link MatchService}.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+@RequiredArgsConstructor
+public class MatchSubmissionService {
+
+    private final MatchService matchService;
+    private final MatchRepository matchRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerPerformanceRepository playerPerformanceRepository;
+    private final PlayerRepository playerRepository;
+    private final ValorantMapRepository valorantMapRepository;
+    private final PlayerSeasonStatsService playerSeasonStatsService;
+
+    /**
+     * Records a finished match: map, both rosters with their stats and the result.
+     *
+     * @param submission the match submission
+     * @return the saved match, with teams and performances
+     * @throws EntityNotFoundException if the map or an active player is not found
+     * @throws IllegalArgumentException if a player is in both rosters (or twice in one),
+     *         or an MVP is not in the expected team
+     */
+    @Transactional
+    public Match submit(MatchSubmissionDTO submission) {
+        List<MatchSubmissionDTO.PlayerSubmission> winners = submission.getWinner().getPlayers();
+        List<MatchSubmissionDTO.PlayerSubmission> losers = submission.getLoser().getPlayers();
+        Set<String> usernames = new HashSet<>();
+        Stream.concat(winners.stream(), losers.stream()).forEach(player -> {
+            if (!usernames.add(player.getPlayerUsername())) {
+                throw new IllegalArgumentException(
+                        "Player " + player.getPlayerUsername() + " appears more than once in the match");
+            }
+        });
+        requireInTeam(submission.getMvpUsername(), winners, "MVP", "winning");
+        requireInTeam(submission.getLoserMvpUsername(), losers, "Loser MVP", "losing");
+
+        ValorantMap map = valorantMapRepository.findByName(submission.getMapName())
+                .orElseThrow(() -> new EntityNotFoundException("Map not found with name: " + submission.getMapName()));
+        Map<String, Player> players = playerRepository.findAllByUsernameInAndActiveTrue(usernames).stream()
+                .collect(Collectors.toMap(Player::getUsername, Function.identity()));
+        for (String username : usernames) {
+            if (!players.containsKey(username)) {
+                throw new EntityNotFoundException("Active player not found with username: " + username);
+            }
+        }
+
+        Match match = new Match(map);
+        if (submission.getSeason() != null && !submission.getSeason().isBlank()) {
+            match.setSeason(submission.getSeason());
+        }
+        // Persisted first so the teams and performances can reference it; the result is set last
+        matchRepository.save(match);
+        List<PlayerPerformance> performances = new ArrayList<>();
+        Team winner = team(match, winners, players, performances);
+        Team loser = team(match, losers, players, performances);
+        teamRepository.saveAll(List.of(winner, loser));
+        playerPerformanceRepository.saveAll(performances);
+        // Added once persisted, as the hash code of an entity is its id
+        for (PlayerPerformance performance : performances) {
+            performance.getTeam().getPerformances().add(performance);
+            match.getPlayerPerformances().add(performance);
+        }
+        playerSeasonStatsService.recordAll(performances);
+
+        match.setWinner(winner);
+        match.setLoser(loser);
+        match.setMvp(performanceOf(submission.getMvpUsername(), performances));
+        match.setLoserMvp(performanceOf(submission.getLoserMvpUsername(), performances));
+        return matchService.save(match);
+    }
+
+    private static Team team(Match match, List<MatchSubmissionDTO.PlayerSubmission> roster,
+            Map<String, Player> players, List<PlayerPerformance> performances) {
+        Team team = new Team();
+        team.setMatch(match);
+        for (MatchSubmissionDTO.PlayerSubmission submitted : roster) {
+            Player player = players.get(submitted.getPlayerUsername());
+            team.getPlayers().add(player);
+            PlayerPerformance performance = new PlayerPerformance(player, team, match);
+            PlayerPerformanceUpdateDTO stats = submitted.getStats();
+            if (stats != null) {
+                performance.setKills(stats.getKills());
+                performance.setDeaths(stats.getDeaths());
+                performance.setAssists(stats.getAssists());
+                performance.setAgent(stats.getAgent());
+                if (stats.getAce() != null) {
+                    performance.setAce(stats.getAce());
+                }
+            }
+            performances.add(performance);
+        }
+        return team;
+    }
+
+    private static void requireInTeam(String username, List<MatchSubmissionDTO.PlayerSubmission> roster,
+            String role, String team) {
+        if (username != null && roster.stream().noneMatch(player -> player.getPlayerUsername().equals(username))) {
+            throw new IllegalArgumentException(role + " " + username + " is not in the " + team + " team");
+        }
+    }
+
+    private static PlayerPerformance performanceOf(String username, List<PlayerPerformance> performances) {
+        if (username == null) {
+            return null;
+        }
+        return performances.stream()
+                .filter(performance -> performance.getPlayer().getUsername().equals(username))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.codenilson.lavava2025.services;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.github.codenilson.lavava2025.entities.Player;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JPA entity listener that marks the leaderboards as changed when a {@link Player}
+ * changes, since leaderboard rows show player data such as the username.
+ *
+ * The change is signalled when it is flushed and again once the transaction completes,
+ * so reads cached in between by other transactions are not kept.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerLeaderboardListener {
+
+    private final ObjectProvider<PlayerRankingIndex> playerRankingIndex;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Player player) {
+        PlayerRankingIndex index = playerRankingIndex.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        index.touchPlayers();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    index.touchPlayers();
+                }
+            });
+        }
+    }
+}
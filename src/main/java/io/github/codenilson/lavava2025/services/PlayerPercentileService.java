@@ -0,0 +1,116 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.PlayerSeasonStats;
+import io.github.codenilson.lavava2025.entities.dto.ranking.MetricPercentileDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.PlayerPercentilesDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.SeasonPercentilesDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.PercentileMetric;
+import io.github.codenilson.lavava2025.entities.valueobjects.PerformanceStats;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerSeasonStatsRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serviço de consulta de percentis por temporada, como "top 5% em kills por partida".
+ *
+ * As consultas leem os sketches de {@link SeasonPercentileSketches}, sem carregar os
+ * rankings e performances da temporada: o custo não cresce com o número de jogadores.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+@RequiredArgsConstructor
+public class PlayerPercentileService {
+
+    public static final List<Double> DEFAULT_QUANTILES = List.of(0.5, 0.75, 0.9, 0.95, 0.99);
+
+    private final SeasonPercentileSketches seasonPercentileSketches;
+    private final PlayerRankingRepository playerRankingRepository;
+    private final PlayerSeasonStatsRepository playerSeasonStatsRepository;
+
+    /**
+     * Busca os valores estimados de uma métrica nos quantis pedidos.
+     *
+     * @param season temporada desejada
+     * @param metric métrica desejada
+     * @param quantiles quantis entre 0 e 1 (os padrões quando vazio)
+     * @return valores por percentil, nulos se a temporada ainda não tem a métrica
+     * @throws IllegalArgumentException se algum quantil estiver fora de [0, 1]
+     */
+    public SeasonPercentilesDTO getSeasonPercentiles(String season, PercentileMetric metric, List<Double> quantiles) {
+        List<Double> requested = quantiles == null || quantiles.isEmpty() ? DEFAULT_QUANTILES : quantiles;
+        for (Double quantile : requested) {
+            if (quantile == null || quantile < 0 || quantile > 1) {
+                throw new IllegalArgumentException("Quantiles must be between 0 and 1");
+            }
+        }
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (Double quantile : requested) {
+            values.put(label(quantile), valueOrNull(seasonPercentileSketches.quantile(season, metric, quantile)));
+        }
+        return new SeasonPercentilesDTO(season, metric, seasonPercentileSketches.count(season, metric), values);
+    }
+
+    /**
+     * Busca os percentis de um jogador em cada métrica que ele tem na temporada.
+     *
+     * @param playerId ID do jogador
+     * @param season temporada desejada
+     * @return percentis do jogador
+     * @throws EntityNotFoundException se o jogador não jogou na temporada
+     */
+    @Transactional(readOnly = true)
+    public PlayerPercentilesDTO getPlayerPercentiles(UUID playerId, String season) {
+        Optional<PlayerRanking> ranking = playerRankingRepository.findByPlayerIdAndSeason(playerId, season)
+                .filter(found -> found.getMatchesPlayed() > 0);
+        Optional<PerformanceStats> totals = playerSeasonStatsRepository.findByPlayerIdAndSeason(playerId, season)
+                .map(PlayerSeasonStats::totals)
+                .filter(found -> found.matches() > 0);
+        if (ranking.isEmpty() && totals.isEmpty()) {
+            throw new EntityNotFoundException("Player has not played in season " + season + ": " + playerId);
+        }
+
+        List<MetricPercentileDTO> metrics = new ArrayList<>();
+        ranking.ifPresent(found -> metrics.add(percentileOf(season, PercentileMetric.POINTS, found.getTotalPoints())));
+        totals.ifPresent(found -> PercentileMetric.STATS
+                .forEach(metric -> metrics.add(percentileOf(season, metric, metric.valueOf(found)))));
+        return new PlayerPercentilesDTO(playerId, season, metrics);
+    }
+
+    private MetricPercentileDTO percentileOf(String season, PercentileMetric metric, double value) {
+        double percentile = seasonPercentileSketches.percentRank(season, metric, value);
+        if (Double.isNaN(percentile)) {
+            // Not in the sketch yet (e.g. right before it is rebuilt): alone in the distribution
+            percentile = 50.0;
+        }
+        return new MetricPercentileDTO(metric, value, round(percentile), round(100.0 - percentile),
+                seasonPercentileSketches.count(season, metric));
+    }
+
+    private static String label(double quantile) {
+        return "p" + BigDecimal.valueOf(quantile).movePointRight(2).stripTrailingZeros().toPlainString();
+    }
+
+    private static Double valueOrNull(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -39,9 +39,10 @@ public class PlayerPerformanceService {
     private final PlayerService playerService;
     private final MatchService matchService;
     private final TeamRepository teamRepository;
+    private final PlayerSeasonStatsService playerSeasonStatsService;
 
     public PlayerPerformance save(PlayerPerformance playerPerformance) {
-        return playerPerformanceRepository.save(playerPerformance);
+        return recordStats(playerPerformanceRepository.save(playerPerformance));
     }
 
     public PlayerPerformance findById(UUID id) {
@@ -56,7 +57,7 @@ public class PlayerPerformanceService {
     }
 
     public void saveAll(List<PlayerPerformance> playerPerformances) {
-        playerPerformanceRepository.saveAll(playerPerformances);
+        playerPerformanceRepository.saveAll(playerPerformances).forEach(this::recordStats);
     }
 
     /**
@@ -104,7 +105,7 @@ public class PlayerPerformanceService {
             performance.setAce(createDTO.getAce());
         }
 
-        return playerPerformanceRepository.save(performance);
+        return recordStats(playerPerformanceRepository.save(performance));
     }
 
     /**
@@ -148,7 +149,7 @@ public class PlayerPerformanceService {
             throw new RuntimeException("Error accessing ace property", e);
         }
 
-        return playerPerformanceRepository.save(performance);
+        return recordStats(playerPerformanceRepository.save(performance));
     }
 
     /**
@@ -181,7 +182,7 @@ public class PlayerPerformanceService {
             performance.setAce(updateDTO.getAce());
         }
 
-        return playerPerformanceRepository.save(performance);
+        return recordStats(playerPerformanceRepository.save(performance));
     }
 
     /**
@@ -220,10 +221,18 @@ public class PlayerPerformanceService {
                 performance.setAgent(stats.getAgent());
             }
             
-            PlayerPerformance savedPerformance = playerPerformanceRepository.save(performance);
+            PlayerPerformance savedPerformance = recordStats(playerPerformanceRepository.save(performance));
             updatedPerformances.add(savedPerformance);
         }
         
         return updatedPerformances;
     }
+
+    /**
+     * Adds the changed counters of a saved performance to the player's season totals.
+     */
+    private PlayerPerformance recordStats(PlayerPerformance performance) {
+        playerSeasonStatsService.record(performance);
+        return performance;
+    }
 }
@@ -0,0 +1,132 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.RankingEvent;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies ranking events to {@code player_rankings} with atomic SQL increments.
+ *
+ * Counters are never read into Java, changed and written back: every ranking gets a
+ * single {@code SET total_points = total_points + ?} style update, with the win rate
+ * derived from the incremented values in the same statement. Concurrent writers to the
+ * same ranking are serialized by the row lock of the update, so no increment is lost.
+ * The updates of a call are sent in one JDBC batch.
+ * The values before the update are derived from the deltas to keep the
+ * {@link SeasonPercentileSketches} in sync.
+ *
+ * Must be called inside a transaction. The given rankings are detached (their counters
+ * are stale once the update runs) and the fresh rows are returned and pushed to the
+ * leaderboard index.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayerRankingCounters {
+
+    // Same rounding as PlayerRanking#winRateOf. SET expressions read the old values, so the
+    // sort key is derived from the incremented ones again
+    private static final String WIN_RATE_PERCENT = PlayerRanking.winRatePercentSql("matches_won + ?",
+            "matches_played + ?");
+    private static final String INCREMENT = "UPDATE player_rankings SET total_points = total_points + ?, "
+            + "matches_played = matches_played + ?, matches_won = matches_won + ?, "
+            + "win_rate = CASE WHEN matches_played + ? > 0 THEN " + WIN_RATE_PERCENT + " / 100.0 ELSE 0.0 END, "
+            + "sort_key = " + PlayerRanking.sortKeySql("total_points + ?",
+                    "CASE WHEN matches_played + ? > 0 THEN " + WIN_RATE_PERCENT + " * 100 ELSE 0 END",
+                    "matches_won + ?") + ", "
+            + "last_updated = ?, updated_at = ?, version = version + 1 WHERE player_id = ? AND season = ?";
+    // Rows written before sort_key existed got the column default
+    private static final String BACKFILL_SORT_KEYS = "UPDATE player_rankings SET sort_key = "
+            + PlayerRanking.sortKeySql("total_points", "ROUND(win_rate * 10000)", "matches_won")
+            + " WHERE sort_key = 0 AND (total_points <> 0 OR matches_won <> 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final PlayerRankingRepository playerRankingRepository;
+    private final PlayerRankingIndexListener playerRankingIndexListener;
+    private final SeasonPercentileSketches seasonPercentileSketches;
+
+    /**
+     * Adds the deltas of the events to the rankings of their players.
+     *
+     * @param season season of the events
+     * @param rankings rankings of the players of the events, already persisted
+     * @param events events to apply, all of the given season
+     * @return the updated rankings, read back from the database
+     */
+    public List<PlayerRanking> apply(String season, Collection<PlayerRanking> rankings,
+            Collection<RankingEvent> events) {
+        // New rankings and the events must reach the database before the plain JDBC update
+        entityManager.flush();
+
+        // Sorted so concurrent calls sharing players lock their rows in the same order
+        Map<UUID, int[]> deltas = new TreeMap<>();
+        for (RankingEvent event : events) {
+            int[] delta = deltas.computeIfAbsent(event.getPlayer().getId(), playerId -> new int[3]);
+            delta[0] += event.getDeltaPoints();
+            delta[1] += event.getDeltaPlayed();
+            delta[2] += event.getDeltaWon();
+        }
+        if (deltas.isEmpty()) {
+            return new ArrayList<>(rankings);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((playerId, delta) -> rows.add(new Object[] {
+                delta[0], delta[1], delta[2],
+                delta[1], delta[2], delta[1], delta[1],
+                delta[0], delta[1], delta[2], delta[1], delta[1], delta[2],
+                now, now, playerId, season }));
+        jdbcTemplate.batchUpdate(INCREMENT, rows);
+
+        rankings.forEach(entityManager::detach);
+        List<PlayerRanking> updated = playerRankingRepository.findByPlayerIdInAndSeason(deltas.keySet(), season);
+        // The update bypassed the entity listener
+        updated.forEach(playerRankingIndexListener::onSave);
+        for (PlayerRanking ranking : updated) {
+            int[] delta = deltas.get(ranking.getPlayer().getId());
+            seasonPercentileSketches.recordRanking(season, ranking.getTotalPoints() - delta[0],
+                    ranking.getMatchesPlayed() - delta[1], ranking.getTotalPoints(), ranking.getMatchesPlayed());
+        }
+        return updated;
+    }
+
+    /**
+     * Fills the sort key of rankings stored before the column existed. Runs when the
+     * application starts; once every ranking has its key the statement updates nothing.
+     *
+     * @return number of rankings updated
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public int backfillSortKeys() {
+        int updated = jdbcTemplate.update(BACKFILL_SORT_KEYS);
+        if (updated > 0) {
+            log.info("Filled the sort key of {} rankings", updated);
+        }
+        return updated;
+    }
+}
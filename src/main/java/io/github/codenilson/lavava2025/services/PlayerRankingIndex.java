@@ -0,0 +1,470 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.valueobjects.RankingScore;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-memory order-statistic index of the leaderboard of each season.
+ *
+ * Every season is kept in a size-augmented treap ordered by the ranking tie-break
+ * ({@link RankingScore#BY_SCORE_THEN_ID}), so position lookups and top-N reads are
+ * O(log n) memory operations instead of a COUNT scan over {@code player_rankings}.
+ *
+ * The index is hydrated from {@link PlayerRankingRepository} when the application starts
+ * and lazily for seasons that are not loaded yet. It is kept current by
+ * {@link PlayerRankingIndexListener}, which applies the changes to a {@link PlayerRanking}
+ * once their transaction commits, so readers never see uncommitted positions. Bulk
+ * statements that bypass the persistence context must call {@link #evictSeason(String)}.
+ *
+ * A season is read from the database outside of any lock and only kept if no change to
+ * it was applied while it was read; seasons without rankings are not kept. A transaction
+ * that changed rankings of a season reads that season from the database, so it sees its
+ * own writes without publishing them.
+ *
+ * Every change also bumps a per-season version, so caches of leaderboard reads (see
+ * {@link LeaderboardCache}) can tell when a season changed without being notified.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerRankingIndex {
+
+    private final PlayerRankingRepository playerRankingRepository;
+
+    private final Map<String, SeasonTree> seasons = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+    private final AtomicLong playerChanges = new AtomicLong();
+
+    /**
+     * A ranking together with its leaderboard position (tied scores share a position).
+     */
+    public record Entry(RankingScore score, long position) {
+    }
+
+    /**
+     * Loads every season with ranking data into memory.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void hydrate() {
+        for (String season : playerRankingRepository.findAllSeasons()) {
+            season(season);
+        }
+    }
+
+    /**
+     * Inserts or moves a ranking in its season. Seasons that are not loaded are ignored,
+     * they will be read from the database on first use. A score older than the one in the
+     * index (see {@link RankingScore#version()}) is ignored.
+     */
+    public void upsert(String season, RankingScore score) {
+        // Touched before the tree is looked up, so a load running concurrently is discarded
+        touch(season);
+        seasons.computeIfPresent(season, (key, tree) -> {
+            tree.upsert(score);
+            return tree;
+        });
+    }
+
+    public void upsert(PlayerRanking ranking) {
+        upsert(ranking.getSeason(), RankingScore.of(ranking));
+    }
+
+    /**
+     * Removes a ranking from its season.
+     */
+    public void remove(String season, UUID rankingId) {
+        touch(season);
+        seasons.computeIfPresent(season, (key, tree) -> {
+            tree.remove(rankingId);
+            return tree;
+        });
+    }
+
+    /**
+     * Drops a season from memory so it is reloaded from the database on next use. Inside a
+     * transaction the season is dropped again once it completes, so a copy read before the
+     * bulk statements commit is not kept.
+     */
+    public void evictSeason(String season) {
+        touch(season);
+        seasons.remove(season);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    touch(season);
+                    seasons.remove(season);
+                }
+            });
+        }
+    }
+
+    /**
+     * Marks every season as changed because player data shown on the leaderboards
+     * (such as a username) changed.
+     */
+    public void touchPlayers() {
+        playerChanges.incrementAndGet();
+        changes.incrementAndGet();
+    }
+
+    /**
+     * Version of a season's leaderboard. It changes whenever a ranking of the season
+     * changes, the season is evicted or player data changes.
+     */
+    public long version(String season) {
+        AtomicLong version = versions.get(season);
+        return (version == null ? 0 : version.get()) + playerChanges.get();
+    }
+
+    /**
+     * Version of all leaderboards together. It changes whenever any season changes.
+     */
+    public long version() {
+        return changes.get();
+    }
+
+    /**
+     * Position a ranking with the given score has in the season: one plus the
+     * number of rankings strictly ahead of it.
+     */
+    public long position(String season, RankingScore score) {
+        return season(season).countAhead(score) + 1;
+    }
+
+    public long position(PlayerRanking ranking) {
+        return position(ranking.getSeason(), RankingScore.of(ranking));
+    }
+
+    /**
+     * Best {@code limit} rankings of the season in leaderboard order.
+     */
+    public List<Entry> top(String season, int limit) {
+        return season(season).slice(0, limit);
+    }
+
+    /**
+     * Window of the leaderboard around a ranking: up to {@code radius} rankings ahead of
+     * it, the ranking itself and up to {@code radius} rankings behind it, in leaderboard
+     * order. Empty if the ranking does not belong to the season.
+     */
+    public List<Entry> around(String season, UUID rankingId, int radius) {
+        return season(season).around(rankingId, radius);
+    }
+
+    /**
+     * Number of rankings in the season.
+     */
+    public int size(String season) {
+        return season(season).size();
+    }
+
+    /**
+     * Current indexed score of a ranking, if the ranking belongs to the season.
+     */
+    public Optional<RankingScore> find(String season, UUID rankingId) {
+        return Optional.ofNullable(season(season).get(rankingId));
+    }
+
+    private void touch(String season) {
+        versions.computeIfAbsent(season, key -> new AtomicLong()).incrementAndGet();
+        changes.incrementAndGet();
+    }
+
+    private long changesOf(String season) {
+        AtomicLong version = versions.get(season);
+        return version == null ? 0 : version.get();
+    }
+
+    private SeasonTree season(String season) {
+        if (PlayerRankingIndexListener.hasPendingChanges(season)) {
+            return load(season);
+        }
+        SeasonTree tree = seasons.get(season);
+        if (tree != null) {
+            return tree;
+        }
+        long version = changesOf(season);
+        SeasonTree loaded = load(season);
+        if (loaded.size() == 0) {
+            return loaded;
+        }
+        SeasonTree kept = seasons.compute(season,
+                (key, existing) -> existing != null || changesOf(season) != version ? existing : loaded);
+        return kept == null ? loaded : kept;
+    }
+
+    private SeasonTree load(String season) {
+        SeasonTree tree = new SeasonTree();
+        playerRankingRepository.findScoresBySeason(season).forEach(tree::upsert);
+        return tree;
+    }
+
+    /**
+     * Treap ordered by {@link RankingScore#BY_SCORE_THEN_ID} where every node keeps the
+     * size of its subtree, which makes ordinal selection and counting O(log n).
+     */
+    static final class SeasonTree {
+
+        private static final class Node {
+            private final RankingScore key;
+            private final int priority = ThreadLocalRandom.current().nextInt();
+            private Node left;
+            private Node right;
+            private int size = 1;
+
+            private Node(RankingScore key) {
+                this.key = key;
+            }
+        }
+
+        private final Map<UUID, RankingScore> byId = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private Node root;
+
+        void upsert(RankingScore score) {
+            lock.writeLock().lock();
+            try {
+                RankingScore previous = byId.get(score.rankingId());
+                if (previous != null) {
+                    // Commits are applied by their own threads, a late one may carry an older score
+                    if (score.isOlderThan(previous)) {
+                        return;
+                    }
+                    root = delete(root, previous);
+                }
+                byId.put(score.rankingId(), score);
+                Node[] parts = split(root, score);
+                root = merge(merge(parts[0], new Node(score)), parts[1]);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(UUID rankingId) {
+            lock.writeLock().lock();
+            try {
+                RankingScore previous = byId.remove(rankingId);
+                if (previous != null) {
+                    root = delete(root, previous);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        RankingScore get(UUID rankingId) {
+            lock.readLock().lock();
+            try {
+                return byId.get(rankingId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return size(root);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Number of nodes whose score is strictly better than the given one.
+         */
+        long countAhead(RankingScore score) {
+            lock.readLock().lock();
+            try {
+                return countAheadUnlocked(score);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Nodes at ordinals [from, from + limit) with their positions.
+         */
+        List<Entry> slice(int from, int limit) {
+            lock.readLock().lock();
+            try {
+                return sliceUnlocked(from, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Nodes within {@code radius} ordinals of the given ranking, found by seeking its
+         * ordinal in the tree. The lookup and the slice see the same version of the tree.
+         */
+        List<Entry> around(UUID rankingId, int radius) {
+            lock.readLock().lock();
+            try {
+                RankingScore score = byId.get(rankingId);
+                if (score == null) {
+                    return new ArrayList<>();
+                }
+                int ordinal = ordinalOf(score);
+                int from = Math.max(0, ordinal - radius);
+                return sliceUnlocked(from, ordinal - from + radius + 1);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private List<Entry> sliceUnlocked(int from, int limit) {
+            if (from < 0 || from >= size(root) || limit <= 0) {
+                return new ArrayList<>();
+            }
+            int to = (int) Math.min((long) from + limit, size(root));
+            List<Entry> result = new ArrayList<>(to - from);
+            collect(root, 0, from, to, result);
+            if (!result.isEmpty()) {
+                // The first position needs a lookup because it may tie with nodes before the slice
+                RankingScore first = result.get(0).score();
+                long position = countAheadUnlocked(first) + 1;
+                long ordinal = from;
+                RankingScore previous = null;
+                for (int i = 0; i < result.size(); i++, ordinal++) {
+                    RankingScore current = result.get(i).score();
+                    if (previous != null && !previous.tiesWith(current)) {
+                        position = ordinal + 1;
+                    }
+                    result.set(i, new Entry(current, position));
+                    previous = current;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Number of nodes ordered before the key in {@link RankingScore#BY_SCORE_THEN_ID}.
+         */
+        private int ordinalOf(RankingScore key) {
+            int ordinal = 0;
+            Node node = root;
+            while (node != null) {
+                if (RankingScore.BY_SCORE_THEN_ID.compare(node.key, key) < 0) {
+                    ordinal += size(node.left) + 1;
+                    node = node.right;
+                } else {
+                    node = node.left;
+                }
+            }
+            return ordinal;
+        }
+
+        private long countAheadUnlocked(RankingScore score) {
+            long count = 0;
+            Node node = root;
+            while (node != null) {
+                if (node.key.beats(score)) {
+                    count += size(node.left) + 1;
+                    node = node.right;
+                } else {
+                    node = node.left;
+                }
+            }
+            return count;
+        }
+
+        private static void collect(Node node, int offset, int from, int to, List<Entry> out) {
+            if (node == null || offset >= to || offset + node.size <= from) {
+                return;
+            }
+            collect(node.left, offset, from, to, out);
+            int ordinal = offset + size(node.left);
+            if (ordinal >= from && ordinal < to) {
+                out.add(new Entry(node.key, 0));
+            }
+            collect(node.right, ordinal + 1, from, to, out);
+        }
+
+        private static int size(Node node) {
+            return node == null ? 0 : node.size;
+        }
+
+        private static void update(Node node) {
+            node.size = 1 + size(node.left) + size(node.right);
+        }
+
+        /**
+         * Splits the tree into nodes ordered before the key and nodes ordered at or after it.
+         */
+        private static Node[] split(Node node, RankingScore key) {
+            if (node == null) {
+                return new Node[] { null, null };
+            }
+            if (RankingScore.BY_SCORE_THEN_ID.compare(node.key, key) < 0) {
+                Node[] parts = split(node.right, key);
+                node.right = parts[0];
+                update(node);
+                return new Node[] { node, parts[1] };
+            }
+            Node[] parts = split(node.left, key);
+            node.left = parts[1];
+            update(node);
+            return new Node[] { parts[0], node };
+        }
+
+        private static Node merge(Node left, Node right) {
+            if (left == null) {
+                return right;
+            }
+            if (right == null) {
+                return left;
+            }
+            if (left.priority > right.priority) {
+                left.right = merge(left.right, right);
+                update(left);
+                return left;
+            }
+            right.left = merge(left, right.left);
+            update(right);
+            return right;
+        }
+
+        private static Node delete(Node node, RankingScore key) {
+            if (node == null) {
+                return null;
+            }
+            int comparison = RankingScore.BY_SCORE_THEN_ID.compare(key, node.key);
+            if (comparison == 0) {
+                return merge(node.left, node.right);
+            }
+            if (comparison < 0) {
+                node.left = delete(node.left, key);
+            } else {
+                node.right = delete(node.right, key);
+            }
+            update(node);
+            return node;
+        }
+    }
+}
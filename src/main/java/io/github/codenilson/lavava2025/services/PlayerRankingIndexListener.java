@@ -0,0 +1,139 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.valueobjects.RankingScore;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JPA entity listener that keeps {@link PlayerRankingIndex} in sync with every
+ * persisted change to a {@link PlayerRanking}.
+ *
+ * Changes are buffered per transaction and applied to the index only once it commits,
+ * before any other commit callback, so the shared index never shows positions of
+ * uncommitted or rolled back transactions. Until then the writing transaction reads the
+ * seasons it changed from the database (see {@link #hasPendingChanges(String)}).
+ * Transactions that update the same ranking commit in row lock order, but their commit
+ * callbacks may run in any order; the row version in each score keeps an older score
+ * from replacing a newer one.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerRankingIndexListener {
+
+    private final ObjectProvider<PlayerRankingIndex> playerRankingIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(PlayerRanking ranking) {
+        PlayerRankingIndex index = playerRankingIndex.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        RankingScore score = RankingScore.of(ranking);
+        PendingChanges pending = pendingChanges(index);
+        if (pending == null) {
+            index.upsert(ranking.getSeason(), score);
+            return;
+        }
+        pending.seasons.add(ranking.getSeason());
+        pending.removals.remove(score.rankingId());
+        pending.upserts.put(score.rankingId(), new SeasonScore(ranking.getSeason(), score));
+    }
+
+    @PostRemove
+    public void onRemove(PlayerRanking ranking) {
+        PlayerRankingIndex index = playerRankingIndex.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        PendingChanges pending = pendingChanges(index);
+        if (pending == null) {
+            index.remove(ranking.getSeason(), ranking.getId());
+            return;
+        }
+        pending.seasons.add(ranking.getSeason());
+        pending.upserts.remove(ranking.getId());
+        pending.removals.put(ranking.getId(), ranking.getSeason());
+    }
+
+    /**
+     * Whether the current transaction changed rankings of the season that are not in the
+     * index yet.
+     */
+    static boolean hasPendingChanges(String season) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(PendingChanges.class);
+        return pending != null && pending.seasons.contains(season);
+    }
+
+    private record SeasonScore(String season, RankingScore score) {
+    }
+
+    /**
+     * Index changes made by the current transaction, applied once it commits.
+     */
+    private static final class PendingChanges implements TransactionSynchronization {
+
+        private final PlayerRankingIndex index;
+        private final Map<UUID, SeasonScore> upserts = new LinkedHashMap<>();
+        private final Map<UUID, String> removals = new LinkedHashMap<>();
+        private final Set<String> seasons = new HashSet<>();
+
+        private PendingChanges(PlayerRankingIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public int getOrder() {
+            // Commit callbacks that read positions run after the index is current
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingChanges.class);
+            if (status == STATUS_COMMITTED) {
+                removals.forEach((rankingId, season) -> index.remove(season, rankingId));
+                upserts.values().forEach(change -> index.upsert(change.season(), change.score()));
+            }
+        }
+    }
+
+    /**
+     * @return the changes of the current transaction, or null outside a transaction, where
+     *         the change is already committed
+     */
+    private PendingChanges pendingChanges(PlayerRankingIndex index) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(PendingChanges.class);
+        if (pending == null) {
+            pending = new PendingChanges(index);
+            TransactionSynchronizationManager.bindResource(PendingChanges.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+}
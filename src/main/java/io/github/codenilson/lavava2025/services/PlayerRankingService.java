@@ -1,16 +1,32 @@
 
 package io.github.codenilson.lavava2025.services;
 
+import io.github.codenilson.lavava2025.entities.Match;
 import io.github.codenilson.lavava2025.entities.Player;
 import io.github.codenilson.lavava2025.entities.PlayerRanking;
-import io.github.codenilson.lavava2025.repositories.MatchRepository;
-import io.github.codenilson.lavava2025.repositories.PlayerPerformanceRepository;
+import io.github.codenilson.lavava2025.entities.RankingEvent;
+import io.github.codenilson.lavava2025.entities.valueobjects.LeaderboardCursor;
+import io.github.codenilson.lavava2025.entities.valueobjects.MatchResult;
+import io.github.codenilson.lavava2025.entities.valueobjects.RankingEventReason;
+import io.github.codenilson.lavava2025.entities.valueobjects.RankingScore;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -18,9 +34,17 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.github.codenilson.lavava2025.entities.dto.ranking.LeaderboardCursorPageDTO;
 import io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingEventResponseDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingRecalculationProgressDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingRecalculationReportDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.SeasonOperationReportDTO;
+import io.github.codenilson.lavava2025.repositories.MatchRepository;
 import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
 import io.github.codenilson.lavava2025.repositories.PlayerRepository;
+import io.github.codenilson.lavava2025.repositories.RankingEventRepository;
+import io.github.codenilson.lavava2025.repositories.TeamRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
@@ -31,6 +55,11 @@ import lombok.RequiredArgsConstructor;
  * post-match updates, position calculations, season management,
  * and administrative operations on rankings.
  * 
+ * Every change to a ranking is first recorded as a {@link RankingEvent} in the
+ * append-only ledger and then added to the {@link PlayerRanking}, which is
+ * the projection of the ledger for a player and season, with atomic SQL
+ * increments (see {@link PlayerRankingCounters}).
+ * 
  * @author lavava2025
  * @version 1.0
  * @since 2025
@@ -41,21 +70,43 @@ public class PlayerRankingService {
 
     private final PlayerRankingRepository playerRankingRepository;
     private final PlayerRepository playerRepository;
-
+    private final PlayerRankingIndex playerRankingIndex;
+    private final PlayerSeasonStatsService playerSeasonStatsService;
+    private final RankingRecalculationService rankingRecalculationService;
+    private final RankingEventRepository rankingEventRepository;
+    private final PlayerRankingCounters playerRankingCounters;
+    private final LeaderboardCache leaderboardCache;
+    private final RankingScoring rankingScoring;
+    private final SeasonArchiveService seasonArchiveService;
+    private final LeaderboardEventHub leaderboardEventHub;
     private final MatchRepository matchRepository;
-    private final PlayerPerformanceRepository playerPerformanceRepository;
+    private final TeamRepository teamRepository;
+
     /**
-     * Sums all aces for a player in a given season.
+     * Total aces of a player in a given season, read from the player's season totals.
      */
     public int getTotalAcesForPlayerInSeason(UUID playerId, String season) {
-        var matches = matchRepository.findBySeason(season);
-        var matchIds = matches.stream().map(m -> m.getId()).toList();
-        var performances = playerPerformanceRepository.findByPlayerIdAndMatchIdIn(playerId, matchIds);
-        return performances.stream().mapToInt(p -> p.getAce()).sum();
+        return playerSeasonStatsService.getTotalAces(playerId, season);
     }
 
     private static final String CURRENT_SEASON = "2025";
 
+    /**
+     * Maior raio aceito pela janela "ao redor de mim" do leaderboard.
+     */
+    public static final int MAX_NEIGHBOR_RADIUS = 50;
+
+    /**
+     * Maior página aceita pela paginação por cursor do leaderboard.
+     */
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    /**
+     * Reasons of the ledger that make up the contribution of a match result.
+     */
+    private static final Set<RankingEventReason> MATCH_REASONS = EnumSet.of(RankingEventReason.WIN,
+            RankingEventReason.LOSS, RankingEventReason.MVP, RankingEventReason.LOSER_MVP);
+
     /**
      * Updates a player's ranking after a match in the current season.
      * 
@@ -64,6 +115,7 @@ public class PlayerRankingService {
      * @return the updated player ranking
      * @throws EntityNotFoundException if the player is not found
      */
+    @Transactional
     public PlayerRanking updatePlayerRanking(UUID playerId, boolean isWin) {
         return updatePlayerRanking(playerId, isWin, CURRENT_SEASON);
     }
@@ -77,25 +129,22 @@ public class PlayerRankingService {
      * @return the updated player ranking
      * @throws EntityNotFoundException if the player is not found
      */
+    @Transactional
     public PlayerRanking updatePlayerRanking(UUID playerId, boolean isWin, String season) {
         Player player = playerRepository.findById(playerId)
                 .orElseThrow(() -> new EntityNotFoundException("Player not found with id: " + playerId));
 
         PlayerRanking ranking = getOrCreatePlayerRanking(player, season);
+        List<RankingEvent> events = new ArrayList<>();
+        events.add(RankingEvent.matchResult(player, season, null, isWin));
 
-        if (isWin) {
-            ranking.recordMatch(true);
-        } else {
-            ranking.recordMatch(false);
+        // Integrate ACE points: only aces of the season that were not converted into points yet
+        int acePoints = playerSeasonStatsService.awardPendingAces(playerId, season);
+        if (acePoints != 0) {
+            events.add(RankingEvent.bonus(player, season, null, RankingEventReason.ACE, acePoints));
         }
 
-        // Integrate ACE points: sum all aces for this player in this season
-        int acePoints = getTotalAcesForPlayerInSeason(playerId, season);
-        ranking.setTotalPoints((ranking.getTotalPoints() != null ? ranking.getTotalPoints() : 0) + acePoints);
-
-        ranking.setLastUpdated(LocalDateTime.now());
-
-        return playerRankingRepository.save(ranking);
+        return record(ranking, events);
     }
 
     /**
@@ -122,6 +171,245 @@ public class PlayerRankingService {
         }
     }
 
+    /**
+     * Applies the result of a finished match to the rankings of every player involved:
+     * 3 points per win, pending ace points and 1 bonus point for each MVP.
+     *
+     * @param result the match result
+     * @return false if the result recorded for the match was the same, in which case nothing changes
+     * @throws EntityNotFoundException if a player of the result does not exist
+     * @see #applyMatchResults(Collection)
+     */
+    @Transactional
+    public boolean applyMatchResult(MatchResult result) {
+        return applyMatchResults(List.of(result)) == 1;
+    }
+
+    /**
+     * Applies several match results together. The result of a match that is already in
+     * the ledger is applied as a correction, under a new revision of the match: the
+     * entries of the recorded contribution that no longer hold (the win of a player that
+     * lost, the bonus of the old MVP) are reversed and only the new entries are added. A
+     * result equal to the recorded one changes nothing and a match repeated in the list
+     * is applied once, so applying the same results again is harmless.
+     *
+     * The ledger is checked with a single query. For each season, rankings and season
+     * totals are read with one query each, missing rankings are created together, the
+     * ledger events are inserted in one JDBC batch and the counters of every player are
+     * coalesced into a single increment, so the number of statements depends neither on
+     * the size of the teams nor on the number of results.
+     *
+     * @param results the match results
+     * @return number of results that changed the rankings
+     * @throws EntityNotFoundException if a player of a result does not exist
+     */
+    @Transactional
+    public int applyMatchResults(Collection<MatchResult> results) {
+        Map<String, List<MatchChange>> changes = new LinkedHashMap<>();
+        Map<UUID, MatchResult> byMatch = new LinkedHashMap<>();
+        int changed = 0;
+        for (MatchResult result : results) {
+            if (result.matchId() == null) {
+                // Nothing to compare with: applied as a first result
+                addChange(changes, result.season(),
+                        new MatchChange(null, 0, Map.of(), result, contributionOf(result)));
+                changed++;
+            } else {
+                byMatch.put(result.matchId(), result);
+            }
+        }
+        if (!byMatch.isEmpty()) {
+            Map<UUID, List<Object[]>> recorded = new HashMap<>();
+            for (Object[] row : rankingEventRepository.findMatchContributions(byMatch.keySet())) {
+                recorded.computeIfAbsent((UUID) row[0], matchId -> new ArrayList<>()).add(row);
+            }
+            for (MatchResult result : byMatch.values()) {
+                if (diff(result, recorded.getOrDefault(result.matchId(), List.of()), changes)) {
+                    changed++;
+                }
+            }
+        }
+
+        changes.forEach(this::applySeasonChanges);
+        return changed;
+    }
+
+    /**
+     * Compares a result with the contribution recorded for its match and adds, per
+     * season, the entries to reverse and to add.
+     *
+     * @param recorded rows of {@link RankingEventRepository#findMatchContributions(Collection)} for the match
+     * @return false if the result is the one recorded
+     */
+    private boolean diff(MatchResult result, List<Object[]> recorded, Map<String, List<MatchChange>> changes) {
+        int revision = 0;
+        Map<String, Map<Entry, int[]>> previous = new LinkedHashMap<>();
+        for (Object[] row : recorded) {
+            revision = Math.max(revision, ((Number) row[7]).intValue() + 1);
+            RankingEventReason reason = (RankingEventReason) row[3];
+            int[] delta = { ((Number) row[4]).intValue(), ((Number) row[5]).intValue(), ((Number) row[6]).intValue() };
+            // Aces belong to the season, not to the match; reversed entries sum to zero
+            if (MATCH_REASONS.contains(reason) && (delta[0] != 0 || delta[1] != 0 || delta[2] != 0)) {
+                previous.computeIfAbsent((String) row[1], season -> new LinkedHashMap<>())
+                        .put(new Entry((UUID) row[2], reason), delta);
+            }
+        }
+
+        boolean changed = false;
+        Set<Entry> contribution = contributionOf(result);
+        Map<Entry, int[]> current = previous.getOrDefault(result.season(), Map.of());
+        Map<Entry, int[]> reversals = new LinkedHashMap<>(current);
+        reversals.keySet().removeAll(contribution);
+        Set<Entry> additions = new LinkedHashSet<>(contribution);
+        additions.removeAll(current.keySet());
+        if (!reversals.isEmpty() || !additions.isEmpty()) {
+            addChange(changes, result.season(), new MatchChange(result.matchId(), revision, reversals, result,
+                    additions));
+            changed = true;
+        }
+        // A match moved to another season leaves the old one entirely
+        for (Map.Entry<String, Map<Entry, int[]>> season : previous.entrySet()) {
+            if (!season.getKey().equals(result.season())) {
+                addChange(changes, season.getKey(),
+                        new MatchChange(result.matchId(), revision, season.getValue(), null, Set.of()));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * The entries a result contributes to the ledger, in the order their events are written.
+     */
+    private Set<Entry> contributionOf(MatchResult result) {
+        Set<Entry> entries = new LinkedHashSet<>();
+        result.winnerIds().forEach(playerId -> entries.add(new Entry(playerId, RankingEventReason.WIN)));
+        result.loserIds().forEach(playerId -> entries.add(new Entry(playerId, RankingEventReason.LOSS)));
+        if (rankingScoring.forSeason(result.season()).mvpBonus() != 0) {
+            if (result.mvpId() != null) {
+                entries.add(new Entry(result.mvpId(), RankingEventReason.MVP));
+            }
+            if (result.loserMvpId() != null) {
+                entries.add(new Entry(result.loserMvpId(), RankingEventReason.LOSER_MVP));
+            }
+        }
+        return entries;
+    }
+
+    private static void addChange(Map<String, List<MatchChange>> changes, String season, MatchChange change) {
+        changes.computeIfAbsent(season, key -> new ArrayList<>()).add(change);
+    }
+
+    private void applySeasonChanges(String season, List<MatchChange> changes) {
+        Set<UUID> playerIds = new LinkedHashSet<>();
+        for (MatchChange change : changes) {
+            change.reversals().keySet().forEach(entry -> playerIds.add(entry.playerId()));
+            if (change.result() != null) {
+                playerIds.addAll(change.result().playerIds());
+            }
+        }
+        if (playerIds.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, PlayerRanking> rankings = new HashMap<>();
+        for (PlayerRanking ranking : playerRankingRepository.findByPlayerIdInAndSeason(playerIds, season)) {
+            rankings.put(ranking.getPlayer().getId(), ranking);
+        }
+        List<PlayerRanking> createdRankings = createMissingRankings(playerIds, rankings, season);
+
+        RankingScoringStrategy scoring = rankingScoring.forSeason(season);
+        // Points of each player as the changes of the batch are applied in order
+        Map<UUID, Integer> points = new HashMap<>();
+        rankings.forEach((playerId, ranking) -> points.put(playerId, ranking.getTotalPoints()));
+
+        List<RankingEvent> events = new ArrayList<>();
+        // Pending aces belong to the season; they are credited to the last match of each player
+        Map<UUID, MatchChange> lastChangeByPlayer = new HashMap<>();
+        for (MatchChange change : changes) {
+            change.reversals().forEach((entry, delta) -> {
+                events.add(new RankingEvent(rankings.get(entry.playerId()).getPlayer(), season, change.matchId(),
+                        entry.reason(), -delta[0], -delta[1], -delta[2], change.revision()));
+                points.merge(entry.playerId(), -delta[0], Integer::sum);
+                // Aces of a deleted performance are taken back along with its match
+                lastChangeByPlayer.put(entry.playerId(), change);
+            });
+            MatchResult result = change.result();
+            if (result == null) {
+                continue;
+            }
+            RankingScoringStrategy.MatchPoints matchPoints = scoring.score(average(points, result.winnerIds()),
+                    average(points, result.loserIds()));
+            for (Entry entry : change.additions()) {
+                RankingEvent event = contributionEvent(rankings.get(entry.playerId()).getPlayer(), season,
+                        change.matchId(), entry, matchPoints, scoring, change.revision());
+                events.add(event);
+                points.merge(entry.playerId(), event.getDeltaPoints(), Integer::sum);
+            }
+            result.playerIds().forEach(playerId -> lastChangeByPlayer.put(playerId, change));
+        }
+        if (scoring.awardsAces() && !lastChangeByPlayer.isEmpty()) {
+            playerSeasonStatsService.awardPendingAces(lastChangeByPlayer.keySet(), season).forEach(
+                    (playerId, acePoints) -> {
+                        MatchChange change = lastChangeByPlayer.get(playerId);
+                        events.add(new RankingEvent(rankings.get(playerId).getPlayer(), season, change.matchId(),
+                                RankingEventReason.ACE, acePoints, 0, 0, change.revision()));
+                    });
+        }
+
+        // Positions before the update, only computed when someone is listening
+        Map<UUID, Long> positionsBefore = leaderboardEventHub.hasSubscribers(season)
+                ? leaderboardEventHub.positionsOf(season, rankings.values())
+                : null;
+        playerRankingRepository.saveAll(createdRankings);
+        rankingEventRepository.saveAll(events);
+        List<PlayerRanking> updated = playerRankingCounters.apply(season, rankings.values(), events);
+        if (positionsBefore != null) {
+            leaderboardEventHub.recordChanges(season, positionsBefore, updated);
+        }
+    }
+
+    /**
+     * The ledger event of an entry of a match contribution.
+     */
+    private static RankingEvent contributionEvent(Player player, String season, UUID matchId, Entry entry,
+            RankingScoringStrategy.MatchPoints matchPoints, RankingScoringStrategy scoring, int revision) {
+        int delta = switch (entry.reason()) {
+            case WIN -> matchPoints.winner();
+            case LOSS -> matchPoints.loser();
+            default -> scoring.mvpBonus();
+        };
+        boolean played = entry.reason() == RankingEventReason.WIN || entry.reason() == RankingEventReason.LOSS;
+        return new RankingEvent(player, season, matchId, entry.reason(), delta, played ? 1 : 0,
+                entry.reason() == RankingEventReason.WIN ? 1 : 0, revision);
+    }
+
+    private static double average(Map<UUID, Integer> points, List<UUID> playerIds) {
+        return playerIds.stream().mapToInt(points::get).average().orElse(0.0);
+    }
+
+    /**
+     * Creates (without flushing) the rankings of the players that have none in the season.
+     */
+    private List<PlayerRanking> createMissingRankings(Set<UUID> playerIds, Map<UUID, PlayerRanking> rankings,
+            String season) {
+        List<UUID> missingIds = playerIds.stream().filter(playerId -> !rankings.containsKey(playerId)).toList();
+        if (missingIds.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> existingIds = Set.copyOf(playerRepository.findExistingIds(missingIds));
+        List<PlayerRanking> createdRankings = new ArrayList<>(missingIds.size());
+        for (UUID playerId : missingIds) {
+            if (!existingIds.contains(playerId)) {
+                throw new EntityNotFoundException("Player not found with id: " + playerId);
+            }
+            PlayerRanking ranking = new PlayerRanking(playerRepository.getReferenceById(playerId), season);
+            rankings.put(playerId, ranking);
+            createdRankings.add(ranking);
+        }
+        return createdRankings;
+    }
+
     /**
      * Adds bonus points to a player in the current season (MVP, Ace, etc.).
      * 
@@ -130,6 +418,7 @@ public class PlayerRankingService {
      * @return the updated player ranking
      * @throws EntityNotFoundException if the player is not found
      */
+    @Transactional
     public PlayerRanking addBonusPoints(UUID playerId, int bonusPoints) {
         return addBonusPoints(playerId, bonusPoints, CURRENT_SEASON);
     }
@@ -143,15 +432,14 @@ public class PlayerRankingService {
      * @return the updated player ranking
      * @throws EntityNotFoundException if the player is not found
      */
+    @Transactional
     public PlayerRanking addBonusPoints(UUID playerId, int bonusPoints, String season) {
         Player player = playerRepository.findById(playerId)
                 .orElseThrow(() -> new EntityNotFoundException("Player not found with id: " + playerId));
 
         PlayerRanking ranking = getOrCreatePlayerRanking(player, season);
-        ranking.addPoints(bonusPoints);
-        ranking.setLastUpdated(LocalDateTime.now());
-        
-        return playerRankingRepository.save(ranking);
+        return record(ranking,
+                List.of(RankingEvent.bonus(player, season, null, RankingEventReason.ADMIN_BONUS, bonusPoints)));
     }
 
     /**
@@ -162,6 +450,7 @@ public class PlayerRankingService {
      * @return o ranking atualizado do jogador
      * @throws EntityNotFoundException se o jogador não for encontrado
      */
+    @Transactional
     public PlayerRanking addBonusPointsByUsername(String username, int bonusPoints) {
         return addBonusPointsByUsername(username, bonusPoints, CURRENT_SEASON);
     }
@@ -175,15 +464,14 @@ public class PlayerRankingService {
      * @return o ranking atualizado do jogador
      * @throws EntityNotFoundException se o jogador não for encontrado
      */
+    @Transactional
     public PlayerRanking addBonusPointsByUsername(String username, int bonusPoints, String season) {
         Player player = playerRepository.findByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException("Player not found with username: " + username));
 
         PlayerRanking ranking = getOrCreatePlayerRanking(player, season);
-        ranking.addPoints(bonusPoints);
-        ranking.setLastUpdated(LocalDateTime.now());
-        
-        return playerRankingRepository.save(ranking);
+        return record(ranking,
+                List.of(RankingEvent.bonus(player, season, null, RankingEventReason.ADMIN_BONUS, bonusPoints)));
     }
 
     /**
@@ -194,6 +482,7 @@ public class PlayerRankingService {
      * @return o ranking atualizado do jogador
      * @throws EntityNotFoundException se o jogador não for encontrado
      */
+    @Transactional
     public PlayerRanking updatePlayerRankingByUsername(String username, boolean isWin) {
         return updatePlayerRankingByUsername(username, isWin, CURRENT_SEASON);
     }
@@ -207,21 +496,23 @@ public class PlayerRankingService {
      * @return o ranking atualizado do jogador
      * @throws EntityNotFoundException se o jogador não for encontrado
      */
+    @Transactional
     public PlayerRanking updatePlayerRankingByUsername(String username, boolean isWin, String season) {
         Player player = playerRepository.findByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException("Player not found with username: " + username));
 
         PlayerRanking ranking = getOrCreatePlayerRanking(player, season);
-        
-        if (isWin) {
-            ranking.recordMatch(true);
-        } else {
-            ranking.recordMatch(false);
-        }
-        
-        ranking.setLastUpdated(LocalDateTime.now());
-        
-        return playerRankingRepository.save(ranking);
+        return record(ranking, List.of(RankingEvent.matchResult(player, season, null, isWin)));
+    }
+
+    /**
+     * Appends events to the ledger and adds them to the ranking they belong to.
+     *
+     * @return the ranking with the events applied
+     */
+    private PlayerRanking record(PlayerRanking ranking, List<RankingEvent> events) {
+        rankingEventRepository.saveAll(events);
+        return playerRankingCounters.apply(ranking.getSeason(), List.of(ranking), events).get(0);
     }
 
     /**
@@ -284,11 +575,61 @@ public class PlayerRankingService {
     @Transactional(readOnly = true)
     public Page<PlayerRankingResponseDTO> getSeasonLeaderboard(String season, Pageable pageable) {
         Pageable unsortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.unsorted());
-        Page<PlayerRanking> rankings = playerRankingRepository.findBySeasonOrderByTotalPointsDesc(season, unsortedPageable);
-        return rankings.map(ranking -> {
-            Long position = getPlayerPosition(ranking.getPlayer().getId(), season);
-            return new PlayerRankingResponseDTO(ranking, position);
-        });
+        return leaderboardCache.get(season, "leaderboard:" + pageable.getPageNumber() + ":" + pageable.getPageSize(),
+                () -> playerRankingRepository.findLeaderboardWithPositions(season, unsortedPageable));
+    }
+
+    /**
+     * Busca uma página do leaderboard de uma temporada com paginação por cursor (keyset).
+     * Cada página continua exatamente depois da última linha da anterior, então as linhas
+     * não se repetem nem são puladas quando rankings mudam entre as leituras, e páginas
+     * profundas custam o mesmo que a primeira.
+     * 
+     * @param season a temporada desejada
+     * @param cursor cursor retornado pela página anterior, ou null para a primeira página
+     * @param size quantidade de linhas da página (no máximo {@link #MAX_CURSOR_PAGE_SIZE})
+     * @param count se o total de rankings da temporada deve ser contado
+     * @return página com os rankings, suas posições e o cursor da próxima página
+     * @throws IllegalArgumentException se o cursor ou o tamanho da página forem inválidos
+     */
+    @Transactional(readOnly = true)
+    public LeaderboardCursorPageDTO getSeasonLeaderboardPage(String season, String cursor, int size, boolean count) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        // Uma linha a mais indica se existe próxima página
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PlayerRankingResponseDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = playerRankingRepository.findLeaderboardRows(season, limit);
+        } else {
+            LeaderboardCursor after = LeaderboardCursor.decode(cursor);
+            rows = playerRankingRepository.findLeaderboardRowsAfter(season, after.sortKey(), after.rankingId(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<PlayerRankingResponseDTO> content = new ArrayList<>(hasNext ? rows.subList(0, size) : rows);
+        fillPositions(season, content);
+
+        String nextCursor = null;
+        if (hasNext) {
+            PlayerRankingResponseDTO last = content.get(content.size() - 1);
+            nextCursor = new LeaderboardCursor(
+                    PlayerRanking.sortKeyOf(last.getTotalPoints(), last.getWinRate(), last.getMatchesWon()),
+                    last.getId()).encode();
+        }
+        Long totalElements = count ? playerRankingRepository.countBySeason(season) : null;
+        return new LeaderboardCursorPageDTO(content, nextCursor, hasNext, totalElements);
+    }
+
+    /**
+     * Busca uma página do leaderboard da temporada atual com paginação por cursor.
+     * 
+     * @see #getSeasonLeaderboardPage(String, String, int, boolean)
+     */
+    @Transactional(readOnly = true)
+    public LeaderboardCursorPageDTO getCurrentSeasonLeaderboardPage(String cursor, int size, boolean count) {
+        return getSeasonLeaderboardPage(CURRENT_SEASON, cursor, size, count);
     }
 
     /**
@@ -311,14 +652,8 @@ public class PlayerRankingService {
      */
     @Transactional(readOnly = true)
     public List<PlayerRankingResponseDTO> getTopPlayersBySeason(String season, int limit) {
-        List<PlayerRanking> rankings = playerRankingRepository.findTopPlayersBySeason(season, 
-                Pageable.ofSize(limit));
-        return rankings.stream()
-                .map(ranking -> {
-                    Long position = getPlayerPosition(ranking.getPlayer().getId(), season);
-                    return new PlayerRankingResponseDTO(ranking, position);
-                })
-                .toList();
+        return leaderboardCache.get(season, "top:" + limit,
+                () -> toLeaderboardRows(playerRankingIndex.top(season, limit)));
     }
 
     /**
@@ -346,13 +681,8 @@ public class PlayerRankingService {
                 .orElseThrow(() -> new EntityNotFoundException("Player not found with id: " + playerId));
 
         Optional<PlayerRanking> ranking = playerRankingRepository.findByPlayerAndSeason(player, season);
-        
-        if (ranking.isPresent()) {
-            Long position = getPlayerPosition(playerId, season);
-            return Optional.of(new PlayerRankingResponseDTO(ranking.get(), position));
-        }
-        
-        return Optional.empty();
+
+        return ranking.map(found -> new PlayerRankingResponseDTO(found, playerRankingIndex.position(found)));
     }
 
     /**
@@ -381,13 +711,8 @@ public class PlayerRankingService {
                 .orElseThrow(() -> new EntityNotFoundException("Player not found with username: " + username));
 
         Optional<PlayerRanking> ranking = playerRankingRepository.findByPlayerAndSeason(player, season);
-        
-        if (ranking.isPresent()) {
-            Long position = getPlayerPosition(player.getId(), season);
-            return Optional.of(new PlayerRankingResponseDTO(ranking.get(), position));
-        }
-        
-        return Optional.empty();
+
+        return ranking.map(found -> new PlayerRankingResponseDTO(found, playerRankingIndex.position(found)));
     }
 
     /**
@@ -400,18 +725,89 @@ public class PlayerRankingService {
      */
     @Transactional(readOnly = true)
     public Long getPlayerPosition(UUID playerId, String season) {
-        Optional<PlayerRanking> playerRanking = playerRankingRepository.findByPlayerAndSeason(
-                playerRepository.findById(playerId).orElse(null), season);
-        
-        if (playerRanking.isPresent()) {
-            PlayerRanking ranking = playerRanking.get();
-            return playerRankingRepository.findPlayerPosition(season, 
-                    ranking.getTotalPoints(), 
-                    ranking.getWinRate(), 
-                    ranking.getMatchesWon());
+        return playerRankingRepository.findByPlayerIdAndSeason(playerId, season)
+                .map(playerRankingIndex::position)
+                .orElse(null);
+    }
+
+    /**
+     * Busca os jogadores logo acima e logo abaixo de um jogador no ranking de uma temporada.
+     * A janela é lida do índice em memória a partir da posição do jogador, sem varrer o
+     * leaderboard.
+     * 
+     * @param playerId ID do jogador
+     * @param season temporada desejada
+     * @param radius quantidade de jogadores de cada lado (no máximo {@link #MAX_NEIGHBOR_RADIUS})
+     * @return o jogador e seus vizinhos em ordem de ranking, com as posições
+     * @throws IllegalArgumentException se o raio for inválido
+     * @throws EntityNotFoundException se o jogador não tiver ranking na temporada
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerRankingResponseDTO> getPlayerNeighbors(UUID playerId, String season, int radius) {
+        if (radius < 0 || radius > MAX_NEIGHBOR_RADIUS) {
+            throw new IllegalArgumentException("Radius must be between 0 and " + MAX_NEIGHBOR_RADIUS);
+        }
+        PlayerRanking ranking = playerRankingRepository.findByPlayerIdAndSeason(playerId, season)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Ranking not found for player " + playerId + " in season " + season));
+        return toLeaderboardRows(playerRankingIndex.around(season, ranking.getId(), radius));
+    }
+
+    /**
+     * Busca os jogadores logo acima e logo abaixo de um jogador, pelo username.
+     * 
+     * @param username username do jogador
+     * @param season temporada desejada
+     * @param radius quantidade de jogadores de cada lado
+     * @return o jogador e seus vizinhos em ordem de ranking, com as posições
+     * @throws EntityNotFoundException se o jogador não for encontrado ou não tiver ranking
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerRankingResponseDTO> getPlayerNeighborsByUsername(String username, String season, int radius) {
+        Player player = playerRepository.findByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException("Player not found with username: " + username));
+        return getPlayerNeighbors(player.getId(), season, radius);
+    }
+
+    /**
+     * Loads the rows of the given index entries in a single query and keeps the index order.
+     */
+    private List<PlayerRankingResponseDTO> toLeaderboardRows(List<PlayerRankingIndex.Entry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, PlayerRankingResponseDTO> rows = playerRankingRepository
+                .findRowsByIdIn(entries.stream().map(entry -> entry.score().rankingId()).toList())
+                .stream()
+                .collect(Collectors.toMap(PlayerRankingResponseDTO::getId, Function.identity()));
+
+        List<PlayerRankingResponseDTO> result = new ArrayList<>(entries.size());
+        for (PlayerRankingIndex.Entry entry : entries) {
+            PlayerRankingResponseDTO row = rows.get(entry.score().rankingId());
+            if (row != null) {
+                row.setPosition(entry.position());
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fills the positions of consecutive leaderboard rows from the in-memory index; rows
+     * that tie with the previous one share its position without another lookup.
+     */
+    private void fillPositions(String season, List<PlayerRankingResponseDTO> rows) {
+        RankingScore previous = null;
+        long position = 0;
+        for (PlayerRankingResponseDTO row : rows) {
+            RankingScore current = new RankingScore(row.getId(), row.getTotalPoints(), row.getWinRate(),
+                    row.getMatchesWon());
+            if (previous == null || !previous.tiesWith(current)) {
+                position = playerRankingIndex.position(season, current);
+            }
+            row.setPosition(position);
+            previous = current;
         }
-        
-        return null;
     }
 
     /**
@@ -421,7 +817,7 @@ public class PlayerRankingService {
      */
     @Transactional(readOnly = true)
     public List<String> getAvailableSeasons() {
-        return playerRankingRepository.findAllSeasons();
+        return leaderboardCache.getAcrossSeasons("seasons", playerRankingRepository::findAllSeasons);
     }
 
     /**
@@ -429,22 +825,166 @@ public class PlayerRankingService {
      * This operation removes all ranking data from the season.
      * Used for administrative purposes or season reset.
      * 
+     * The rankings are removed with bulk statements, see {@link SeasonArchiveService}.
+     * 
      * @param season season to be reset
+     * @return number of rankings removed and elapsed time
+     */
+    public SeasonOperationReportDTO resetSeasonRankings(String season) {
+        return seasonArchiveService.resetSeason(season);
+    }
+
+    /**
+     * Busca o histórico de eventos do ranking de um jogador em uma temporada, do mais antigo ao mais recente.
+     * 
+     * @param playerId ID do jogador
+     * @param season temporada desejada
+     * @return eventos do ledger que compõem o ranking do jogador
+     */
+    @Transactional(readOnly = true)
+    public List<RankingEventResponseDTO> getRankingEvents(UUID playerId, String season) {
+        return rankingEventRepository.findByPlayerIdAndSeason(playerId, season).stream()
+                .map(RankingEventResponseDTO::new)
+                .toList();
+    }
+
+    /**
+     * Reconstrói os rankings de uma temporada a partir do ledger de eventos.
+     * 
+     * @param season temporada a reconstruir
+     * @return relatório com linhas lidas, rankings gravados e vazão
+     * @see RankingRecalculationService#replaySeason(String)
      */
+    public RankingRecalculationReportDTO replaySeason(String season) {
+        return rankingRecalculationService.replaySeason(season);
+    }
+
+    /**
+     * Records the counters of rankings written before the ledger existed as an
+     * {@link RankingEventReason#OPENING_BALANCE} event, so replaying a season keeps them.
+     * Runs when the application starts; rankings that already have events are skipped.
+     *
+     * The finished matches ranked before the ledger existed are then moved out of the
+     * opening balances into contributions of their own, so saving one of them again is
+     * compared with what it already gave instead of being awarded a second time.
+     *
+     * @see #recordLegacyContributions()
+     */
+    @EventListener(ApplicationReadyEvent.class)
     @Transactional
-    public void resetSeasonRankings(String season) {
-        List<PlayerRanking> seasonRankings = playerRankingRepository.findBySeasonOrderByTotalPointsDesc(season);
-        playerRankingRepository.deleteAll(seasonRankings);
+    public void recordOpeningBalances() {
+        List<RankingEvent> events = new ArrayList<>();
+        for (PlayerRanking ranking : rankingEventRepository.findRankingsWithoutEvents()) {
+            events.add(new RankingEvent(ranking.getPlayer(), ranking.getSeason(), null,
+                    RankingEventReason.OPENING_BALANCE, valueOf(ranking.getTotalPoints()),
+                    valueOf(ranking.getMatchesPlayed()), valueOf(ranking.getMatchesWon())));
+        }
+        rankingEventRepository.saveAll(events);
+        recordLegacyContributions();
+    }
+
+    /**
+     * Records the contribution of each finished match that has no fingerprint and no
+     * event in the ledger, with the points its season scores today, and sets its
+     * fingerprint. Each contribution is taken from the opening balance of its players,
+     * so the counters of the rankings and the sums of the ledger stay the same; for
+     * strategies that depend on the match order the split is an estimate.
+     *
+     * A match with a player that has no ranking in its season was never ranked and is
+     * left as is, so its next save ranks it.
+     */
+    private void recordLegacyContributions() {
+        List<UUID> matchIds = matchRepository.findUnrankedFinishedIds();
+        if (matchIds.isEmpty()) {
+            return;
+        }
+        Map<UUID, Match> matches = matchRepository.findAllWithDetailsByIdIn(matchIds).stream()
+                .collect(Collectors.toMap(Match::getId, Function.identity()));
+        // Initializes the players of the teams loaded above
+        teamRepository.findByMatchIdsWithPlayers(matchIds);
+
+        Map<String, List<MatchResult>> resultsBySeason = new LinkedHashMap<>();
+        for (UUID matchId : matchIds) {
+            MatchResult result = MatchResult.of(matches.get(matchId));
+            resultsBySeason.computeIfAbsent(result.season(), season -> new ArrayList<>()).add(result);
+        }
+
+        List<RankingEvent> events = new ArrayList<>();
+        resultsBySeason.forEach((season, results) -> {
+            Set<UUID> playerIds = new LinkedHashSet<>();
+            results.forEach(result -> playerIds.addAll(result.playerIds()));
+            Map<UUID, PlayerRanking> rankings = new HashMap<>();
+            for (PlayerRanking ranking : playerRankingRepository.findByPlayerIdInAndSeason(playerIds, season)) {
+                rankings.put(ranking.getPlayer().getId(), ranking);
+            }
+            Map<UUID, Integer> points = new HashMap<>();
+            rankings.forEach((playerId, ranking) -> points.put(playerId, valueOf(ranking.getTotalPoints())));
+
+            RankingScoringStrategy scoring = rankingScoring.forSeason(season);
+            // Deltas [points, played, won] taken from the opening balance of each player
+            Map<UUID, int[]> balances = new LinkedHashMap<>();
+            for (MatchResult result : results) {
+                if (!rankings.keySet().containsAll(result.playerIds())) {
+                    continue;
+                }
+                RankingScoringStrategy.MatchPoints matchPoints = scoring.score(average(points, result.winnerIds()),
+                        average(points, result.loserIds()));
+                for (Entry entry : contributionOf(result)) {
+                    RankingEvent event = contributionEvent(rankings.get(entry.playerId()).getPlayer(), season,
+                            result.matchId(), entry, matchPoints, scoring, 0);
+                    events.add(event);
+                    int[] balance = balances.computeIfAbsent(entry.playerId(), playerId -> new int[3]);
+                    balance[0] -= event.getDeltaPoints();
+                    balance[1] -= event.getDeltaPlayed();
+                    balance[2] -= event.getDeltaWon();
+                }
+                matchRepository.updateRankedResult(result.matchId(), result.fingerprint());
+            }
+            balances.forEach((playerId, balance) -> events.add(new RankingEvent(rankings.get(playerId).getPlayer(),
+                    season, null, RankingEventReason.OPENING_BALANCE, balance[0], balance[1], balance[2])));
+        });
+        rankingEventRepository.saveAll(events);
+    }
+
+    private static int valueOf(Integer counter) {
+        return counter != null ? counter : 0;
     }
 
     /**
      * Recalcula todos os rankings baseado nas performances das partidas existentes.
      * Esta operação é útil para migração de dados ou correção de inconsistências.
+     * Pontos extras dados manualmente por administradores são lidos do ledger e preservados.
+     * 
+     * @return relatório por temporada com linhas lidas, rankings gravados e vazão
+     * @see RankingRecalculationService
+     */
+    public RankingRecalculationReportDTO recalculateAllRankings() {
+        return rankingRecalculationService.recalculateAll();
+    }
+
+    /**
+     * Busca o progresso do recálculo em andamento (ou do último executado).
      * 
-     * @implNote Este método ainda não foi implementado e está marcado como TODO
+     * @return progresso do recálculo
+     */
+    public RankingRecalculationProgressDTO getRecalculationProgress() {
+        return rankingRecalculationService.getProgress();
+    }
+
+    /**
+     * A player and a reason of the contribution of a match.
+     */
+    private record Entry(UUID playerId, RankingEventReason reason) {
+    }
+
+    /**
+     * What applying a result changes in one season.
+     *
+     * @param reversals recorded entries to take back, with their recorded deltas
+     * @param result the result whose additions are applied, null when the season only loses entries
+     * @param additions entries of the result that are not recorded yet
      */
-    public void recalculateAllRankings() {
-        // TODO: Implementar recálculo baseado nas partidas existentes
-        // Isso seria útil para migração de dados ou correção de inconsistências
+    private record MatchChange(UUID matchId, int revision, Map<Entry, int[]> reversals, MatchResult result,
+            Set<Entry> additions) {
     }
 }
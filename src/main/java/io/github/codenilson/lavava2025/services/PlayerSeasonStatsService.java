@@ -0,0 +1,193 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.codenilson.lavava2025.entities.PlayerPerformance;
+import io.github.codenilson.lavava2025.entities.PlayerSeasonStats;
+import io.github.codenilson.lavava2025.entities.valueobjects.PerformanceStats;
+import io.github.codenilson.lavava2025.repositories.PlayerSeasonStatsRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service that maintains the per-season totals of each player.
+ *
+ * Totals are updated incrementally: every saved performance contributes only the
+ * difference between its current counters and the ones recorded before. The rows are
+ * locked before they are changed, so concurrent saves for the same player and season
+ * are serialized instead of overwriting each other's counters. Two transactions that
+ * create the same row at once fail on its unique constraint rather than losing counters.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+@RequiredArgsConstructor
+public class PlayerSeasonStatsService {
+
+    private final PlayerSeasonStatsRepository playerSeasonStatsRepository;
+    private final SeasonPercentileSketches seasonPercentileSketches;
+
+    /**
+     * Adds the counters changed since the performance was loaded (or last recorded)
+     * to the season totals of its player. When the match was moved to another season,
+     * the counters recorded so far are taken out of the old season and all of them are
+     * added to the new one.
+     *
+     * @param performance the saved performance
+     */
+    @Transactional
+    public void record(PlayerPerformance performance) {
+        String season = performance.getMatch().getSeason();
+        String recordedSeason = performance.recordedSeason();
+        if (season.equals(recordedSeason)) {
+            add(performance, season, performance.unrecordedStats());
+        } else {
+            add(performance, recordedSeason, PerformanceStats.ZERO.minus(performance.recordedStats()));
+            add(performance, season, PerformanceStats.of(performance));
+        }
+        performance.markStatsRecorded(season);
+    }
+
+    private void add(PlayerPerformance performance, String season, PerformanceStats delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        PlayerSeasonStats stats = playerSeasonStatsRepository
+                .lockByPlayerIdAndSeason(performance.getPlayer().getId(), season)
+                .orElseGet(() -> new PlayerSeasonStats(performance.getPlayer(), season));
+        PerformanceStats before = stats.totals();
+        stats.apply(delta);
+        playerSeasonStatsRepository.save(stats);
+        seasonPercentileSketches.recordStats(season, before, stats.totals());
+    }
+
+    /**
+     * Batch version of {@link #record(PlayerPerformance)} for the performances of one
+     * match: one query loads the season totals of every player and one batch saves them.
+     * Performances of a match moved to another season are recorded one by one.
+     *
+     * @param performances the saved performances, all of the same season
+     */
+    @Transactional
+    public void recordAll(Collection<PlayerPerformance> performances) {
+        List<PlayerPerformance> changed = new ArrayList<>();
+        for (PlayerPerformance performance : performances) {
+            if (!performance.getMatch().getSeason().equals(performance.recordedSeason())) {
+                record(performance);
+            } else if (!performance.unrecordedStats().isZero()) {
+                changed.add(performance);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        String season = changed.get(0).getMatch().getSeason();
+        List<UUID> playerIds = changed.stream().map(performance -> performance.getPlayer().getId()).toList();
+        Map<UUID, PlayerSeasonStats> statsByPlayer = new HashMap<>();
+        playerSeasonStatsRepository.lockByPlayerIdInAndSeason(playerIds, season)
+                .forEach(stats -> statsByPlayer.put(stats.getPlayer().getId(), stats));
+        for (PlayerPerformance performance : changed) {
+            PlayerSeasonStats stats = statsByPlayer.computeIfAbsent(performance.getPlayer().getId(),
+                    playerId -> new PlayerSeasonStats(performance.getPlayer(), season));
+            PerformanceStats before = stats.totals();
+            stats.apply(performance.unrecordedStats());
+            performance.markStatsRecorded(season);
+            seasonPercentileSketches.recordStats(season, before, stats.totals());
+        }
+        playerSeasonStatsRepository.saveAll(statsByPlayer.values());
+    }
+
+    /**
+     * Takes the counters of deleted performances out of the season totals, with one query
+     * and one batch per season. Aces already converted into points are left pending as a
+     * negative amount, taken back the next time the player's aces are awarded.
+     *
+     * @param rows [player id, season, aces, kills, deaths, assists, matches] rows, as
+     *        summarized by {@code PlayerPerformanceRepository#summarizeByMatchIds}
+     */
+    @Transactional
+    public void removeAll(Collection<Object[]> rows) {
+        // Seasons in a fixed order, so their rows are locked in the same order by every caller
+        Map<String, Map<UUID, PerformanceStats>> removedBySeason = new TreeMap<>();
+        for (Object[] row : rows) {
+            PerformanceStats removed = new PerformanceStats(intValue(row[2]), intValue(row[3]), intValue(row[4]),
+                    intValue(row[5]), intValue(row[6]));
+            if (!removed.isZero()) {
+                removedBySeason.computeIfAbsent((String) row[1], season -> new HashMap<>())
+                        .put((UUID) row[0], removed);
+            }
+        }
+        removedBySeason.forEach((season, removedByPlayer) -> {
+            List<PlayerSeasonStats> seasonStats = playerSeasonStatsRepository
+                    .lockByPlayerIdInAndSeason(removedByPlayer.keySet(), season);
+            for (PlayerSeasonStats stats : seasonStats) {
+                PerformanceStats before = stats.totals();
+                stats.apply(PerformanceStats.ZERO.minus(removedByPlayer.get(stats.getPlayer().getId())));
+                seasonPercentileSketches.recordStats(season, before, stats.totals());
+            }
+            playerSeasonStatsRepository.saveAll(seasonStats);
+        });
+    }
+
+    private static int intValue(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    /**
+     * Total aces of a player in a season.
+     */
+    public int getTotalAces(UUID playerId, String season) {
+        return playerSeasonStatsRepository.findByPlayerIdAndSeason(playerId, season)
+                .map(PlayerSeasonStats::getAces)
+                .orElse(0);
+    }
+
+    /**
+     * Marks the player's aces of the season as awarded and returns how many ranking
+     * points they are still worth (one per ace). The row is locked first, so results
+     * committing together for the same player award each ace once.
+     */
+    @Transactional
+    public int awardPendingAces(UUID playerId, String season) {
+        return playerSeasonStatsRepository.lockByPlayerIdAndSeason(playerId, season)
+                .map(stats -> {
+                    int pending = stats.awardPendingAces();
+                    if (pending != 0) {
+                        playerSeasonStatsRepository.save(stats);
+                    }
+                    return pending;
+                })
+                .orElse(0);
+    }
+
+    /**
+     * Batch version of {@link #awardPendingAces(UUID, String)}: one query for every player.
+     *
+     * @return pending ace points by player id (players without pending aces are omitted)
+     */
+    @Transactional
+    public Map<UUID, Integer> awardPendingAces(Collection<UUID> playerIds, String season) {
+        List<PlayerSeasonStats> seasonStats = playerSeasonStatsRepository.lockByPlayerIdInAndSeason(playerIds, season);
+        Map<UUID, Integer> pendingByPlayer = new HashMap<>();
+        for (PlayerSeasonStats stats : seasonStats) {
+            int pending = stats.awardPendingAces();
+            if (pending != 0) {
+                pendingByPlayer.put(stats.getPlayer().getId(), pending);
+            }
+        }
+        if (!pendingByPlayer.isEmpty()) {
+            playerSeasonStatsRepository.saveAll(seasonStats);
+        }
+        return pendingByPlayer;
+    }
+}
@@ -0,0 +1,314 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Mergeable quantile sketch with relative accuracy, in the style of DDSketch.
+ *
+ * Values are counted in logarithmic buckets: every value is estimated within
+ * {@link #RELATIVE_ACCURACY} of its true magnitude, whatever the distribution, and the
+ * number of buckets only grows with the logarithm of the value range. Bucket counts are
+ * plain sums, so sketches merge exactly and a value can be removed again, which lets the
+ * sketch follow per-player values that change over the season.
+ *
+ * Queries read a cumulative view of the buckets that is rebuilt after a change, so a
+ * percentile rank is a single lookup and a quantile a binary search over the buckets.
+ *
+ * Not thread safe.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+public final class QuantileSketch {
+
+    /** Largest relative error of an estimated value. */
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    // Smaller magnitudes are counted as zero, larger ones are clamped
+    private static final double MIN_MAGNITUDE = 1e-6;
+    private static final double MAX_MAGNITUDE = 1e12;
+    private static final byte FORMAT = 1;
+
+    private final Buckets positive = new Buckets();
+    private final Buckets negative = new Buckets();
+    private long zeroCount;
+
+    // Cumulative counts from the most negative bucket to the most positive one, null when stale
+    private long[] cumulative;
+
+    /**
+     * Counts one occurrence of the value.
+     */
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    /**
+     * Removes one occurrence of a value added before.
+     */
+    public void remove(double value) {
+        add(value, -1);
+    }
+
+    /**
+     * Adds the value the given number of times (negative to remove it).
+     */
+    public void add(double value, long count) {
+        if (Double.isNaN(value) || count == 0) {
+            return;
+        }
+        double magnitude = Math.abs(value);
+        if (magnitude < MIN_MAGNITUDE) {
+            zeroCount += count;
+        } else if (value > 0) {
+            positive.add(index(magnitude), count);
+        } else {
+            negative.add(index(magnitude), count);
+        }
+        cumulative = null;
+    }
+
+    /**
+     * Adds every value counted by the other sketch to this one.
+     */
+    public void merge(QuantileSketch other) {
+        positive.merge(other.positive);
+        negative.merge(other.negative);
+        zeroCount += other.zeroCount;
+        cumulative = null;
+    }
+
+    /**
+     * Number of values in the sketch.
+     */
+    public long count() {
+        long[] counts = cumulative();
+        return counts.length == 0 ? 0 : counts[counts.length - 1];
+    }
+
+    public boolean isEmpty() {
+        return count() == 0;
+    }
+
+    /**
+     * Estimated value at the given quantile.
+     *
+     * @param quantile between 0 and 1
+     * @return the estimated value, NaN if the sketch is empty
+     */
+    public double quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        long[] counts = cumulative();
+        long total = counts.length == 0 ? 0 : counts[counts.length - 1];
+        if (total == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.floor(quantile * (total - 1));
+        // First bucket whose cumulative count passes the rank
+        int low = 0;
+        int high = counts.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (counts[middle] > rank) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return valueAt(low);
+    }
+
+    /**
+     * Estimated percentile rank of a value: the percentage of values below it, counting
+     * half of the values that fall in its bucket.
+     *
+     * @return between 0 and 100, NaN if the sketch is empty
+     */
+    public double percentRank(double value) {
+        long[] counts = cumulative();
+        long total = counts.length == 0 ? 0 : counts[counts.length - 1];
+        if (total == 0) {
+            return Double.NaN;
+        }
+        int zeroPosition = negative.length();
+        int position;
+        double magnitude = Math.abs(value);
+        if (magnitude < MIN_MAGNITUDE) {
+            position = zeroPosition;
+        } else if (value > 0) {
+            int offset = index(magnitude) - positive.offset;
+            if (offset >= positive.length()) {
+                return 100.0;
+            }
+            if (offset < 0) {
+                // Between zero and the smallest positive bucket
+                return 100.0 * counts[zeroPosition] / total;
+            }
+            position = zeroPosition + 1 + offset;
+        } else {
+            int offset = index(magnitude) - negative.offset;
+            if (offset >= negative.length()) {
+                return 0.0;
+            }
+            if (offset < 0) {
+                // Between the smallest negative bucket and zero
+                return zeroPosition == 0 ? 0.0 : 100.0 * counts[zeroPosition - 1] / total;
+            }
+            position = zeroPosition - 1 - offset;
+        }
+        long below = position == 0 ? 0 : counts[position - 1];
+        long same = counts[position] - below;
+        return 100.0 * (below + same / 2.0) / total;
+    }
+
+    /**
+     * Compact binary form: the non-empty buckets as delta and zig-zag encoded varints.
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(FORMAT);
+        VarInts.writeSigned(out, zeroCount);
+        positive.encode(out);
+        negative.encode(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads a sketch written by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the data is not a sketch
+     */
+    public static QuantileSketch decode(byte[] data) {
+        try {
+            ByteBuffer in = ByteBuffer.wrap(data);
+            if (in.get() != FORMAT) {
+                throw new IllegalArgumentException("Unknown quantile sketch format");
+            }
+            QuantileSketch sketch = new QuantileSketch();
+            sketch.zeroCount = VarInts.readSigned(in);
+            sketch.positive.decode(in);
+            sketch.negative.decode(in);
+            return sketch;
+        } catch (RuntimeException e) {
+            if (e instanceof IllegalArgumentException) {
+                throw e;
+            }
+            throw new IllegalArgumentException("Invalid quantile sketch", e);
+        }
+    }
+
+    private static int index(double magnitude) {
+        return (int) Math.ceil(Math.log(Math.min(magnitude, MAX_MAGNITUDE)) / LOG_GAMMA);
+    }
+
+    /**
+     * Representative value of a bucket, within the relative accuracy of every value in it.
+     */
+    private static double magnitudeOf(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+
+    /**
+     * The cumulative view lists the negative buckets from the largest magnitude down,
+     * then the zero bucket, then the positive buckets from the smallest magnitude up.
+     */
+    private long[] cumulative() {
+        if (cumulative == null) {
+            long[] counts = new long[negative.length() + 1 + positive.length()];
+            int position = 0;
+            long total = 0;
+            for (int i = negative.length() - 1; i >= 0; i--) {
+                total += Math.max(0, negative.counts[i]);
+                counts[position++] = total;
+            }
+            total += Math.max(0, zeroCount);
+            counts[position++] = total;
+            for (int i = 0; i < positive.length(); i++) {
+                total += Math.max(0, positive.counts[i]);
+                counts[position++] = total;
+            }
+            cumulative = counts;
+        }
+        return cumulative;
+    }
+
+    private double valueAt(int position) {
+        int zeroPosition = negative.length();
+        if (position == zeroPosition) {
+            return 0.0;
+        }
+        if (position > zeroPosition) {
+            return magnitudeOf(positive.offset + position - zeroPosition - 1);
+        }
+        return -magnitudeOf(negative.offset + zeroPosition - 1 - position);
+    }
+
+    /**
+     * Dense bucket counts of one sign, counts[i] holding the bucket of index offset + i.
+     */
+    private static final class Buckets {
+
+        private long[] counts = new long[0];
+        private int offset;
+
+        int length() {
+            return counts.length;
+        }
+
+        void add(int index, long count) {
+            if (counts.length == 0) {
+                counts = new long[16];
+                offset = index - 8;
+            } else if (index < offset || index >= offset + counts.length) {
+                int low = Math.min(offset, index);
+                int high = Math.max(offset + counts.length - 1, index);
+                // Grow with some room on both sides to absorb the next values
+                int slack = Math.max(8, (high - low + 1) / 2);
+                long[] grown = new long[high - low + 1 + 2 * slack];
+                int newOffset = low - slack;
+                System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+                counts = grown;
+                offset = newOffset;
+            }
+            counts[index - offset] += count;
+        }
+
+        void merge(Buckets other) {
+            for (int i = 0; i < other.counts.length; i++) {
+                if (other.counts[i] != 0) {
+                    add(other.offset + i, other.counts[i]);
+                }
+            }
+        }
+
+        void encode(ByteArrayOutputStream out) {
+            int nonEmpty = (int) Arrays.stream(counts).filter(count -> count != 0).count();
+            VarInts.writeUnsigned(out, nonEmpty);
+            int previous = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    int index = offset + i;
+                    VarInts.writeSigned(out, index - previous);
+                    VarInts.writeSigned(out, counts[i]);
+                    previous = index;
+                }
+            }
+        }
+
+        void decode(ByteBuffer in) {
+            long nonEmpty = VarInts.readUnsigned(in);
+            int index = 0;
+            for (long i = 0; i < nonEmpty; i++) {
+                index += (int) VarInts.readSigned(in);
+                add(index, VarInts.readSigned(in));
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.RankHistory;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankHistoryDTO;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.repositories.RankHistoryRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serviço do histórico diário de posição e pontos dos rankings.
+ *
+ * Uma vez por dia ({@code ranking.history.cron}) cada temporada é percorrida na ordem do
+ * {@link PlayerRankingIndex}, que já conhece a posição de cada ranking, e cada série
+ * recebe uma entrada se a posição ou os pontos mudaram desde a última. As séries da
+ * temporada são lidas e gravadas em lote, sem uma consulta por jogador.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankHistoryService {
+
+    private final RankHistoryRepository rankHistoryRepository;
+    private final PlayerRankingRepository playerRankingRepository;
+    private final PlayerRankingIndex playerRankingIndex;
+    private final PlatformTransactionManager transactionManager;
+    private final RankingProperties rankingProperties;
+
+    /**
+     * Tira o snapshot diário de todas as temporadas.
+     */
+    @Scheduled(cron = "${ranking.history.cron:0 0 4 * * *}")
+    public void scheduledSnapshot() {
+        if (!rankingProperties.getHistory().isEnabled()) {
+            return;
+        }
+        try {
+            takeSnapshots(LocalDate.now());
+        } catch (RuntimeException e) {
+            log.error("Rank history snapshot failed", e);
+        }
+    }
+
+    /**
+     * Tira o snapshot de todas as temporadas com rankings.
+     *
+     * @param date dia do snapshot
+     * @return número de entradas adicionadas
+     */
+    public int takeSnapshots(LocalDate date) {
+        int appended = 0;
+        for (String season : playerRankingRepository.findAllSeasons()) {
+            appended += takeSnapshot(season, date);
+        }
+        log.info("Rank history snapshot of {}: {} entries", date, appended);
+        return appended;
+    }
+
+    /**
+     * Adiciona a posição e os pontos do dia às séries de uma temporada. Rankings cuja
+     * posição e pontos não mudaram, ou que já têm uma entrada no dia ou depois dele,
+     * não recebem entrada.
+     *
+     * @param season temporada
+     * @param date dia do snapshot
+     * @return número de entradas adicionadas
+     */
+    public int takeSnapshot(String season, LocalDate date) {
+        Integer appended = new TransactionTemplate(transactionManager).execute(status -> {
+            Map<UUID, RankHistory> histories = new HashMap<>();
+            for (RankHistory history : rankHistoryRepository.findBySeason(season)) {
+                histories.put(history.getRankingId(), history);
+            }
+
+            List<RankHistory> changed = new ArrayList<>();
+            for (PlayerRankingIndex.Entry entry : playerRankingIndex.top(season, playerRankingIndex.size(season))) {
+                UUID rankingId = entry.score().rankingId();
+                int points = entry.score().totalPoints() == null ? 0 : entry.score().totalPoints();
+                RankHistory history = histories.get(rankingId);
+                if (history == null) {
+                    history = new RankHistory(rankingId, season, date);
+                } else if (!history.getLastDate().isBefore(date)
+                        || (history.getLastPosition() == entry.position() && history.getLastPoints() == points)) {
+                    continue;
+                }
+                append(history, date, entry.position(), points);
+                changed.add(history);
+            }
+            rankHistoryRepository.saveAll(changed);
+            return changed.size();
+        });
+        return appended == null ? 0 : appended;
+    }
+
+    /**
+     * Busca o histórico diário de um jogador em uma temporada.
+     *
+     * @param playerId ID do jogador
+     * @param season temporada desejada
+     * @return pontos da série, vazia se ainda não houve snapshot
+     * @throws EntityNotFoundException se o jogador não tem ranking na temporada
+     */
+    @Transactional(readOnly = true)
+    public RankHistoryDTO getHistory(UUID playerId, String season) {
+        PlayerRanking ranking = playerRankingRepository.findByPlayerIdAndSeason(playerId, season)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Ranking not found for player " + playerId + " in season " + season));
+        List<RankHistoryDTO.Point> points = rankHistoryRepository.findByRankingId(ranking.getId())
+                .map(RankHistoryService::decode)
+                .orElse(List.of());
+        return new RankHistoryDTO(playerId, season, points);
+    }
+
+    /**
+     * Entradas são as diferenças para a anterior (dias, posição e pontos), a primeira
+     * relativa a (startDate, 0, 0).
+     */
+    private static void append(RankHistory history, LocalDate date, long position, int points) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(history.getData().length + 3);
+        out.writeBytes(history.getData());
+        boolean first = history.getEntries() == 0;
+        LocalDate previousDate = first ? history.getStartDate() : history.getLastDate();
+        VarInts.writeSigned(out, ChronoUnit.DAYS.between(previousDate, date));
+        VarInts.writeSigned(out, position - (first ? 0 : history.getLastPosition()));
+        VarInts.writeSigned(out, (long) points - (first ? 0 : history.getLastPoints()));
+        history.append(out.toByteArray(), date, position, points);
+    }
+
+    private static List<RankHistoryDTO.Point> decode(RankHistory history) {
+        List<RankHistoryDTO.Point> points = new ArrayList<>(history.getEntries());
+        ByteBuffer in = ByteBuffer.wrap(history.getData());
+        LocalDate date = history.getStartDate();
+        long position = 0;
+        long total = 0;
+        for (int i = 0; i < history.getEntries(); i++) {
+            date = date.plusDays(VarInts.readSigned(in));
+            position += VarInts.readSigned(in);
+            total += VarInts.readSigned(in);
+            points.add(new RankHistoryDTO.Point(date, position, (int) total));
+        }
+        return points;
+    }
+}
@@ -0,0 +1,206 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import io.github.codenilson.lavava2025.entities.RankingOutboxEntry;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingOutboxStatusDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.MatchResult;
+import io.github.codenilson.lavava2025.repositories.RankingOutboxRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Transactional outbox of match results waiting to be applied to the rankings.
+ *
+ * A match result is recorded in the same transaction as the match and applied later by
+ * {@link RankingOutboxWorker}. Delivery is at least once: an entry is marked as processed
+ * in the transaction that applies it, and re-applying a result is harmless because
+ * {@link PlayerRankingService#applyMatchResults} only applies what differs from the
+ * ledger. Each entry holds the complete result of its match, so recording a newer
+ * result supersedes the pending entries of the same match, and only the oldest pending
+ * entry of a match is ever picked up: while it is retried the newer ones wait. The last
+ * result of a match (a correction, a withdrawal) is the one the rankings end up with.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+@RequiredArgsConstructor
+public class RankingOutboxService {
+
+    private final RankingOutboxRepository rankingOutboxRepository;
+    private final PlayerRankingService playerRankingService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final RankingProperties rankingProperties;
+    private final ObjectProvider<RankingOutboxWorker> rankingOutboxWorker;
+
+    private final LongAdder appliedTotal = new LongAdder();
+    private volatile int lastBatchSize;
+    private volatile long lastBatchLagMillis;
+    private volatile long lastBatchMillis;
+
+    /**
+     * Records a match result to be applied once the current transaction commits.
+     *
+     * @param result the match result
+     */
+    @Transactional
+    public void enqueue(MatchResult result) {
+        enqueueAll(List.of(result));
+    }
+
+    /**
+     * Records several match results, inserted in one JDBC batch, to be applied once the
+     * current transaction commits. Pending entries of the same matches are superseded.
+     *
+     * @param results the match results
+     */
+    @Transactional
+    public void enqueueAll(Collection<MatchResult> results) {
+        // Only the last result of each match is kept, the same way older entries are superseded
+        Map<UUID, MatchResult> latest = new LinkedHashMap<>();
+        results.forEach(result -> latest.put(result.matchId(), result));
+        rankingOutboxRepository.supersedePending(latest.keySet(), LocalDateTime.now());
+        rankingOutboxRepository.saveAll(latest.values().stream()
+                .map(result -> new RankingOutboxEntry(result.matchId(), write(result)))
+                .toList());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUpWorker();
+                }
+            });
+        } else {
+            wakeUpWorker();
+        }
+    }
+
+    /**
+     * Applies the oldest pending entries in one transaction. If the batch fails, its
+     * entries are applied one per transaction so that a bad entry only delays itself:
+     * it gets its attempt counted and is retried until it reaches the maximum attempts.
+     *
+     * @return number of entries applied
+     */
+    public int drain() {
+        long startedAt = System.nanoTime();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<UUID> batchIds;
+        try {
+            List<RankingOutboxEntry> applied = transaction.execute(status -> {
+                List<RankingOutboxEntry> entries = lockPending();
+                if (!entries.isEmpty()) {
+                    apply(entries);
+                }
+                return entries;
+            });
+            recordBatch(applied, startedAt);
+            return applied.size();
+        } catch (RuntimeException e) {
+            batchIds = transaction.execute(status -> lockPending().stream().map(RankingOutboxEntry::getId).toList());
+        }
+
+        int drained = 0;
+        for (UUID id : batchIds) {
+            try {
+                drained += transaction.execute(status -> rankingOutboxRepository.lockPendingById(id)
+                        .map(entry -> {
+                            apply(List.of(entry));
+                            return 1;
+                        })
+                        .orElse(0));
+            } catch (RuntimeException e) {
+                transaction.executeWithoutResult(status -> rankingOutboxRepository.findById(id)
+                        .ifPresent(entry -> entry.recordFailure(e.toString())));
+            }
+        }
+        appliedTotal.add(drained);
+        return drained;
+    }
+
+    /**
+     * Current size and lag of the outbox.
+     */
+    public RankingOutboxStatusDTO getStatus() {
+        int maxAttempts = rankingProperties.getOutbox().getMaxAttempts();
+        long lagMillis = rankingOutboxRepository.findOldestPendingCreatedAt(maxAttempts)
+                .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()))
+                .orElse(0L);
+        return new RankingOutboxStatusDTO(rankingProperties.getOutbox().isEnabled(),
+                rankingOutboxRepository.countPending(maxAttempts), rankingOutboxRepository.countFailed(maxAttempts),
+                lagMillis, appliedTotal.sum(), lastBatchSize, lastBatchLagMillis, lastBatchMillis);
+    }
+
+    private List<RankingOutboxEntry> lockPending() {
+        RankingProperties.Outbox outbox = rankingProperties.getOutbox();
+        return rankingOutboxRepository.lockPending(outbox.getMaxAttempts(),
+                PageRequest.of(0, Math.max(1, outbox.getBatchSize())));
+    }
+
+    private void apply(List<RankingOutboxEntry> entries) {
+        playerRankingService.applyMatchResults(entries.stream().map(this::read).toList());
+        LocalDateTime now = LocalDateTime.now();
+        entries.forEach(entry -> entry.markProcessed(now));
+    }
+
+    private void recordBatch(List<RankingOutboxEntry> entries, long startedAt) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        appliedTotal.add(entries.size());
+        lastBatchSize = entries.size();
+        lastBatchMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        entries.stream()
+                .map(RankingOutboxEntry::getCreatedAt)
+                .min(Comparator.naturalOrder())
+                .ifPresent(oldest -> lastBatchLagMillis = Duration.between(oldest, LocalDateTime.now()).toMillis());
+    }
+
+    private void wakeUpWorker() {
+        RankingOutboxWorker worker = rankingOutboxWorker.getIfAvailable();
+        if (worker != null) {
+            worker.wakeUp();
+        }
+    }
+
+    private String write(MatchResult result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Match result cannot be serialized: " + result, e);
+        }
+    }
+
+    private MatchResult read(RankingOutboxEntry entry) {
+        try {
+            return objectMapper.readValue(entry.getPayload(), MatchResult.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid ranking outbox entry " + entry.getId(), e);
+        }
+    }
+}
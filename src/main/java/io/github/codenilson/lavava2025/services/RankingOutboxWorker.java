@@ -0,0 +1,92 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background worker that drains the ranking outbox on a virtual thread.
+ *
+ * The worker drains batches while there are pending entries and then sleeps until the
+ * poll interval elapses or a committed match result wakes it up. It only runs when
+ * {@code ranking.outbox.enabled} is set.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingOutboxWorker implements SmartLifecycle {
+
+    private final RankingOutboxService rankingOutboxService;
+    private final RankingProperties rankingProperties;
+
+    private final Semaphore signal = new Semaphore(0);
+    private volatile Thread thread;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        if (!rankingProperties.getOutbox().isEnabled()) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofVirtual().name("ranking-outbox-worker").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread worker = thread;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Makes the worker drain the outbox now instead of at the end of its poll interval.
+     */
+    public void wakeUp() {
+        signal.release();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (rankingOutboxService.drain() == 0) {
+                    signal.tryAcquire(rankingProperties.getOutbox().getPollInterval().toMillis(),
+                            TimeUnit.MILLISECONDS);
+                    signal.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to drain the ranking outbox", e);
+                try {
+                    Thread.sleep(rankingProperties.getOutbox().getPollInterval().toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+}
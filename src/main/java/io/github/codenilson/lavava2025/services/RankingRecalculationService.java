@@ -0,0 +1,521 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.RankingEvent;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingRecalculationProgressDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingRecalculationReportDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingRecalculationReportDTO.SeasonReport;
+import io.github.codenilson.lavava2025.entities.valueobjects.PerformanceStats;
+import io.github.codenilson.lavava2025.errors.exceptions.RecalculationInProgressException;
+import io.github.codenilson.lavava2025.repositories.MatchRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerPerformanceRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerSeasonStatsRepository;
+import io.github.codenilson.lavava2025.repositories.RankingEventRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service that rebuilds player rankings in bulk, either from the stored matches and
+ * performances (together with the per-season totals) or by replaying the
+ * {@link RankingEvent} ledger of a season.
+ *
+ * Seasons are recalculated in parallel on a bounded {@link ForkJoinPool}. Each season
+ * streams scalar rows with a bounded fetch size into primitive per-player counters, so
+ * memory grows with the number of players and not with the number of rows, and the
+ * result is written in JDBC batches. All rows of a season are rewritten in a single
+ * transaction: readers see either the old or the new leaderboard, never a mix of both.
+ *
+ * Match points follow the scoring mode of each season (see {@link RankingScoring}): the
+ * matches are scored in one ordered pass, in creation order, so rating modes see every
+ * match in sequence. Under a rating mode the result is authoritative and may differ from
+ * the points applied live, which followed the submission order.
+ *
+ * Bonus points given manually by admins are not derived from matches, a recalculation
+ * reads them from the ledger. A recalculation does not rewrite the ledger: replaying a
+ * season afterwards restores the rankings the ledger accounts for.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Service
+@RequiredArgsConstructor
+public class RankingRecalculationService {
+
+    private static final String UPDATE_RANKING = "UPDATE player_rankings SET total_points = ?, matches_won = ?, "
+            + "matches_played = ?, win_rate = ?, sort_key = ?, last_updated = ?, updated_at = ?, version = version + 1 "
+            + "WHERE player_id = ? AND season = ?";
+    private static final String INSERT_RANKING = "INSERT INTO player_rankings (id, player_id, season, total_points, "
+            + "matches_won, matches_played, win_rate, sort_key, last_updated, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_STATS = "UPDATE player_season_stats SET aces = ?, kills = ?, deaths = ?, "
+            + "assists = ?, matches = ?, aces_awarded = ?, updated_at = ? WHERE player_id = ? AND season = ?";
+    private static final String INSERT_STATS = "INSERT INTO player_season_stats (id, player_id, season, aces, kills, "
+            + "deaths, assists, matches, aces_awarded, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final MatchRepository matchRepository;
+    private final PlayerPerformanceRepository playerPerformanceRepository;
+    private final PlayerRankingRepository playerRankingRepository;
+    private final PlayerSeasonStatsRepository playerSeasonStatsRepository;
+    private final RankingEventRepository rankingEventRepository;
+    private final PlayerRankingIndex playerRankingIndex;
+    private final SeasonPercentileSketches seasonPercentileSketches;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final RankingProperties rankingProperties;
+    private final RankingScoring rankingScoring;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicInteger seasonsDone = new AtomicInteger();
+    private final LongAdder rowsRead = new LongAdder();
+    private volatile boolean started;
+    private volatile int seasonsTotal;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    /**
+     * Recalculates the rankings of every season that has matches or rankings.
+     *
+     * @return per-season results and the overall throughput
+     * @throws RecalculationInProgressException if another recalculation is running
+     */
+    public RankingRecalculationReportDTO recalculateAll() {
+        return run(() -> {
+            TreeSet<String> seasons = new TreeSet<>(matchRepository.findAllSeasons());
+            seasons.addAll(playerRankingRepository.findAllSeasons());
+            return seasons;
+        }, this::recalculateSeason);
+    }
+
+    /**
+     * Rebuilds the rankings of a season from its ledger: the events are read in a single
+     * sequential scan and every ranking of the season is rewritten in JDBC batches.
+     * Season totals are not touched.
+     *
+     * @return the result of the season and its throughput
+     * @throws RecalculationInProgressException if another recalculation is running
+     */
+    public RankingRecalculationReportDTO replaySeason(String season) {
+        return run(() -> Set.of(season), this::replay);
+    }
+
+    /**
+     * Runs the task for every season on the bounded pool, holding the running flag.
+     * The seasons are read once the flag is held.
+     */
+    private RankingRecalculationReportDTO run(Supplier<Collection<String>> source,
+            Function<String, SeasonReport> task) {
+        if (!running.compareAndSet(false, true)) {
+            throw new RecalculationInProgressException();
+        }
+        try {
+            startedAt = System.nanoTime();
+            started = true;
+            seasonsDone.set(0);
+            rowsRead.reset();
+
+            Collection<String> seasons = source.get();
+            seasonsTotal = seasons.size();
+
+            ForkJoinPool pool = new ForkJoinPool(Math.max(1, rankingProperties.getRecalculation().getParallelism()));
+            List<SeasonReport> reports;
+            try {
+                List<ForkJoinTask<SeasonReport>> tasks = seasons.stream()
+                        .map(season -> pool.submit(() -> task.apply(season)))
+                        .toList();
+                reports = tasks.stream().map(ForkJoinTask::join).toList();
+            } finally {
+                pool.shutdown();
+            }
+
+            long elapsedNanos = System.nanoTime() - startedAt;
+            long totalRows = rowsRead.sum();
+            int rankingsWritten = reports.stream().mapToInt(SeasonReport::getRankingsWritten).sum();
+            return new RankingRecalculationReportDTO(reports, totalRows, rankingsWritten,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throughput(totalRows, elapsedNanos));
+        } finally {
+            finishedAt = System.nanoTime();
+            running.set(false);
+        }
+    }
+
+    /**
+     * Progress of the running recalculation, or of the last one if none is running.
+     */
+    public RankingRecalculationProgressDTO getProgress() {
+        if (!started) {
+            return new RankingRecalculationProgressDTO(false, 0, 0, 0, 0, 0.0);
+        }
+        boolean active = running.get();
+        long elapsedNanos = (active ? System.nanoTime() : finishedAt) - startedAt;
+        long rows = rowsRead.sum();
+        return new RankingRecalculationProgressDTO(active, seasonsTotal, seasonsDone.get(), rows,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throughput(rows, elapsedNanos));
+    }
+
+    private SeasonReport recalculateSeason(String season) {
+        long seasonStartedAt = System.nanoTime();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        SeasonReport report = transaction.execute(status -> {
+            SeasonCounters counters = new SeasonCounters();
+            long read = consume(playerRankingRepository.streamPlayerIdsBySeason(season),
+                    playerId -> counters.mark(playerId, SeasonCounters.HAS_RANKING));
+            read += consume(playerSeasonStatsRepository.streamPlayerIdsBySeason(season),
+                    playerId -> counters.mark(playerId, SeasonCounters.HAS_STATS));
+            RankingScoringStrategy scoring = rankingScoring.forSeason(season);
+            SeasonMatches matches = new SeasonMatches(counters, scoring);
+            read += consume(matchRepository.streamResultRowsBySeason(season),
+                    row -> matches.add((UUID) row[0], counters.slot((UUID) row[1]), (Boolean) row[2]));
+            matches.finish();
+            if (scoring.mvpBonus() != 0) {
+                read += consume(matchRepository.streamMvpPlayerIdsBySeason(season), playerId -> counters
+                        .add(counters.slot(playerId), SeasonCounters.POINTS, scoring.mvpBonus()));
+            }
+            read += consume(rankingEventRepository.streamAdminBonusBySeason(season), row -> counters
+                    .add(counters.slot((UUID) row[0]), SeasonCounters.POINTS, ((Number) row[1]).intValue()));
+            read += consume(playerPerformanceRepository.streamStatsBySeason(season), row -> {
+                int slot = counters.slot((UUID) row[0]);
+                counters.add(slot, SeasonCounters.ACES, (Integer) row[1]);
+                if (scoring.awardsAces()) {
+                    // Every ace is worth one point
+                    counters.add(slot, SeasonCounters.POINTS, (Integer) row[1]);
+                }
+                counters.add(slot, SeasonCounters.KILLS, (Integer) row[2]);
+                counters.add(slot, SeasonCounters.DEATHS, (Integer) row[3]);
+                counters.add(slot, SeasonCounters.ASSISTS, (Integer) row[4]);
+                counters.add(slot, SeasonCounters.MATCHES, PerformanceStats
+                        .of(valueOf(row[1]), valueOf(row[2]), valueOf(row[3]), valueOf(row[4])).matches());
+                counters.mark(slot, SeasonCounters.PERFORMED);
+            });
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int rankingsWritten = writeRankings(season, counters, now);
+            writeStats(season, counters, now);
+            return new SeasonReport(season, read, counters.countRanked(), rankingsWritten,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seasonStartedAt));
+        });
+        // The rows were rewritten behind the persistence context, reload them on next read
+        playerRankingIndex.evictSeason(season);
+        seasonPercentileSketches.evictSeason(season);
+        seasonsDone.incrementAndGet();
+        return report;
+    }
+
+    private SeasonReport replay(String season) {
+        long seasonStartedAt = System.nanoTime();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        SeasonReport report = transaction.execute(status -> {
+            SeasonCounters counters = new SeasonCounters();
+            long read = consume(playerRankingRepository.streamPlayerIdsBySeason(season),
+                    playerId -> counters.mark(playerId, SeasonCounters.HAS_RANKING));
+            read += consume(rankingEventRepository.streamDeltasBySeason(season), row -> {
+                int slot = counters.slot((UUID) row[0]);
+                counters.add(slot, SeasonCounters.POINTS, (Integer) row[1]);
+                counters.add(slot, SeasonCounters.PLAYED, (Integer) row[2]);
+                counters.add(slot, SeasonCounters.WON, (Integer) row[3]);
+            });
+
+            int rankingsWritten = writeRankings(season, counters, Timestamp.valueOf(LocalDateTime.now()));
+            return new SeasonReport(season, read, counters.countRanked(), rankingsWritten,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seasonStartedAt));
+        });
+        playerRankingIndex.evictSeason(season);
+        seasonPercentileSketches.evictSeason(season);
+        seasonsDone.incrementAndGet();
+        return report;
+    }
+
+    private int writeRankings(String season, SeasonCounters counters, Timestamp now) {
+        Batch updates = new Batch(UPDATE_RANKING);
+        Batch inserts = new Batch(INSERT_RANKING);
+        for (int slot = 0; slot < counters.size(); slot++) {
+            if (!counters.isRanked(slot)) {
+                continue;
+            }
+            int played = counters.get(slot, SeasonCounters.PLAYED);
+            int won = counters.get(slot, SeasonCounters.WON);
+            int points = counters.get(slot, SeasonCounters.POINTS);
+            double winRate = PlayerRanking.winRateOf(won, played);
+            long sortKey = PlayerRanking.sortKeyOf(points, winRate, won);
+            if (counters.has(slot, SeasonCounters.HAS_RANKING)) {
+                updates.add(points, won, played, winRate, sortKey, now, now, counters.player(slot), season);
+            } else {
+                inserts.add(UUID.randomUUID(), counters.player(slot), season, points, won, played, winRate, sortKey,
+                        now, now, now);
+            }
+        }
+        return updates.flush() + inserts.flush();
+    }
+
+    private void writeStats(String season, SeasonCounters counters, Timestamp now) {
+        Batch updates = new Batch(UPDATE_STATS);
+        Batch inserts = new Batch(INSERT_STATS);
+        for (int slot = 0; slot < counters.size(); slot++) {
+            int aces = counters.get(slot, SeasonCounters.ACES);
+            int kills = counters.get(slot, SeasonCounters.KILLS);
+            int deaths = counters.get(slot, SeasonCounters.DEATHS);
+            int assists = counters.get(slot, SeasonCounters.ASSISTS);
+            int matches = counters.get(slot, SeasonCounters.MATCHES);
+            // Every ace is part of the recalculated points, so all of them count as awarded
+            if (counters.has(slot, SeasonCounters.HAS_STATS)) {
+                updates.add(aces, kills, deaths, assists, matches, aces, now, counters.player(slot), season);
+            } else if (counters.has(slot, SeasonCounters.PERFORMED)) {
+                inserts.add(UUID.randomUUID(), counters.player(slot), season, aces, kills, deaths, assists, matches,
+                        aces, now, now);
+            }
+        }
+        updates.flush();
+        inserts.flush();
+    }
+
+    /**
+     * Feeds every row of the stream to the action and closes the stream.
+     *
+     * @return number of rows read
+     */
+    private <T> long consume(Stream<T> rows, Consumer<T> action) {
+        long count = 0;
+        try (rows) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                count++;
+                rowsRead.increment();
+            }
+        }
+        return count;
+    }
+
+    private static int valueOf(Object counter) {
+        return counter != null ? (Integer) counter : 0;
+    }
+
+    private static double throughput(long rows, long elapsedNanos) {
+        return elapsedNanos > 0 ? rows * 1_000_000_000.0 / elapsedNanos : 0.0;
+    }
+
+    /**
+     * Rows of one statement sent to the database in JDBC batches of the configured size.
+     */
+    private final class Batch {
+
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+        private int written;
+
+        private Batch(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... args) {
+            rows.add(args);
+            if (rows.size() >= rankingProperties.getRecalculation().getBatchSize()) {
+                flush();
+            }
+        }
+
+        /**
+         * Sends the pending rows.
+         *
+         * @return number of rows sent by this batch so far
+         */
+        int flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                written += rows.size();
+                rows.clear();
+            }
+            return written;
+        }
+    }
+
+    /**
+     * Scores the matches of a season in a single pass, in the order they are streamed.
+     * The players of the current match are buffered as counter slots, and once all its
+     * rows are read the match is scored from the points the teams have at that moment,
+     * so the order of the matches matters for rating modes such as ELO.
+     */
+    static final class SeasonMatches {
+
+        private final SeasonCounters counters;
+        private final RankingScoringStrategy scoring;
+        private UUID matchId;
+        private int[] winners = new int[8];
+        private int[] losers = new int[8];
+        private int winnerCount;
+        private int loserCount;
+
+        SeasonMatches(SeasonCounters counters, RankingScoringStrategy scoring) {
+            this.counters = counters;
+            this.scoring = scoring;
+        }
+
+        void add(UUID matchId, int slot, boolean won) {
+            if (!matchId.equals(this.matchId)) {
+                finish();
+                this.matchId = matchId;
+            }
+            if (won) {
+                if (winnerCount == winners.length) {
+                    winners = Arrays.copyOf(winners, winnerCount * 2);
+                }
+                winners[winnerCount++] = slot;
+            } else {
+                if (loserCount == losers.length) {
+                    losers = Arrays.copyOf(losers, loserCount * 2);
+                }
+                losers[loserCount++] = slot;
+            }
+        }
+
+        /**
+         * Scores the buffered match, if any.
+         */
+        void finish() {
+            if (winnerCount > 0 || loserCount > 0) {
+                RankingScoringStrategy.MatchPoints points = scoring.score(average(winners, winnerCount),
+                        average(losers, loserCount));
+                for (int i = 0; i < winnerCount; i++) {
+                    counters.add(winners[i], SeasonCounters.PLAYED, 1);
+                    counters.add(winners[i], SeasonCounters.WON, 1);
+                    counters.add(winners[i], SeasonCounters.POINTS, points.winner());
+                }
+                for (int i = 0; i < loserCount; i++) {
+                    counters.add(losers[i], SeasonCounters.PLAYED, 1);
+                    counters.add(losers[i], SeasonCounters.POINTS, points.loser());
+                }
+            }
+            winnerCount = 0;
+            loserCount = 0;
+        }
+
+        private double average(int[] slots, int count) {
+            if (count == 0) {
+                return 0.0;
+            }
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                total += counters.get(slots[i], SeasonCounters.POINTS);
+            }
+            return (double) total / count;
+        }
+    }
+
+    /**
+     * Per-player counters of a season stored in a single primitive array: every player
+     * gets a slot of {@link #FIELDS} ints, the last one holding bit flags.
+     */
+    static final class SeasonCounters {
+
+        static final int PLAYED = 0;
+        static final int WON = 1;
+        static final int POINTS = 2;
+        static final int ACES = 3;
+        static final int KILLS = 4;
+        static final int DEATHS = 5;
+        static final int ASSISTS = 6;
+        static final int MATCHES = 7;
+        private static final int FLAGS_FIELD = 8;
+        private static final int FIELDS = 9;
+
+        static final int HAS_RANKING = 1;
+        static final int HAS_STATS = 1 << 1;
+        static final int PERFORMED = 1 << 2;
+
+        private final Map<UUID, Integer> slots = new HashMap<>();
+        private UUID[] players = new UUID[64];
+        private int[] values = new int[64 * FIELDS];
+        private int size;
+
+        int slot(UUID playerId) {
+            Integer slot = slots.get(playerId);
+            if (slot != null) {
+                return slot;
+            }
+            if (size == players.length) {
+                players = Arrays.copyOf(players, size * 2);
+                values = Arrays.copyOf(values, size * 2 * FIELDS);
+            }
+            players[size] = playerId;
+            slots.put(playerId, size);
+            return size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        UUID player(int slot) {
+            return players[slot];
+        }
+
+        int get(int slot, int field) {
+            return values[slot * FIELDS + field];
+        }
+
+        void add(int slot, int field, Integer amount) {
+            if (amount != null) {
+                values[slot * FIELDS + field] += amount;
+            }
+        }
+
+        void mark(UUID playerId, int flag) {
+            mark(slot(playerId), flag);
+        }
+
+        void mark(int slot, int flag) {
+            values[slot * FIELDS + FLAGS_FIELD] |= flag;
+        }
+
+        boolean has(int slot, int flag) {
+            return (values[slot * FIELDS + FLAGS_FIELD] & flag) != 0;
+        }
+
+        /**
+         * Whether the player has (or must get) a ranking row in the season.
+         */
+        boolean isRanked(int slot) {
+            return has(slot, HAS_RANKING) || get(slot, PLAYED) > 0 || get(slot, POINTS) != 0;
+        }
+
+        int countRanked() {
+            int ranked = 0;
+            for (int slot = 0; slot < size; slot++) {
+                if (isRanked(slot)) {
+                    ranked++;
+                }
+            }
+            return ranked;
+        }
+    }
+}
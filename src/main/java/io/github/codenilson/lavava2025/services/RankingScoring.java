@@ -0,0 +1,43 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import io.github.codenilson.lavava2025.entities.valueobjects.ScoringMode;
+
+/**
+ * Chooses the {@link RankingScoringStrategy} of each season from {@code ranking.scoring}.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class RankingScoring {
+
+    private final RankingProperties rankingProperties;
+    private final Map<ScoringMode, RankingScoringStrategy> strategies = new EnumMap<>(ScoringMode.class);
+
+    public RankingScoring(RankingProperties rankingProperties, List<RankingScoringStrategy> strategies) {
+        this.rankingProperties = rankingProperties;
+        strategies.forEach(strategy -> this.strategies.put(strategy.mode(), strategy));
+    }
+
+    /**
+     * Strategy used to score the matches of a season.
+     *
+     * @throws IllegalStateException if no strategy implements the season's mode
+     */
+    public RankingScoringStrategy forSeason(String season) {
+        ScoringMode mode = rankingProperties.getScoring().modeOf(season);
+        RankingScoringStrategy strategy = strategies.get(mode);
+        if (strategy == null) {
+            throw new IllegalStateException("No scoring strategy for mode " + mode);
+        }
+        return strategy;
+    }
+}
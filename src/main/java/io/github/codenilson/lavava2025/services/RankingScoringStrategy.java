@@ -0,0 +1,64 @@
+package io.github.codenilson.lavava2025.services;
+
+import io.github.codenilson.lavava2025.entities.valueobjects.ScoringMode;
+
+/**
+ * Turns match results into ranking points for the seasons of one {@link ScoringMode}.
+ *
+ * A strategy only sees numbers: the average total points of each team before the
+ * match. It is used both when a single result is applied to the rankings and when a
+ * whole season is recomputed over primitive arrays.
+ *
+ * For strategies that {@link #dependsOnMatchOrder() depend on the match order} the two
+ * paths may give different points: results are applied live in the order they are
+ * submitted (the outbox order) with admin bonuses counted as they are given, while a
+ * recalculation rates the matches in creation order and adds the bonuses afterwards.
+ * The recalculation is authoritative; replaying the ledger restores the live points.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+public interface RankingScoringStrategy {
+
+    /**
+     * Points gained by every winner and by every loser of a match (losers may lose points).
+     *
+     * @param winner points of each winner
+     * @param loser points of each loser
+     */
+    record MatchPoints(int winner, int loser) {
+    }
+
+    /**
+     * Mode implemented by this strategy.
+     */
+    ScoringMode mode();
+
+    /**
+     * Points of a match given the average total points of each team before it.
+     *
+     * @param winnersAverage average total points of the winning team
+     * @param losersAverage average total points of the losing team
+     * @return points for each winner and each loser
+     */
+    MatchPoints score(double winnersAverage, double losersAverage);
+
+    /**
+     * Bonus points of the MVP of each team; 0 disables the bonus.
+     */
+    int mvpBonus();
+
+    /**
+     * Whether aces are worth ranking points (one point per ace).
+     */
+    boolean awardsAces();
+
+    /**
+     * Whether the points of a match depend on the points of the players before it, so a
+     * player's points can only be derived by scoring the whole season in order.
+     */
+    default boolean dependsOnMatchOrder() {
+        return false;
+    }
+}
@@ -0,0 +1,284 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingDriftDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingVerificationStatusDTO;
+import io.github.codenilson.lavava2025.repositories.MatchRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerPerformanceRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.repositories.RankingEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Verifies that the rankings match the recorded matches and performances.
+ *
+ * The rankings of each season are walked in chunks of {@code ranking.verifier.chunk-size}
+ * players. For every ranking, the matches played and won are counted from the finished
+ * matches, and the points are derived like a recalculation does (wins, MVPs, aces and
+ * admin bonus); seasons whose points depend on the order of the matches (ELO) only have
+ * their match counters verified. Nothing is fixed: drifted rankings are reported by
+ * {@link #getStatus()} and can be repaired with a recalculation.
+ *
+ * A checksum of the counters of each ranking and of the summaries of its inputs
+ * (finished matches, performances and ledger) is kept once the ranking is found
+ * consistent. Later runs skip the rankings whose checksum did not change, so only the
+ * players that played, were edited or drifted pay for the MVP counts and the comparison.
+ * A result or roster edit changes the match summary (count, wins and last update) of
+ * its players, so it is verified again. Checksums live in memory: the first run after
+ * a restart verifies every ranking.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingVerificationService {
+
+    private final PlayerRankingRepository playerRankingRepository;
+    private final MatchRepository matchRepository;
+    private final PlayerPerformanceRepository playerPerformanceRepository;
+    private final RankingEventRepository rankingEventRepository;
+    private final RankingScoring rankingScoring;
+    private final PlatformTransactionManager transactionManager;
+    private final RankingProperties rankingProperties;
+
+    // Checksum of every ranking id found consistent, see checksum()
+    private final Map<UUID, Long> checksums = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong checkedTotal = new AtomicLong();
+    private final AtomicLong skippedTotal = new AtomicLong();
+    private final AtomicLong driftedTotal = new AtomicLong();
+    private volatile Run lastRun;
+
+    /**
+     * Verifies every ranking of every season. Returns right away if a run is already
+     * in progress.
+     *
+     * @return the status after the run
+     */
+    public RankingVerificationStatusDTO verifyAll() {
+        if (!running.compareAndSet(false, true)) {
+            return getStatus();
+        }
+        try {
+            Run run = new Run(LocalDateTime.now(), rankingProperties.getVerifier().getMaxReportedDrifts());
+            long startedAt = System.nanoTime();
+            for (String season : playerRankingRepository.findAllSeasons()) {
+                if (!verifySeason(season, run)) {
+                    log.info("Ranking verification interrupted");
+                    return getStatus();
+                }
+            }
+            // Rankings that are gone (reset, archived) no longer need a checksum
+            checksums.keySet().retainAll(run.seen);
+            run.millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            lastRun = run;
+            runs.incrementAndGet();
+            if (run.drifted > 0) {
+                log.warn("Ranking verification found {} drifted rankings ({} checked, {} skipped)",
+                        run.drifted, run.checked, run.skipped);
+            } else {
+                log.info("Ranking verification: {} checked, {} skipped, no drift", run.checked, run.skipped);
+            }
+            return getStatus();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Counters of the verifier since the application started and the drift of the last run.
+     */
+    public RankingVerificationStatusDTO getStatus() {
+        Run run = lastRun;
+        return new RankingVerificationStatusDTO(rankingProperties.getVerifier().isEnabled(), running.get(),
+                runs.get(), run == null ? null : run.startedAt, run == null ? 0 : run.millis,
+                run == null ? 0 : run.checked, run == null ? 0 : run.skipped, run == null ? 0 : run.drifted,
+                checkedTotal.get(), skippedTotal.get(), driftedTotal.get(),
+                run == null ? List.of() : List.copyOf(run.drifts));
+    }
+
+    /**
+     * @return false if the thread was interrupted between two chunks
+     */
+    private boolean verifySeason(String season, Run run) {
+        RankingProperties.Verifier settings = rankingProperties.getVerifier();
+        RankingScoringStrategy scoring = rankingScoring.forSeason(season);
+        Pageable chunk = PageRequest.of(0, Math.max(1, settings.getChunkSize()));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        UUID after = null;
+        while (true) {
+            UUID cursor = after;
+            List<Object[]> rows = transaction.execute(status -> {
+                List<Object[]> rankings = cursor == null
+                        ? playerRankingRepository.findCounterRows(season, chunk)
+                        : playerRankingRepository.findCounterRowsAfter(season, cursor, chunk);
+                if (!rankings.isEmpty()) {
+                    verifyChunk(season, scoring, rankings, run);
+                }
+                return rankings;
+            });
+            if (rows == null || rows.size() < chunk.getPageSize()) {
+                return true;
+            }
+            after = (UUID) rows.get(rows.size() - 1)[1];
+            try {
+                Thread.sleep(settings.getChunkPause().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @param rankings [ranking id, player id, total points, matches played, matches won] rows
+     */
+    private void verifyChunk(String season, RankingScoringStrategy scoring, List<Object[]> rankings, Run run) {
+        List<UUID> playerIds = rankings.stream().map(row -> (UUID) row[1]).toList();
+        Map<UUID, Object[]> performances = byPlayer(playerPerformanceRepository.summarizeByPlayers(season, playerIds));
+        Map<UUID, Object[]> ledger = byPlayer(rankingEventRepository.summarizeByPlayers(season, playerIds));
+        Map<UUID, Object[]> results = byPlayer(matchRepository.summarizeResultsByPlayers(season, playerIds));
+
+        List<Object[]> changed = new ArrayList<>();
+        Map<UUID, Long> candidates = new HashMap<>();
+        for (Object[] ranking : rankings) {
+            UUID rankingId = (UUID) ranking[0];
+            UUID playerId = (UUID) ranking[1];
+            run.seen.add(rankingId);
+            long checksum = checksum(scoring, ranking, results.get(playerId), performances.get(playerId),
+                    ledger.get(playerId));
+            if (Long.valueOf(checksum).equals(checksums.get(rankingId))) {
+                run.skipped++;
+                skippedTotal.incrementAndGet();
+            } else {
+                changed.add(ranking);
+                candidates.put(rankingId, checksum);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        List<UUID> changedIds = changed.stream().map(row -> (UUID) row[1]).toList();
+        Map<UUID, Object[]> mvps = scoring.mvpBonus() != 0
+                ? byPlayer(matchRepository.countMvpsByPlayers(season, changedIds))
+                : Map.of();
+        RankingScoringStrategy.MatchPoints points = scoring.score(0, 0);
+        for (Object[] ranking : changed) {
+            UUID rankingId = (UUID) ranking[0];
+            UUID playerId = (UUID) ranking[1];
+            int played = column(results.get(playerId), 1);
+            int won = column(results.get(playerId), 2);
+            Integer expectedPoints = null;
+            if (!scoring.dependsOnMatchOrder()) {
+                expectedPoints = won * points.winner() + (played - won) * points.loser()
+                        + column(mvps.get(playerId), 1) * scoring.mvpBonus()
+                        + (scoring.awardsAces() ? column(performances.get(playerId), 2) : 0)
+                        + column(ledger.get(playerId), 2);
+            }
+            int actualPoints = column(ranking, 2);
+            int actualPlayed = column(ranking, 3);
+            int actualWon = column(ranking, 4);
+            run.checked++;
+            checkedTotal.incrementAndGet();
+            if (played == actualPlayed && won == actualWon
+                    && (expectedPoints == null || expectedPoints == actualPoints)) {
+                checksums.put(rankingId, candidates.get(rankingId));
+            } else {
+                // No checksum: a drifted ranking is verified again on every run
+                checksums.remove(rankingId);
+                run.drifted++;
+                driftedTotal.incrementAndGet();
+                if (run.drifts.size() < run.maxDrifts) {
+                    run.drifts.add(new RankingDriftDTO(playerId, season, expectedPoints, actualPoints, played,
+                            actualPlayed, won, actualWon));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checksum of the counters of a ranking, the summaries of its finished matches,
+     * performances and ledger and the scoring mode of the season.
+     */
+    private static long checksum(RankingScoringStrategy scoring, Object[] ranking, Object[] results,
+            Object[] performances, Object[] ledger) {
+        LocalDateTime lastResult = results == null ? null : (LocalDateTime) results[3];
+        LocalDateTime lastPerformance = performances == null ? null : (LocalDateTime) performances[3];
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 10 + Long.BYTES * 2)
+                .putInt(scoring.mode().ordinal())
+                .putInt(column(ranking, 2))
+                .putInt(column(ranking, 3))
+                .putInt(column(ranking, 4))
+                .putInt(column(results, 1))
+                .putInt(column(results, 2))
+                .putLong(lastResult == null ? 0 : lastResult.toInstant(ZoneOffset.UTC).toEpochMilli())
+                .putInt(column(performances, 1))
+                .putInt(column(performances, 2))
+                .putLong(lastPerformance == null ? 0 : lastPerformance.toInstant(ZoneOffset.UTC).toEpochMilli())
+                .putInt(column(ledger, 1))
+                .putInt(column(ledger, 2));
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.flip());
+        return crc.getValue();
+    }
+
+    private static Map<UUID, Object[]> byPlayer(Collection<Object[]> rows) {
+        Map<UUID, Object[]> byPlayer = new HashMap<>();
+        rows.forEach(row -> byPlayer.put((UUID) row[0], row));
+        return byPlayer;
+    }
+
+    private static int column(Object[] row, int index) {
+        return row == null || row[index] == null ? 0 : ((Number) row[index]).intValue();
+    }
+
+    /**
+     * Results of one run over every season.
+     */
+    private static final class Run {
+
+        private final LocalDateTime startedAt;
+        private final int maxDrifts;
+        private final List<RankingDriftDTO> drifts = new ArrayList<>();
+        private final Set<UUID> seen = new HashSet<>();
+        private long checked;
+        private long skipped;
+        private long drifted;
+        private long millis;
+
+        private Run(LocalDateTime startedAt, int maxDrifts) {
+            this.startedAt = startedAt;
+            this.maxDrifts = maxDrifts;
+        }
+    }
+}
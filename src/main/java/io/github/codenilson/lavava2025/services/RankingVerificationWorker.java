@@ -0,0 +1,96 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background worker that runs the ranking consistency verifier every
+ * {@code ranking.verifier.interval}.
+ *
+ * The worker is a daemon platform thread with the lowest priority, and the verifier
+ * pauses between chunks, so a run yields to request handling both on the CPU and on the
+ * database. It only runs when {@code ranking.verifier.enabled} is set.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingVerificationWorker implements SmartLifecycle {
+
+    private final RankingVerificationService rankingVerificationService;
+    private final RankingProperties rankingProperties;
+
+    private final Semaphore signal = new Semaphore(0);
+    private volatile Thread thread;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        if (!rankingProperties.getVerifier().isEnabled()) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform()
+                .name("ranking-verifier")
+                .daemon(true)
+                .priority(Thread.MIN_PRIORITY)
+                .start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread worker = thread;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Makes the worker start a run now instead of at the end of its interval.
+     *
+     * @return false if the worker is not running
+     */
+    public boolean wakeUp() {
+        signal.release();
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                signal.tryAcquire(rankingProperties.getVerifier().getInterval().toMillis(), TimeUnit.MILLISECONDS);
+                signal.drainPermits();
+                rankingVerificationService.verifyAll();
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.error("Ranking verification failed", e);
+            }
+        }
+    }
+}
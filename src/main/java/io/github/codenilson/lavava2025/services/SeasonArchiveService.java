@@ -0,0 +1,115 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.codenilson.lavava2025.entities.dto.ranking.SeasonOperationReportDTO;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerSeasonStatsRepository;
+import io.github.codenilson.lavava2025.repositories.RankHistoryRepository;
+import io.github.codenilson.lavava2025.repositories.RankingEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Operações em massa sobre os rankings de uma temporada: reset, arquivamento e
+ * virada de temporada.
+ *
+ * Cada operação é um número fixo de comandos SQL, independente do número de jogadores,
+ * sem carregar os rankings na memória. Os comandos não passam pelo contexto de
+ * persistência, então a temporada é removida do {@link PlayerRankingIndex} e do
+ * {@link DecayedLeaderboardService} ao final (e dos {@link SeasonPercentileSketches}
+ * quando rankings saem da temporada).
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeasonArchiveService {
+
+    private final PlayerRankingRepository playerRankingRepository;
+    private final PlayerSeasonStatsRepository playerSeasonStatsRepository;
+    private final RankingEventRepository rankingEventRepository;
+    private final RankHistoryRepository rankHistoryRepository;
+    private final PlayerRankingIndex playerRankingIndex;
+    private final SeasonPercentileSketches seasonPercentileSketches;
+    private final DecayedLeaderboardService decayedLeaderboardService;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Remove os rankings, o ledger, o histórico e os totais de desempenho de uma
+     * temporada. Com os totais some também a marca de aces já convertidos em pontos;
+     * um recálculo da temporada reconstrói os totais a partir dos desempenhos.
+     *
+     * @param season temporada a resetar
+     * @return número de rankings removidos e duração
+     */
+    public SeasonOperationReportDTO resetSeason(String season) {
+        return run(season, "reset", () -> {
+            rankingEventRepository.deleteBySeason(season);
+            rankHistoryRepository.deleteBySeason(season);
+            playerSeasonStatsRepository.deleteBySeason(season);
+            seasonPercentileSketches.evictSeason(season);
+            return playerRankingRepository.deleteBySeason(season);
+        });
+    }
+
+    /**
+     * Move os rankings de uma temporada para {@code player_rankings_archive} com um
+     * {@code INSERT ... SELECT} e um {@code DELETE} em massa. Os rankings da temporada são
+     * travados antes da cópia, então um resultado aplicado ao mesmo tempo espera o
+     * arquivamento em vez de ser apagado sem ter sido copiado. O ledger e o histórico
+     * diário da temporada são mantidos.
+     *
+     * @param season temporada a arquivar
+     * @return número de rankings arquivados e duração
+     */
+    public SeasonOperationReportDTO archiveSeason(String season) {
+        return run(season, "archive", () -> {
+            // Stored and compared back, so no finer than the column precision
+            LocalDateTime archivedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+            playerRankingRepository.lockIdsBySeason(season);
+            int archived = playerRankingRepository.archiveBySeason(season, archivedAt);
+            // Only the copied rows: a ranking created in between stays live
+            playerRankingRepository.deleteArchivedBySeason(season, archivedAt);
+            seasonPercentileSketches.evictSeason(season);
+            return archived;
+        });
+    }
+
+    /**
+     * Cria um ranking zerado na temporada para cada jogador ativo que ainda não tem um,
+     * em um único {@code INSERT ... SELECT}.
+     *
+     * @param season nova temporada
+     * @return número de rankings criados e duração
+     */
+    public SeasonOperationReportDTO rolloverSeason(String season) {
+        return run(season, "rollover",
+                () -> playerRankingRepository.createRankingsForActivePlayers(season, LocalDateTime.now()));
+    }
+
+    private SeasonOperationReportDTO run(String season, String operation, RowsOperation statements) {
+        long startedAt = System.nanoTime();
+        Integer rows = new TransactionTemplate(transactionManager).execute(status -> statements.execute());
+        // The rows were changed behind the persistence context, reload them on next read
+        playerRankingIndex.evictSeason(season);
+        decayedLeaderboardService.evictSeason(season);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("Season {} {}: {} rankings in {} ms", season, operation, rows, elapsedMillis);
+        return new SeasonOperationReportDTO(season, rows == null ? 0 : rows, elapsedMillis);
+    }
+
+    @FunctionalInterface
+    private interface RowsOperation {
+        int execute();
+    }
+}
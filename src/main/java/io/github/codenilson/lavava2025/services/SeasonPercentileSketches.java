@@ -0,0 +1,452 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import io.github.codenilson.lavava2025.entities.SeasonMetricSketch;
+import io.github.codenilson.lavava2025.entities.valueobjects.PercentileMetric;
+import io.github.codenilson.lavava2025.entities.valueobjects.PerformanceStats;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerSeasonStatsRepository;
+import io.github.codenilson.lavava2025.repositories.SeasonMetricSketchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Quantile sketches of every {@link PercentileMetric} of each season, kept up to date as
+ * rankings and season totals change.
+ *
+ * A season is loaded on first use from its persisted sketches, or rebuilt in a single
+ * streaming pass over its rankings and totals when none are stored. Every change then
+ * removes the old value of the player and adds the new one once its transaction commits.
+ * Changed seasons are written back by a virtual thread every
+ * {@code ranking.percentiles.flush-interval} and when the application stops.
+ *
+ * Committing threads never load a season nor open a transaction: they still hold their
+ * connection, so doing either could exhaust the pool under concurrent commits. A change
+ * to a season that is not loaded is dropped and the season marked stale instead: its
+ * stored sketches are deleted by the next write and it is rebuilt from its rows on next
+ * use. Nothing is kept per change for seasons nobody reads.
+ *
+ * Sketches are estimates: a change committed while its season is being rebuilt may be
+ * counted twice, and changes made since the last write are lost if the application dies.
+ * A recalculation evicts the season, which is then rebuilt from its rows.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeasonPercentileSketches implements SmartLifecycle {
+
+    private final SeasonMetricSketchRepository seasonMetricSketchRepository;
+    private final PlayerRankingRepository playerRankingRepository;
+    private final PlayerSeasonStatsRepository playerSeasonStatsRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final RankingProperties rankingProperties;
+
+    private final Map<String, SeasonSketches> seasons = new ConcurrentHashMap<>();
+    // Guards installing loaded seasons, loading and stale, held only briefly
+    private final Object loads = new Object();
+    private final Map<String, Load> loading = new HashMap<>();
+    private final Set<String> stale = new HashSet<>();
+    // Stale seasons whose stored sketches the next write deletes
+    private final Set<String> staleStored = ConcurrentHashMap.newKeySet();
+    private volatile Thread thread;
+    private volatile boolean running;
+
+    /**
+     * Sketches of one season, guarded by their own monitor.
+     */
+    private static final class SeasonSketches {
+
+        private final Map<PercentileMetric, QuantileSketch> sketches = new EnumMap<>(PercentileMetric.class);
+        private boolean dirty;
+
+        private SeasonSketches() {
+            for (PercentileMetric metric : PercentileMetric.values()) {
+                sketches.put(metric, new QuantileSketch());
+            }
+        }
+
+        private QuantileSketch get(PercentileMetric metric) {
+            return sketches.get(metric);
+        }
+    }
+
+    /**
+     * A season being loaded and the changes committed meanwhile, applied once it is loaded.
+     */
+    private static final class Load {
+
+        private final boolean rebuild;
+        private final List<Consumer<SeasonSketches>> changes = new ArrayList<>();
+
+        private Load(boolean rebuild) {
+            this.rebuild = rebuild;
+        }
+    }
+
+    /**
+     * Records a change of the points of a ranking. Rankings without a played match are
+     * not part of the distribution.
+     */
+    public void recordRanking(String season, int pointsBefore, int playedBefore, int pointsAfter, int playedAfter) {
+        if (pointsBefore == pointsAfter && (playedBefore > 0) == (playedAfter > 0)) {
+            return;
+        }
+        record(season, sketches -> {
+            QuantileSketch points = sketches.get(PercentileMetric.POINTS);
+            if (playedBefore > 0) {
+                points.remove(pointsBefore);
+            }
+            if (playedAfter > 0) {
+                points.add(pointsAfter);
+            }
+        });
+    }
+
+    /**
+     * Records a change of the season totals of a player.
+     *
+     * @param before totals before the change ({@link PerformanceStats#ZERO} for new totals)
+     * @param after totals after the change
+     */
+    public void recordStats(String season, PerformanceStats before, PerformanceStats after) {
+        if (before.equals(after)) {
+            return;
+        }
+        record(season, sketches -> {
+            for (PercentileMetric metric : PercentileMetric.STATS) {
+                if (before.matches() > 0) {
+                    sketches.get(metric).remove(metric.valueOf(before));
+                }
+                if (after.matches() > 0) {
+                    sketches.get(metric).add(metric.valueOf(after));
+                }
+            }
+        });
+    }
+
+    /**
+     * Number of players in the distribution of a metric.
+     */
+    public long count(String season, PercentileMetric metric) {
+        return read(season, metric, QuantileSketch::count);
+    }
+
+    /**
+     * Estimated value of a metric at a quantile, NaN if the distribution is empty.
+     */
+    public double quantile(String season, PercentileMetric metric, double quantile) {
+        return read(season, metric, sketch -> sketch.quantile(quantile));
+    }
+
+    /**
+     * Estimated percentile rank of a value of a metric, NaN if the distribution is empty.
+     */
+    public double percentRank(String season, PercentileMetric metric, double value) {
+        return read(season, metric, sketch -> sketch.percentRank(value));
+    }
+
+    /**
+     * Drops the sketches of a season once the current transaction commits: from memory
+     * right away and from the database on the next write. They are rebuilt from the rows
+     * of the season on next use.
+     */
+    public void evictSeason(String season) {
+        afterCommit(() -> {
+            synchronized (loads) {
+                seasons.remove(season);
+                // A load in progress may have read the old rows, it is not kept
+                loading.remove(season);
+                markStale(season);
+            }
+        });
+    }
+
+    /**
+     * Writes the changed seasons back to the database and deletes the stored sketches of
+     * stale seasons.
+     */
+    public synchronized void flush() {
+        // Deleted first, so a season rebuilt since it went stale is stored again below
+        for (String season : List.copyOf(staleStored)) {
+            staleStored.remove(season);
+            try {
+                inNewTransaction(false, () -> seasonMetricSketchRepository.deleteBySeason(season));
+            } catch (RuntimeException e) {
+                staleStored.add(season);
+                throw e;
+            }
+        }
+        for (Map.Entry<String, SeasonSketches> entry : seasons.entrySet()) {
+            SeasonSketches season = entry.getValue();
+            Map<PercentileMetric, QuantileSketch> snapshot = new EnumMap<>(PercentileMetric.class);
+            synchronized (season) {
+                if (!season.dirty || seasons.get(entry.getKey()) != season) {
+                    continue;
+                }
+                season.sketches.forEach((metric, sketch) -> snapshot.put(metric, copyOf(sketch)));
+                season.dirty = false;
+            }
+            try {
+                inNewTransaction(false, () -> {
+                    store(entry.getKey(), snapshot);
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                synchronized (season) {
+                    season.dirty = true;
+                }
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofVirtual().name("percentile-sketch-flusher").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread flusher = thread;
+        if (flusher != null) {
+            flusher.interrupt();
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to store the percentile sketches on shutdown", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                Thread.sleep(rankingProperties.getPercentiles().getFlushInterval().toMillis());
+                flush();
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to store the percentile sketches", e);
+            }
+        }
+    }
+
+    private <T> T read(String season, PercentileMetric metric, Function<QuantileSketch, T> query) {
+        SeasonSketches sketches = seasons.get(season);
+        if (sketches == null) {
+            sketches = load(season);
+        }
+        synchronized (sketches) {
+            return query.apply(sketches.get(metric));
+        }
+    }
+
+    /**
+     * Applies the change once the current transaction commits, together with the other
+     * changes of the transaction.
+     */
+    private void record(String season, Consumer<SeasonSketches> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(season, List.of(change));
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(PendingChanges.class);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(PendingChanges.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.computeIfAbsent(season, key -> new ArrayList<>()).add(change);
+    }
+
+    /**
+     * Sketch changes made by the current transaction, applied once it commits.
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final Map<String, List<Consumer<SeasonSketches>>> changes = new LinkedHashMap<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingChanges.class);
+            if (status == STATUS_COMMITTED) {
+                changes.forEach(SeasonPercentileSketches.this::apply);
+            }
+        }
+    }
+
+    /**
+     * Applies the changes to a loaded season, or queues them for a season being loaded.
+     * The changes of any other season are dropped and the season marked stale.
+     */
+    private void apply(String season, List<Consumer<SeasonSketches>> changes) {
+        SeasonSketches sketches;
+        synchronized (loads) {
+            sketches = seasons.get(season);
+            if (sketches == null) {
+                Load load = loading.get(season);
+                if (load != null) {
+                    load.changes.addAll(changes);
+                } else {
+                    markStale(season);
+                }
+                return;
+            }
+        }
+        synchronized (sketches) {
+            changes.forEach(change -> change.accept(sketches));
+            sketches.dirty = true;
+        }
+    }
+
+    private void markStale(String season) {
+        stale.add(season);
+        staleStored.add(season);
+    }
+
+    /**
+     * Loads a season outside of any lock, so committing threads never wait for it. The
+     * result is kept unless the season was evicted meanwhile.
+     */
+    private SeasonSketches load(String season) {
+        Load load;
+        synchronized (loads) {
+            SeasonSketches loaded = seasons.get(season);
+            if (loaded != null) {
+                return loaded;
+            }
+            load = loading.computeIfAbsent(season, key -> new Load(stale.remove(key)));
+        }
+        boolean rebuild = load.rebuild;
+        SeasonSketches sketches = inNewTransaction(true, () -> readSeason(season, rebuild));
+        synchronized (loads) {
+            SeasonSketches loaded = seasons.get(season);
+            if (loaded != null) {
+                return loaded;
+            }
+            if (loading.get(season) != load) {
+                return sketches;
+            }
+            loading.remove(season);
+            if (!load.changes.isEmpty()) {
+                load.changes.forEach(change -> change.accept(sketches));
+                sketches.dirty = true;
+            }
+            seasons.put(season, sketches);
+            return sketches;
+        }
+    }
+
+    private SeasonSketches readSeason(String season, boolean rebuild) {
+        SeasonSketches sketches = new SeasonSketches();
+        if (!rebuild) {
+            List<SeasonMetricSketch> stored = seasonMetricSketchRepository.findBySeason(season);
+            if (stored.size() == PercentileMetric.values().length) {
+                stored.forEach(row -> sketches.sketches.put(row.getMetric(), QuantileSketch.decode(row.getData())));
+                return sketches;
+            }
+        }
+        scan(playerRankingRepository.streamPlayedPointsBySeason(season),
+                points -> sketches.get(PercentileMetric.POINTS).add(points));
+        scan(playerSeasonStatsRepository.streamTotalsBySeason(season), row -> {
+            PerformanceStats totals = new PerformanceStats((Integer) row[0], (Integer) row[1],
+                    (Integer) row[2], (Integer) row[3], (Integer) row[4]);
+            for (PercentileMetric metric : PercentileMetric.STATS) {
+                sketches.get(metric).add(metric.valueOf(totals));
+            }
+        });
+        sketches.dirty = sketches.sketches.values().stream().anyMatch(sketch -> !sketch.isEmpty());
+        return sketches;
+    }
+
+    private void store(String season, Map<PercentileMetric, QuantileSketch> snapshot) {
+        Map<PercentileMetric, SeasonMetricSketch> rows = new EnumMap<>(PercentileMetric.class);
+        seasonMetricSketchRepository.findBySeason(season).forEach(row -> rows.put(row.getMetric(), row));
+        List<SeasonMetricSketch> changed = new ArrayList<>();
+        snapshot.forEach((metric, sketch) -> {
+            SeasonMetricSketch row = rows.computeIfAbsent(metric, key -> new SeasonMetricSketch(season, key));
+            row.update(sketch.encode(), sketch.count());
+            changed.add(row);
+        });
+        seasonMetricSketchRepository.saveAll(changed);
+    }
+
+    private static QuantileSketch copyOf(QuantileSketch sketch) {
+        QuantileSketch copy = new QuantileSketch();
+        copy.merge(sketch);
+        return copy;
+    }
+
+    private static <T> void scan(Stream<T> rows, Consumer<T> action) {
+        try (rows) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+            }
+        }
+    }
+
+    /**
+     * Runs the work in its own transaction, also when called while another one completes.
+     */
+    private <T> T inNewTransaction(boolean readOnly, Supplier<T> work) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> work.get());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
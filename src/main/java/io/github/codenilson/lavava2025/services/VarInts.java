@@ -0,0 +1,57 @@
+package io.github.codenilson.lavava2025.services;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Variable-length integer encoding used by the compact binary formats of the ranking
+ * services: 7 bits per byte, least significant group first, with zig-zag encoding so
+ * small negative numbers stay short too.
+ *
+ * @author lavava2025
+ * @version 1.0
+ * @since 2025
+ */
+final class VarInts {
+
+    private VarInts() {
+    }
+
+    /**
+     * Writes a signed value, zig-zag encoded.
+     */
+    static void writeSigned(ByteArrayOutputStream out, long value) {
+        writeUnsigned(out, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Reads a value written by {@link #writeSigned(ByteArrayOutputStream, long)}.
+     */
+    static long readSigned(ByteBuffer in) {
+        long value = readUnsigned(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void writeUnsigned(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value does not end within 64 bits
+     */
+    static long readUnsigned(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
@@ -10,6 +10,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.List;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,7 +30,10 @@ import io.github.codenilson.lavava2025.entities.Player;
 import io.github.codenilson.lavava2025.entities.Team;
 import io.github.codenilson.lavava2025.entities.ValorantMap;
 import io.github.codenilson.lavava2025.entities.dto.match.MatchCreateDTO;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchDeletionRequestDTO;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchSubmissionDTO;
 import io.github.codenilson.lavava2025.entities.dto.match.MatchUpdateDTO;
+import io.github.codenilson.lavava2025.entities.dto.playerperformance.PlayerPerformanceUpdateDTO;
 import io.github.codenilson.lavava2025.entities.valueobjects.Roles;
 import io.github.codenilson.lavava2025.repositories.MatchRepository;
 import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
@@ -159,14 +164,74 @@ public class MatchControllerTest {
         mockMvc.perform(get("/matches")
                 .with(user(playerDetails)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].map.name").value("Map1"))
-                .andExpect(jsonPath("$[1].map.name").value("Map2"))
-                .andExpect(jsonPath("$[*].playerPerformances[*]", hasSize(4)))
-                .andExpect(jsonPath("$[*].playerPerformances[*].username", containsInAnyOrder(
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[*].map.name", containsInAnyOrder("Map1", "Map2")))
+                .andExpect(jsonPath("$.content[*].playerPerformances[*]", hasSize(4)))
+                .andExpect(jsonPath("$.content[*].playerPerformances[*].username", containsInAnyOrder(
                         player1Username, player2Username, player3Username, player4Username)));
     }
 
+    @Test
+    void testFindMatchesFilteredByPlayerAndMap() throws Exception {
+        Player player3 = playerRepository.findByUsername(player3Username).orElseThrow();
+        ValorantMap map2 = valorantMapRepository.findAll().stream()
+                .filter(map -> map.getName().equals("Map2")).findFirst().orElseThrow();
+
+        mockMvc.perform(get("/matches")
+                .param("playerId", player3.getId().toString())
+                .with(user(playerDetails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].map.name").value("Map2"));
+
+        mockMvc.perform(get("/matches")
+                .param("mapId", map2.getId().toString())
+                .param("season", "2024")
+                .with(user(playerDetails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)))
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void testFindMatchesPaginatesNewestFirst() throws Exception {
+        mockMvc.perform(get("/matches")
+                .param("size", "1")
+                .param("page", "1")
+                .with(user(playerDetails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.totalPages").value(2));
+    }
+
+    @Test
+    void testFindMatchesRejectsInvertedDateRange() throws Exception {
+        mockMvc.perform(get("/matches")
+                .param("from", "2025-02-01T00:00:00")
+                .param("to", "2025-01-01T00:00:00")
+                .with(user(playerDetails)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testFindMatchesRejectsUnknownSortProperty() throws Exception {
+        mockMvc.perform(get("/matches")
+                .param("sort", "foo,asc")
+                .with(user(playerDetails)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testFindMatchesSortsBySeason() throws Exception {
+        mockMvc.perform(get("/matches")
+                .param("sort", "season,asc")
+                .with(user(playerDetails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
     @Test
     void testFindMatchById() throws Exception {
         Match match1 = matchRepository.findAll().get(0);
@@ -233,6 +298,43 @@ public class MatchControllerTest {
                 .andExpect(jsonPath("$.status").value(HttpStatus.NOT_FOUND.value()));
     }
 
+    @Test
+    void testSubmitMatchRequiresAdmin() throws Exception {
+        MatchSubmissionDTO submission = new MatchSubmissionDTO("Map1", null,
+                roster(player1Username), roster(player3Username), null, null);
+
+        mockMvc.perform(post("/matches/submissions")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsString(submission))
+                .with(user(playerDetails)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testSubmitMatchWithEmptyRoster() throws Exception {
+        MatchSubmissionDTO submission = new MatchSubmissionDTO("Map1", null,
+                roster(player1Username), new MatchSubmissionDTO.TeamSubmission(List.of()), null, null);
+
+        mockMvc.perform(post("/matches/submissions")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsString(submission))
+                .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Error"));
+    }
+
+    @Test
+    void testSubmitMatchWithMvpFromLosingTeam() throws Exception {
+        MatchSubmissionDTO submission = new MatchSubmissionDTO("Map1", null,
+                roster(player1Username), roster(player3Username), player3Username, null);
+
+        mockMvc.perform(post("/matches/submissions")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsString(submission))
+                .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testUpdateMatch() throws Exception {
         Match match1 = matchRepository.findAll().get(0);
@@ -256,4 +358,43 @@ public class MatchControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    void testBulkDeleteRequiresAdmin() throws Exception {
+        MatchDeletionRequestDTO request = new MatchDeletionRequestDTO("2025", null, null, null);
+
+        mockMvc.perform(post("/matches/deletions")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsString(request))
+                .with(user(playerDetails)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testBulkDeleteWithoutFilters() throws Exception {
+        // Sem filtros a remoção apagaria todas as partidas
+        mockMvc.perform(post("/matches/deletions")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsString(new MatchDeletionRequestDTO()))
+                .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testBulkDeleteByIds() throws Exception {
+        Match match1 = matchRepository.findAll().get(0);
+        MatchDeletionRequestDTO request = new MatchDeletionRequestDTO(null, null, null, List.of(match1.getId()));
+
+        mockMvc.perform(post("/matches/deletions")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsString(request))
+                .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matchesDeleted").value(1));
+    }
+
+
+    private static MatchSubmissionDTO.TeamSubmission roster(String username) {
+        return new MatchSubmissionDTO.TeamSubmission(List.of(new MatchSubmissionDTO.PlayerSubmission(username,
+                new PlayerPerformanceUpdateDTO(10, 10, 5, "Sova", 0))));
+    }
 }
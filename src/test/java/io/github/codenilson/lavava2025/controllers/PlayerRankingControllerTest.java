@@ -1,11 +1,21 @@
 package io.github.codenilson.lavava2025.controllers;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +25,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import io.github.codenilson.lavava2025.authentication.PlayerDetails;
 import io.github.codenilson.lavava2025.entities.Player;
@@ -22,6 +33,7 @@ import io.github.codenilson.lavava2025.entities.PlayerRanking;
 import io.github.codenilson.lavava2025.entities.valueobjects.Roles;
 import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
 import io.github.codenilson.lavava2025.repositories.PlayerRepository;
+import io.github.codenilson.lavava2025.repositories.RankingEventRepository;
 import io.github.codenilson.lavava2025.services.PlayerService;
 import io.github.codenilson.lavava2025.services.PlayerRankingService;
 
@@ -45,6 +57,9 @@ public class PlayerRankingControllerTest {
     @Autowired
     private PlayerRankingService playerRankingService;
 
+    @Autowired
+    private RankingEventRepository rankingEventRepository;
+
     private Player testPlayer;
     private PlayerRanking testRanking;
     private PlayerDetails adminPlayerDetails;
@@ -93,6 +108,7 @@ public class PlayerRankingControllerTest {
 
     @AfterEach
     public void tearDown() {
+        rankingEventRepository.deleteAll();
         playerRankingRepository.deleteAll();
         playerRepository.deleteAll();
     }
@@ -161,6 +177,73 @@ public class PlayerRankingControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    public void testGetPlayerNeighbors() throws Exception {
+        // When & Then: o testplayer lidera a temporada, então só há jogadores abaixo dele
+        mockMvc.perform(get("/rankings/player/{playerId}/neighbors?radius=1", testPlayer.getId())
+                .with(user(userPlayerDetails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].playerUsername").value("testplayer"))
+                .andExpect(jsonPath("$[0].position").value(1))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    public void testGetPlayerNeighborsByUsername_InvalidRadius() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/rankings/username/{username}/neighbors?radius=-1", "testplayer")
+                .with(user(userPlayerDetails)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testExportLeaderboardAsCsv() throws Exception {
+        // When
+        MvcResult started = mockMvc.perform(get("/rankings/export/{season}", "2025")
+                .with(user(userPlayerDetails)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"leaderboard-2025.csv\""))
+                .andReturn();
+
+        // Then: admin e user empatam com 0 pontos e dividem a segunda posição
+        List<String> lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(4, lines.size());
+        assertEquals("position,player_id,username,total_points,matches_won,matches_played,win_rate,last_updated",
+                lines.get(0));
+        assertTrue(lines.get(1).startsWith("1," + testPlayer.getId() + ",testplayer,15,5,7,0.714,"));
+        assertTrue(lines.get(2).startsWith("2,"));
+        assertTrue(lines.get(3).startsWith("2,"));
+    }
+
+    @Test
+    public void testExportLeaderboardAsGzippedNdjson() throws Exception {
+        // When
+        MvcResult started = mockMvc.perform(get("/rankings/export/{season}?format=NDJSON", "2025")
+                .header("Accept-Encoding", "gzip, deflate")
+                .with(user(userPlayerDetails)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn();
+
+        // Then
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        String body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<String> lines = body.lines().toList();
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).contains("\"playerUsername\":\"testplayer\""));
+        assertTrue(lines.get(0).contains("\"position\":1"));
+        assertTrue(lines.get(2).contains("\"position\":2"));
+    }
+
     @Test
     public void testGetAvailableSeasons() throws Exception {
         // When & Then
@@ -189,6 +272,24 @@ public class PlayerRankingControllerTest {
                 .andExpect(jsonPath("$.playerId").value(testPlayer.getId().toString()));
     }
 
+    @Test
+    public void testTopPlayersReflectBonusAfterCachedRead() throws Exception {
+        // Given: a primeira leitura fica em cache
+        mockMvc.perform(get("/rankings/top?limit=1")
+                .with(user(userPlayerDetails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].totalPoints").value(15));
+
+        // When
+        playerRankingService.addBonusPoints(testPlayer.getId(), 2, "2025");
+
+        // Then: o bônus muda a versão da temporada e a leitura seguinte não usa o cache antigo
+        mockMvc.perform(get("/rankings/top?limit=1")
+                .with(user(userPlayerDetails)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].totalPoints").value(17));
+    }
+
     @Test
     public void testAddBonusPoints_Forbidden_AsUser() throws Exception {
         // Given
@@ -0,0 +1,52 @@
+package io.github.codenilson.lavava2025.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PlayerRankingSortKeyTest {
+
+    @Test
+    void testSortKeyFollowsLeaderboardOrder() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            int pointsA = random.nextInt(200) - 20;
+            int pointsB = random.nextBoolean() ? pointsA : random.nextInt(200) - 20;
+            double rateA = random.nextInt(101) / 100.0;
+            double rateB = random.nextBoolean() ? rateA : random.nextInt(101) / 100.0;
+            int wonA = random.nextInt(100);
+            int wonB = random.nextInt(100);
+
+            int expected = pointsA != pointsB ? Integer.compare(pointsA, pointsB)
+                    : rateA != rateB ? Double.compare(rateA, rateB)
+                    : Integer.compare(wonA, wonB);
+            int actual = Long.compare(PlayerRanking.sortKeyOf(pointsA, rateA, wonA),
+                    PlayerRanking.sortKeyOf(pointsB, rateB, wonB));
+            assertEquals(Integer.signum(expected), Integer.signum(actual),
+                    pointsA + "/" + rateA + "/" + wonA + " vs " + pointsB + "/" + rateB + "/" + wonB);
+        }
+    }
+
+    @Test
+    void testSortKeyKeepsNegativePointsBelowZero() {
+        assertTrue(PlayerRanking.sortKeyOf(-1, 1.0, 50) < PlayerRanking.sortKeyOf(0, 0.0, 0));
+        assertEquals(0, PlayerRanking.sortKeyOf(0, 0.0, 0));
+        // Vitórias acima do limite empatam
+        assertEquals(PlayerRanking.sortKeyOf(3, 0.5, PlayerRanking.MAX_SORTED_MATCHES_WON),
+                PlayerRanking.sortKeyOf(3, 0.5, PlayerRanking.MAX_SORTED_MATCHES_WON + 10));
+    }
+
+    @Test
+    void testSortKeyIsUpdatedBeforeSaving() {
+        PlayerRanking ranking = new PlayerRanking(new Player("SortKeyPlayer", "password"), "2025");
+        ranking.recordMatch(true);
+        ranking.recordMatch(false);
+
+        ranking.updateSortKey();
+
+        assertEquals(PlayerRanking.sortKeyOf(3, 0.5, 1), ranking.getSortKey());
+    }
+}
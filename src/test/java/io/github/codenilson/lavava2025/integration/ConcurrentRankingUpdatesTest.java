@@ -0,0 +1,200 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.Ordered;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.valueobjects.MatchResult;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.repositories.RankingEventRepository;
+import io.github.codenilson.lavava2025.services.PlayerRankingIndex;
+import io.github.codenilson.lavava2025.services.PlayerRankingService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Garante que escritas concorrentes no mesmo ranking não perdem incrementos.
+ * Cada escritor roda na sua própria transação, por isso este teste não é
+ * transacional e remove os dados que cria.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ConcurrentRankingUpdatesTest {
+
+    private static final String SEASON = "concurrent";
+    private static final int WRITERS = 64;
+    private static final int WRITES_PER_WRITER = 5;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRankingService playerRankingService;
+
+    @Autowired
+    private PlayerRankingRepository playerRankingRepository;
+
+    @Autowired
+    private RankingEventRepository rankingEventRepository;
+
+    @Autowired
+    private PlayerRankingIndex playerRankingIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Player winner;
+    private Player loser;
+
+    @BeforeEach
+    void setUp() {
+        winner = playerService.save(new Player("ConcurrentWinner", "Test@123"));
+        loser = playerService.save(new Player("ConcurrentLoser", "Test@123"));
+        playerRankingService.getOrCreatePlayerRanking(winner, SEASON);
+        playerRankingService.getOrCreatePlayerRanking(loser, SEASON);
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<UUID> playerIds = List.of(winner.getId(), loser.getId());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM RankingEvent e WHERE e.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM PlayerRanking pr WHERE pr.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            playerIds.forEach(playerId -> entityManager.remove(entityManager.find(Player.class, playerId)));
+        });
+        playerRankingIndex.evictSeason(SEASON);
+        playerRankingIndex.evictSeason("2025");
+    }
+
+    @Test
+    void testConcurrentWritersDoNotLoseIncrements() throws Exception {
+        // Metade dos escritores dá bônus de admin, a outra metade registra partidas
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writes = new ArrayList<>();
+        try {
+            for (int writer = 0; writer < WRITERS; writer++) {
+                boolean bonusWriter = writer % 2 == 0;
+                writes.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                        if (bonusWriter) {
+                            playerRankingService.addBonusPoints(winner.getId(), 1, SEASON);
+                        } else {
+                            playerRankingService.applyMatchResult(new MatchResult(UUID.randomUUID(), SEASON,
+                                    List.of(winner.getId()), List.of(loser.getId()), null, null));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> write : writes) {
+                write.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int bonuses = WRITERS / 2 * WRITES_PER_WRITER;
+        int matches = WRITERS / 2 * WRITES_PER_WRITER;
+
+        PlayerRanking winnerRanking = ranking(winner);
+        assertEquals(bonuses + matches * PlayerRanking.POINTS_PER_WIN, winnerRanking.getTotalPoints());
+        assertEquals(matches, winnerRanking.getMatchesPlayed());
+        assertEquals(matches, winnerRanking.getMatchesWon());
+        assertEquals(1.0, winnerRanking.getWinRate(), 0.001);
+
+        PlayerRanking loserRanking = ranking(loser);
+        assertEquals(0, loserRanking.getTotalPoints());
+        assertEquals(matches, loserRanking.getMatchesPlayed());
+        assertEquals(0.0, loserRanking.getWinRate(), 0.001);
+
+        // O ledger e a projeção contam a mesma história
+        assertEquals(bonuses + matches, rankingEventRepository.findByPlayerIdAndSeason(winner.getId(), SEASON).size());
+        assertEquals(matches, rankingEventRepository.findByPlayerIdAndSeason(loser.getId(), SEASON).size());
+        assertTrue(playerRankingIndex.find(SEASON, winnerRanking.getId()).isPresent());
+        assertEquals(1L, playerRankingService.getPlayerPosition(winner.getId(), SEASON));
+    }
+
+    @Test
+    void testLateCommitCallbackDoesNotRestoreOlderScore() throws Exception {
+        // Temporada carregada, para que as mudanças sejam aplicadas ao índice
+        playerRankingIndex.top(SEASON, 1);
+        CountDownLatch firstCommitted = new CountDownLatch(1);
+        CountDownLatch secondApplied = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> first = executor.submit(() -> new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> {
+                        // Mesma ordem das mudanças do índice, mas registrado antes: roda primeiro e
+                        // segura a aplicação da primeira transação até a segunda terminar
+                        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                            @Override
+                            public int getOrder() {
+                                return Ordered.HIGHEST_PRECEDENCE;
+                            }
+
+                            @Override
+                            public void afterCompletion(int completion) {
+                                firstCommitted.countDown();
+                                await(secondApplied);
+                            }
+                        });
+                        playerRankingService.addBonusPoints(winner.getId(), 1, SEASON);
+                    }));
+            assertTrue(firstCommitted.await(1, TimeUnit.MINUTES));
+            playerRankingService.addBonusPoints(winner.getId(), 2, SEASON);
+            secondApplied.countDown();
+            first.get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // O placar antigo da primeira transação chega por último e é ignorado
+        PlayerRanking ranking = ranking(winner);
+        assertEquals(3, ranking.getTotalPoints());
+        assertEquals(3, playerRankingIndex.find(SEASON, ranking.getId()).orElseThrow().totalPoints());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private PlayerRanking ranking(Player player) {
+        return playerRankingRepository.findByPlayerIdAndSeason(player.getId(), SEASON).orElseThrow();
+    }
+}
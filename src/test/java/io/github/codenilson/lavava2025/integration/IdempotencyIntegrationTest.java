@@ -0,0 +1,192 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.codenilson.lavava2025.config.IdempotencyFilter;
+import io.github.codenilson.lavava2025.entities.ValorantMap;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchCreateDTO;
+import io.github.codenilson.lavava2025.errors.exceptions.IdempotencyKeyInProgressException;
+import io.github.codenilson.lavava2025.repositories.IdempotencyRecordRepository;
+import io.github.codenilson.lavava2025.repositories.MatchRepository;
+import io.github.codenilson.lavava2025.repositories.ValorantMapRepository;
+import io.github.codenilson.lavava2025.services.IdempotencyService;
+
+/**
+ * As chaves são gravadas fora da transação do request, por isso este teste não é
+ * transacional e remove os dados que cria.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class IdempotencyIntegrationTest {
+
+    private static final String MAP = "IdempotencyMap";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private ValorantMapRepository valorantMapRepository;
+
+    private final List<UUID> matchIds = new ArrayList<>();
+    private ValorantMap map;
+
+    @BeforeEach
+    void setUp() {
+        map = new ValorantMap();
+        map.setName(MAP);
+        map = valorantMapRepository.save(map);
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchRepository.deleteAllById(matchIds);
+        valorantMapRepository.delete(map);
+        idempotencyRecordRepository.deleteAll();
+    }
+
+    @Test
+    void testRetriedCreateIsReplayed() throws Exception {
+        String key = UUID.randomUUID().toString();
+        long before = matchRepository.count();
+
+        MvcResult first = mockMvc.perform(createMatch(MAP).header(IdempotencyFilter.HEADER, key))
+                .andExpect(status().isCreated())
+                .andReturn();
+        MvcResult retry = mockMvc.perform(createMatch(MAP).header(IdempotencyFilter.HEADER, key))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn();
+
+        assertNull(first.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(matchId(first), matchId(retry));
+        assertEquals(before + 1, matchRepository.count());
+    }
+
+    @Test
+    void testRequestsWithoutKeyOrWithDifferentKeysRunAgain() throws Exception {
+        UUID withoutKey = matchId(mockMvc.perform(createMatch(MAP)).andReturn());
+        UUID againWithoutKey = matchId(mockMvc.perform(createMatch(MAP)).andReturn());
+        UUID withKey = matchId(mockMvc.perform(createMatch(MAP).header(IdempotencyFilter.HEADER, "a")).andReturn());
+        UUID withOtherKey = matchId(mockMvc.perform(createMatch(MAP).header(IdempotencyFilter.HEADER, "b")).andReturn());
+
+        assertNotEquals(withoutKey, againWithoutKey);
+        assertNotEquals(withKey, withOtherKey);
+    }
+
+    @Test
+    void testKeyIsScopedByUser() throws Exception {
+        UUID bot = matchId(mockMvc.perform(createMatch(MAP).header(IdempotencyFilter.HEADER, "shared")).andReturn());
+        UUID other = matchId(mockMvc.perform(createMatch(MAP).header(IdempotencyFilter.HEADER, "shared")
+                .with(user("other-user"))).andReturn());
+
+        assertNotEquals(bot, other);
+    }
+
+    @Test
+    void testKeyReusedForAnotherRequestIsRejected() throws Exception {
+        String key = UUID.randomUUID().toString();
+        matchId(mockMvc.perform(createMatch(MAP).header(IdempotencyFilter.HEADER, key)).andReturn());
+
+        mockMvc.perform(createMatch("Ascent").header(IdempotencyFilter.HEADER, key))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void testErrorResponsesAreReplayed() throws Exception {
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(createMatch("NoSuchMap").header(IdempotencyFilter.HEADER, key))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(createMatch("NoSuchMap").header(IdempotencyFilter.HEADER, key))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+    }
+
+    @Test
+    void testKeyOfRunningRequestIsLocked() {
+        IdempotencyService.Claim claim = idempotencyService.claim("bot", "running", "fingerprint");
+        assertFalse(claim.isReplay());
+
+        assertThrows(IdempotencyKeyInProgressException.class,
+                () -> idempotencyService.claim("bot", "running", "fingerprint"));
+
+        // Released after a failure, the key can be claimed again
+        idempotencyService.release(claim);
+        assertFalse(idempotencyService.claim("bot", "running", "fingerprint").isReplay());
+    }
+
+    @Test
+    void testInvalidKeyIsRejected() throws Exception {
+        mockMvc.perform(createMatch(MAP).header(IdempotencyFilter.HEADER, "x".repeat(300)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testOversizedBodyIsRejectedBeforeClaimingTheKey() throws Exception {
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(post("/matches")
+                .contentType("application/json")
+                .content("{\"mapName\": \"" + "x".repeat(1024 * 1024) + "\"}")
+                .header(IdempotencyFilter.HEADER, key)
+                .with(user("bot")))
+                .andExpect(status().isPayloadTooLarge());
+
+        // A chave continua livre para o request correto
+        mockMvc.perform(createMatch(MAP).header(IdempotencyFilter.HEADER, key))
+                .andExpect(status().isCreated())
+                .andDo(result -> matchId(result));
+    }
+
+    private MockHttpServletRequestBuilder createMatch(String mapName) throws Exception {
+        return post("/matches")
+                .contentType("application/json")
+                .content(objectMapper.writeValueAsString(new MatchCreateDTO(mapName)))
+                .with(user("bot"));
+    }
+
+    private UUID matchId(MvcResult result) throws Exception {
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        UUID id = UUID.fromString(body.get("id").asText());
+        matchIds.add(id);
+        return id;
+    }
+}
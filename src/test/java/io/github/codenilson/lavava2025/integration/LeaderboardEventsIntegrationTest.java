@@ -0,0 +1,169 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankChangeDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankChangesEventDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.MatchResult;
+import io.github.codenilson.lavava2025.services.LeaderboardEventHub;
+import io.github.codenilson.lavava2025.services.PlayerRankingIndex;
+import io.github.codenilson.lavava2025.services.PlayerRankingService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import io.github.codenilson.lavava2025.services.SeasonPercentileSketches;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Os eventos são publicados depois do commit, por isso este teste não é transacional e
+ * remove os dados que cria.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class LeaderboardEventsIntegrationTest {
+
+    private static final String SEASON = "events";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRankingService playerRankingService;
+
+    @Autowired
+    private LeaderboardEventHub leaderboardEventHub;
+
+    @Autowired
+    private PlayerRankingIndex playerRankingIndex;
+
+    @Autowired
+    private SeasonPercentileSketches seasonPercentileSketches;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Player> players;
+
+    @BeforeEach
+    void setUp() {
+        players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(playerService.save(new Player("EventsPlayer" + i, "Test@123")));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<UUID> playerIds = players.stream().map(Player::getId).toList();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM RankingEvent e WHERE e.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM PlayerRanking pr WHERE pr.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            playerIds.forEach(playerId -> entityManager.remove(entityManager.find(Player.class, playerId)));
+        });
+        seasonPercentileSketches.evictSeason(SEASON);
+        playerRankingIndex.evictSeason(SEASON);
+        playerRankingIndex.evictSeason("2025");
+    }
+
+    @Test
+    void testMatchResultIsPushedAsOneEvent() throws Exception {
+        // Given: 0 (MVP) e 1 vencem 2 e 3, então as posições são 1, 2, 3 e 3
+        playerRankingService.applyMatchResult(result(0, 1, 2, 3));
+        MvcResult subscription = mockMvc.perform(get("/rankings/stream/{season}", SEASON)
+                .with(user("viewer")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertTrue(leaderboardEventHub.hasSubscribers(SEASON));
+
+        // When: 2 (MVP) e 3 vencem a revanche
+        playerRankingService.applyMatchResult(result(2, 3, 0, 1));
+
+        // Then
+        List<RankChangesEventDTO> events = awaitEvents(subscription);
+        assertEquals(1, events.size());
+        Map<UUID, RankChangeDTO> changes = events.get(0).getChanges().stream()
+                .collect(Collectors.toMap(RankChangeDTO::getPlayerId, change -> change));
+        assertEquals(4, changes.size());
+        assertChange(changes.get(players.get(0).getId()), 1L, 1L, 4);
+        assertChange(changes.get(players.get(1).getId()), 2L, 3L, 3);
+        assertChange(changes.get(players.get(2).getId()), 3L, 1L, 4);
+        assertChange(changes.get(players.get(3).getId()), 3L, 3L, 3);
+    }
+
+    @Test
+    void testSeasonWithoutSubscribers() {
+        assertFalse(leaderboardEventHub.hasSubscribers(SEASON + "-quiet"));
+    }
+
+    private List<RankChangesEventDTO> awaitEvents(MvcResult subscription) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String body = "";
+        while (System.currentTimeMillis() < deadline && !body.contains("event:rank-changes")) {
+            Thread.sleep(50);
+            body = subscription.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        // Gives a second event, if one were sent, the time to arrive
+        Thread.sleep(500);
+        body = subscription.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        List<RankChangesEventDTO> events = new ArrayList<>();
+        for (String line : body.lines().toList()) {
+            if (line.startsWith("data:")) {
+                events.add(objectMapper.readValue(line.substring("data:".length()), RankChangesEventDTO.class));
+            }
+        }
+        return events;
+    }
+
+    private static void assertChange(RankChangeDTO change, Long oldPosition, Long newPosition, int points) {
+        assertEquals(oldPosition, change.getOldPosition());
+        assertEquals(newPosition, change.getNewPosition());
+        assertEquals(points, change.getPoints());
+    }
+
+    /**
+     * Os jogadores {@code a} e {@code b} vencem {@code c} e {@code d}; {@code a} é o MVP.
+     */
+    private MatchResult result(int a, int b, int c, int d) {
+        return new MatchResult(UUID.randomUUID(), SEASON, List.of(players.get(a).getId(), players.get(b).getId()),
+                List.of(players.get(c).getId(), players.get(d).getId()), players.get(a).getId(), null);
+    }
+}
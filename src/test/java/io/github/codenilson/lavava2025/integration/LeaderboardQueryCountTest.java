@@ -0,0 +1,192 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.dto.ranking.LeaderboardCursorPageDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.services.PlayerRankingIndex;
+import io.github.codenilson.lavava2025.services.PlayerRankingService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Garante que as leituras de leaderboard custam um número fixo de statements,
+ * independente do tamanho e da profundidade da página. Os rankings são commitados
+ * antes de cada teste, porque o índice em memória só guarda dados commitados, e
+ * removidos depois dele.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class LeaderboardQueryCountTest {
+
+    private static final String SEASON = "query-count";
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRankingService playerRankingService;
+
+    @Autowired
+    private PlayerRankingRepository playerRankingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlayerRankingIndex playerRankingIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 30; i++) {
+            Player player = new Player("LeaderboardPlayer" + i, "Test@123");
+            player = playerService.save(player);
+
+            PlayerRanking ranking = playerRankingService.getOrCreatePlayerRanking(player, SEASON);
+            ranking.setTotalPoints(i % 10);
+            ranking.setMatchesPlayed(10);
+            ranking.setMatchesWon(i % 10);
+            ranking.setWinRate((i % 10) / 10.0);
+            playerRankingRepository.save(ranking);
+        }
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestTransaction.end();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM PlayerRanking pr WHERE pr.player.username LIKE 'LeaderboardPlayer%'")
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM Player p WHERE p.username LIKE 'LeaderboardPlayer%'")
+                    .executeUpdate();
+        });
+        playerRankingIndex.evictSeason(SEASON);
+        playerRankingIndex.evictSeason("2025");
+    }
+
+    @Test
+    void testLeaderboardPageCostsConstantStatements() {
+        long smallPage = countStatements(() -> playerRankingService.getSeasonLeaderboard(SEASON, PageRequest.of(0, 5)));
+        long largePage = countStatements(() -> playerRankingService.getSeasonLeaderboard(SEASON, PageRequest.of(0, 25)));
+
+        // Uma query para as linhas (com posição) e outra para o COUNT da página
+        assertEquals(2, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    void testTopPlayersCostsSingleStatement() {
+        // A primeira leitura carrega a temporada no índice em memória
+        playerRankingService.getTopPlayersBySeason(SEASON, 1);
+
+        long topFive = countStatements(() -> playerRankingService.getTopPlayersBySeason(SEASON, 5));
+        long topThirty = countStatements(() -> playerRankingService.getTopPlayersBySeason(SEASON, 30));
+
+        assertEquals(1, topFive);
+        assertEquals(topFive, topThirty);
+    }
+
+    @Test
+    void testLeaderboardPositionsMatchPositionQuery() {
+        Page<PlayerRankingResponseDTO> page = playerRankingService.getSeasonLeaderboard(SEASON, PageRequest.of(1, 7));
+
+        for (PlayerRankingResponseDTO row : page.getContent()) {
+            assertEquals(playerRankingService.getPlayerPosition(row.getPlayerId(), SEASON), row.getPosition());
+        }
+
+        List<PlayerRankingResponseDTO> top = playerRankingService.getTopPlayersBySeason(SEASON, 4);
+        // Três jogadores empatados com 9 pontos dividem a primeira posição
+        assertEquals(List.of(1L, 1L, 1L, 4L), top.stream().map(PlayerRankingResponseDTO::getPosition).toList());
+    }
+
+    @Test
+    void testCursorPagesWalkTheWholeLeaderboard() {
+        List<PlayerRankingResponseDTO> expected = playerRankingService
+                .getSeasonLeaderboard(SEASON, PageRequest.of(0, 30)).getContent();
+
+        List<PlayerRankingResponseDTO> walked = new ArrayList<>();
+        LeaderboardCursorPageDTO page = playerRankingService.getSeasonLeaderboardPage(SEASON, null, 7, true);
+        assertEquals(30L, page.getTotalElements());
+        walked.addAll(page.getContent());
+        while (page.isHasNext()) {
+            page = playerRankingService.getSeasonLeaderboardPage(SEASON, page.getNextCursor(), 7, false);
+            assertNull(page.getTotalElements());
+            walked.addAll(page.getContent());
+        }
+
+        assertNull(page.getNextCursor());
+        assertEquals(expected.stream().map(PlayerRankingResponseDTO::getId).toList(),
+                walked.stream().map(PlayerRankingResponseDTO::getId).toList());
+        assertEquals(expected.stream().map(PlayerRankingResponseDTO::getPosition).toList(),
+                walked.stream().map(PlayerRankingResponseDTO::getPosition).toList());
+    }
+
+    @Test
+    void testCursorPageCostsSingleStatementAtAnyDepth() {
+        LeaderboardCursorPageDTO first = playerRankingService.getSeasonLeaderboardPage(SEASON, null, 5, false);
+        LeaderboardCursorPageDTO deep = playerRankingService.getSeasonLeaderboardPage(SEASON, null, 25, false);
+
+        long firstPage = countStatements(() -> playerRankingService.getSeasonLeaderboardPage(SEASON, null, 5, false));
+        long deepPage = countStatements(() -> playerRankingService
+                .getSeasonLeaderboardPage(SEASON, deep.getNextCursor(), 5, false));
+
+        // Sem COUNT: só a leitura das linhas, que começa no cursor
+        assertEquals(1, firstPage);
+        assertEquals(firstPage, deepPage);
+        assertEquals(5, first.getContent().size());
+    }
+
+    @Test
+    void testInvalidCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> playerRankingService.getSeasonLeaderboardPage(SEASON, "not-a-cursor", 5, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> playerRankingService.getSeasonLeaderboardPage(SEASON, null, 0, false));
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
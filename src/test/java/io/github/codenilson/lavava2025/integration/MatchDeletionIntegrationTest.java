@@ -0,0 +1,210 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import io.github.codenilson.lavava2025.entities.Match;
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.ValorantMap;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchDeletionReportDTO;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchDeletionRequestDTO;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchSubmissionDTO;
+import io.github.codenilson.lavava2025.entities.dto.playerperformance.PlayerPerformanceUpdateDTO;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.repositories.ValorantMapRepository;
+import io.github.codenilson.lavava2025.services.MatchDeletionService;
+import io.github.codenilson.lavava2025.services.MatchService;
+import io.github.codenilson.lavava2025.services.MatchSubmissionService;
+import io.github.codenilson.lavava2025.services.PlayerSeasonStatsService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import io.github.codenilson.lavava2025.services.RankingOutboxService;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Garante que remover partidas desfaz os pontos, os totais da temporada, os times e os
+ * desempenhos delas, sem tocar nas outras partidas.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class MatchDeletionIntegrationTest {
+
+    private static final String SEASON = "deletion";
+    private static final String OTHER_SEASON = "deletion-kept";
+
+    @Autowired
+    private MatchDeletionService matchDeletionService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private MatchSubmissionService matchSubmissionService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerSeasonStatsService playerSeasonStatsService;
+
+    @Autowired
+    private RankingOutboxService rankingOutboxService;
+
+    @Autowired
+    private PlayerRankingRepository playerRankingRepository;
+
+    @Autowired
+    private ValorantMapRepository valorantMapRepository;
+
+    @Autowired
+    private RankingProperties rankingProperties;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Player> players = new ArrayList<>();
+    private final List<Match> matches = new ArrayList<>();
+    private Match otherSeasonMatch;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 10; i++) {
+            players.add(playerService.save(new Player("DeletionPlayer" + i, "Test@123")));
+        }
+        ValorantMap map = new ValorantMap();
+        map.setName("DeletionMap");
+        valorantMapRepository.save(map);
+
+        // 3 partidas na temporada e 1 em outra: 0-4 vencem 5-9, 0 é o MVP, 4 e 9 fazem um ace
+        for (int i = 0; i < 3; i++) {
+            matches.add(matchSubmissionService.submit(submission(SEASON)));
+        }
+        otherSeasonMatch = matchSubmissionService.submit(submission(OTHER_SEASON));
+        entityManager.flush();
+        entityManager.clear();
+
+        rankingProperties.getMatchDeletion().setChunkSize(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rankingProperties.getMatchDeletion().setChunkSize(100);
+        rankingProperties.getOutbox().setEnabled(false);
+    }
+
+    @Test
+    void testBulkDeleteReversesTheSeason() {
+        MatchDeletionReportDTO report = matchDeletionService.deleteMatches(
+                new MatchDeletionRequestDTO(SEASON, null, null, null));
+
+        // Then: 3 partidas em lotes de 2
+        assertEquals(3, report.getMatchesDeleted());
+        assertEquals(2, report.getChunks());
+        assertRanking(SEASON, 0, 0, 0);
+        assertRanking(SEASON, 4, 0, 0);
+        assertRanking(SEASON, 9, 0, 0);
+        assertEquals(0, playerSeasonStatsService.getTotalAces(players.get(4).getId(), SEASON));
+        assertEquals(0L, count("SELECT COUNT(m) FROM Match m WHERE m.season = '" + SEASON + "'"));
+        assertEquals(0L, count("SELECT COUNT(pp) FROM PlayerPerformance pp WHERE pp.match.season = '" + SEASON + "'"));
+        // Só o time da outra temporada continua
+        assertEquals(1L, count("SELECT COUNT(t) FROM Team t JOIN t.players p WHERE p.username = 'DeletionPlayer0'"));
+
+        // A outra temporada não muda: vitória + MVP
+        assertRanking(OTHER_SEASON, 0, 4, 1);
+        assertEquals(1, playerSeasonStatsService.getTotalAces(players.get(4).getId(), OTHER_SEASON));
+    }
+
+    @Test
+    void testFiltersAreCombined() {
+        MatchDeletionReportDTO report = matchDeletionService.deleteMatches(new MatchDeletionRequestDTO(
+                OTHER_SEASON, null, null, List.of(matches.get(0).getId(), otherSeasonMatch.getId())));
+
+        // Só a partida que está na lista e na temporada
+        assertEquals(1, report.getMatchesDeleted());
+        assertRanking(OTHER_SEASON, 0, 0, 0);
+        assertRanking(SEASON, 0, 12, 3);
+    }
+
+    @Test
+    void testDeleteByIdReversesOneMatch() {
+        matchService.deleteById(matches.get(0).getId());
+
+        // 2 de 3 partidas continuam: vitória + MVP; vitória + ace
+        assertRanking(SEASON, 0, 8, 2);
+        assertRanking(SEASON, 4, 8, 2);
+        assertRanking(SEASON, 9, 2, 2);
+        assertEquals(2, playerSeasonStatsService.getTotalAces(players.get(9).getId(), SEASON));
+    }
+
+    @Test
+    void testWithdrawalsAreEnqueuedWithOutboxEnabled() {
+        rankingProperties.getOutbox().setEnabled(true);
+
+        MatchDeletionReportDTO report = matchDeletionService.deleteMatches(
+                new MatchDeletionRequestDTO(SEASON, null, null, null));
+
+        // As partidas somem na hora, mas os pontos só saem quando o outbox é aplicado
+        assertEquals(3, report.getMatchesDeleted());
+        assertEquals(0, playerSeasonStatsService.getTotalAces(players.get(4).getId(), SEASON));
+        assertEquals(0L, count("SELECT COUNT(m) FROM Match m WHERE m.season = '" + SEASON + "'"));
+        assertRanking(SEASON, 0, 12, 3);
+        List<UUID> ids = matches.stream().map(Match::getId).toList();
+        assertEquals(3L, entityManager.createQuery("SELECT COUNT(o) FROM RankingOutboxEntry o "
+                + "WHERE o.matchId IN :ids AND o.processedAt IS NULL", Long.class)
+                .setParameter("ids", ids)
+                .getSingleResult());
+
+        rankingOutboxService.drain();
+
+        assertRanking(SEASON, 0, 0, 0);
+        assertRanking(SEASON, 9, 0, 0);
+        assertRanking(OTHER_SEASON, 0, 4, 1);
+    }
+
+    @Test
+    void testRequestWithoutFiltersIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> matchDeletionService.deleteMatches(new MatchDeletionRequestDTO(null, null, null, List.of())));
+    }
+
+    private MatchSubmissionDTO submission(String season) {
+        return new MatchSubmissionDTO("DeletionMap", season, roster(0), roster(5), players.get(0).getUsername(),
+                null);
+    }
+
+    private MatchSubmissionDTO.TeamSubmission roster(int first) {
+        List<MatchSubmissionDTO.PlayerSubmission> roster = new ArrayList<>();
+        for (int i = first; i < first + 5; i++) {
+            PlayerPerformanceUpdateDTO stats = new PlayerPerformanceUpdateDTO(10 + i, 8, 3, "Jett", i == first + 4 ? 1 : 0);
+            roster.add(new MatchSubmissionDTO.PlayerSubmission(players.get(i).getUsername(), stats));
+        }
+        return new MatchSubmissionDTO.TeamSubmission(roster);
+    }
+
+    private long count(String query) {
+        entityManager.clear();
+        return entityManager.createQuery(query, Long.class).getSingleResult();
+    }
+
+    private void assertRanking(String season, int player, int points, int played) {
+        entityManager.clear();
+        PlayerRanking ranking = playerRankingRepository.findByPlayerIdAndSeason(players.get(player).getId(), season)
+                .orElseThrow();
+        assertEquals(points, ranking.getTotalPoints());
+        assertEquals(played, ranking.getMatchesPlayed());
+    }
+}
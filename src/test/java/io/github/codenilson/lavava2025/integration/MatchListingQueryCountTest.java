@@ -0,0 +1,142 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.codenilson.lavava2025.entities.Match;
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.Team;
+import io.github.codenilson.lavava2025.entities.ValorantMap;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchFilterDTO;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchResponseDTO;
+import io.github.codenilson.lavava2025.repositories.ValorantMapRepository;
+import io.github.codenilson.lavava2025.services.MatchService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import io.github.codenilson.lavava2025.services.TeamService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Garante que uma página de partidas custa um número fixo de statements,
+ * independente do número de partidas, times e jogadores na página.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class MatchListingQueryCountTest {
+
+    private static final String SEASON = "match-listing";
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private ValorantMapRepository valorantMapRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private final List<Player> players = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 10; i++) {
+            players.add(playerService.save(new Player("ListingPlayer" + i, "Test@123")));
+        }
+        ValorantMap map = new ValorantMap();
+        map.setName("ListingMap");
+        map = valorantMapRepository.save(map);
+
+        // 12 partidas finalizadas de 5 contra 5, cada uma com MVP
+        for (int i = 0; i < 12; i++) {
+            Match match = new Match(map);
+            match.setSeason(SEASON);
+            match = matchService.save(match);
+            Team winner = team(match, players.subList(0, 5));
+            Team loser = team(match, players.subList(5, 10));
+            entityManager.flush();
+            entityManager.refresh(winner);
+            match.setWinner(winner);
+            match.setLoser(loser);
+            match.setMvp(winner.getPerformances().iterator().next());
+            matchService.save(match);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testMatchPageCostsConstantStatements() {
+        MatchFilterDTO filter = new MatchFilterDTO(SEASON, null, null, null, null);
+        long smallPage = countStatements(() -> render(matchService.findMatches(filter, PageRequest.of(0, 2))));
+        long largePage = countStatements(() -> render(matchService.findMatches(filter, PageRequest.of(0, 10))));
+
+        // Ids da página, COUNT, partidas com desempenhos e jogadores dos times
+        assertEquals(4, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    void testMatchPageIsComplete() {
+        MatchFilterDTO filter = new MatchFilterDTO(SEASON, null, players.get(0).getId(), null, null);
+        Page<MatchResponseDTO> page = matchService.findMatches(filter,
+                PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertEquals(12, page.getTotalElements());
+        assertEquals(5, page.getContent().size());
+        for (MatchResponseDTO match : page.getContent()) {
+            assertEquals(10, match.getPlayerPerformances().size());
+            assertEquals(5, match.getWinner().getPlayers().size());
+            assertEquals(5, match.getLoser().getPlayers().size());
+            assertEquals("ListingMap", match.getMap().getName());
+            assertEquals(match.getWinner().getId(), match.getMvp().getTeamId());
+        }
+    }
+
+    private Team team(Match match, List<Player> members) {
+        Team team = new Team();
+        team.setMatch(match);
+        team.getPlayers().addAll(members);
+        return teamService.createTeam(team);
+    }
+
+    // Serializa como o controller, tocando em todas as associações
+    private static void render(Page<MatchResponseDTO> page) {
+        page.getContent().forEach(MatchResponseDTO::toString);
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
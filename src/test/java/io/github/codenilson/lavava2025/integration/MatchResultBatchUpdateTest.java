@@ -0,0 +1,145 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.valueobjects.MatchResult;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.services.PlayerRankingService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Garante que aplicar o resultado de uma partida custa um número fixo de statements,
+ * independente do tamanho dos times.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class MatchResultBatchUpdateTest {
+
+    private static final String SEASON = "batch-update";
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRankingService playerRankingService;
+
+    @Autowired
+    private PlayerRankingRepository playerRankingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<UUID> playerIds;
+
+    @BeforeEach
+    void setUp() {
+        playerIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Player player = playerService.save(new Player("BatchPlayer" + i, "Test@123"));
+            playerIds.add(player.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testMatchResultCostsConstantStatements() {
+        // Given: todos os jogadores já têm ranking na temporada
+        playerRankingService.applyMatchResult(result(5, null));
+        entityManager.flush();
+
+        // When
+        long smallMatch = countStatements(() -> playerRankingService.applyMatchResult(result(2, null)));
+        long largeMatch = countStatements(() -> playerRankingService.applyMatchResult(result(5, null)));
+
+        // Then: checagem do ledger, busca dos rankings e dos totais da temporada, insert em lote
+        // dos eventos e releitura dos rankings (os incrementos vão em um lote JDBC à parte)
+        assertEquals(5, smallMatch);
+        assertEquals(smallMatch, largeMatch);
+    }
+
+    @Test
+    void testMissingRankingsAreCreatedInBatch() {
+        // When
+        long statements = countStatements(() -> playerRankingService.applyMatchResult(result(5, playerIds.get(0))));
+
+        // Then: checagem do ledger, buscas de rankings, jogadores e totais, inserts em lote
+        // dos rankings e dos eventos e releitura dos rankings
+        assertEquals(7, statements);
+        assertEquals(10, playerRankingRepository.findScoresBySeason(SEASON).size());
+
+        PlayerRanking mvp = playerRankingRepository.findByPlayerIdAndSeason(playerIds.get(0), SEASON).orElseThrow();
+        assertEquals(4, mvp.getTotalPoints()); // 3 pela vitória + 1 de MVP
+        assertEquals(1, mvp.getMatchesWon());
+
+        PlayerRanking loser = playerRankingRepository.findByPlayerIdAndSeason(playerIds.get(9), SEASON).orElseThrow();
+        assertEquals(0, loser.getTotalPoints());
+        assertEquals(1, loser.getMatchesPlayed());
+    }
+
+    @Test
+    void testDuplicateMatchResultIsRejected() {
+        MatchResult result = result(5, playerIds.get(0));
+        assertTrue(playerRankingService.applyMatchResult(result));
+        entityManager.flush();
+
+        long statements = countStatements(() -> assertFalse(playerRankingService.applyMatchResult(result)));
+
+        // Apenas a checagem do ledger é executada e os rankings não mudam
+        assertEquals(1, statements);
+        PlayerRanking mvp = playerRankingRepository.findByPlayerIdAndSeason(playerIds.get(0), SEASON).orElseThrow();
+        assertEquals(4, mvp.getTotalPoints());
+        assertEquals(1, mvp.getMatchesPlayed());
+    }
+
+    @Test
+    void testUnknownPlayerIsRejected() {
+        MatchResult result = new MatchResult(UUID.randomUUID(), SEASON, List.of(UUID.randomUUID()), playerIds.subList(0, 1), null, null);
+
+        assertThrows(EntityNotFoundException.class, () -> playerRankingService.applyMatchResult(result));
+    }
+
+    /**
+     * Os {@code teamSize} primeiros jogadores vencem os {@code teamSize} últimos.
+     */
+    private MatchResult result(int teamSize, UUID mvpId) {
+        return new MatchResult(UUID.randomUUID(), SEASON, playerIds.subList(0, teamSize),
+                playerIds.subList(playerIds.size() - teamSize, playerIds.size()), mvpId, null);
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,255 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.codenilson.lavava2025.entities.Match;
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.PlayerPerformance;
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.Team;
+import io.github.codenilson.lavava2025.entities.ValorantMap;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.repositories.ValorantMapRepository;
+import io.github.codenilson.lavava2025.services.MatchService;
+import io.github.codenilson.lavava2025.services.PlayerRankingService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import io.github.codenilson.lavava2025.services.TeamService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Garante que salvar de novo uma partida finalizada aplica aos rankings apenas a
+ * diferença para o resultado já aplicado.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class MatchResultCorrectionTest {
+
+    private static final String SEASON = "match-correction";
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRankingService playerRankingService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private ValorantMapRepository valorantMapRepository;
+
+    @Autowired
+    private PlayerRankingRepository playerRankingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private ValorantMap map;
+    private UUID matchId;
+
+    private final List<Player> players = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 10; i++) {
+            players.add(playerService.save(new Player("CorrectionPlayer" + i, "Test@123")));
+        }
+        map = new ValorantMap();
+        map.setName("CorrectionMap");
+        map = valorantMapRepository.save(map);
+
+        // 0-4 vencem 5-9 e 0 é o MVP
+        Match match = new Match(map);
+        match.setSeason(SEASON);
+        match = matchService.save(match);
+        Team winner = team(match, players.subList(0, 5));
+        Team loser = team(match, players.subList(5, 10));
+        entityManager.flush();
+        entityManager.refresh(winner);
+        entityManager.refresh(loser);
+        match.setWinner(winner);
+        match.setLoser(loser);
+        match.setMvp(performance(winner, 0));
+        matchService.save(match);
+        matchId = match.getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testUnchangedResultIsNotAppliedAgain() {
+        Match match = matchService.findById(matchId);
+        ValorantMap otherMap = new ValorantMap();
+        otherMap.setName("CorrectionOtherMap");
+        match.setMap(valorantMapRepository.save(otherMap));
+
+        statistics.clear();
+        matchService.save(match);
+        entityManager.flush();
+
+        // Nem o ledger é consultado
+        assertEquals(0, statistics.getQueryExecutionCount());
+        assertEquals(11, countEvents());
+        assertRanking(0, 4, 1, 1);
+        assertRanking(5, 0, 1, 0);
+    }
+
+    @Test
+    void testMvpCorrectionMovesOnlyTheBonus() {
+        Match match = matchService.findById(matchId);
+        match.setMvp(performance(match.getWinner(), 1));
+        matchService.save(match);
+
+        // Then: o bônus passa do 0 para o 1 e ninguém ganha a vitória de novo
+        assertRanking(0, 3, 1, 1);
+        assertRanking(1, 4, 1, 1);
+        assertRanking(2, 3, 1, 1);
+        // 10 resultados, o MVP original, sua reversão e o novo MVP
+        assertEquals(13, countEvents());
+    }
+
+    @Test
+    void testWinnerSwapReversesBothTeams() {
+        Match match = matchService.findById(matchId);
+        Team winner = match.getWinner();
+        match.setWinner(match.getLoser());
+        match.setLoser(winner);
+        match.setMvp(performance(match.getWinner(), 5));
+        matchService.save(match);
+
+        assertRanking(0, 0, 1, 0);
+        assertRanking(4, 0, 1, 0);
+        assertRanking(5, 4, 1, 1);
+        assertRanking(9, 3, 1, 1);
+    }
+
+    @Test
+    void testClearingTheWinnerTakesTheContributionBack() {
+        Match match = matchService.findById(matchId);
+        match.setWinner(null);
+        match.setMvp(null);
+        matchService.save(match);
+
+        assertRanking(0, 0, 0, 0);
+        assertRanking(5, 0, 0, 0);
+        assertNull(matchService.findById(matchId).getRankedResult());
+    }
+
+    @Test
+    void testLegacyMatchIsNotRankedAgainWhenSavedUnchanged() {
+        simulateLegacyMatch();
+
+        Match match = matchService.findById(matchId);
+        assertNotNull(match.getRankedResult());
+        ValorantMap otherMap = new ValorantMap();
+        otherMap.setName("CorrectionLegacyMap");
+        match.setMap(valorantMapRepository.save(otherMap));
+        matchService.save(match);
+
+        // A contribuição saiu do saldo de abertura para a partida, sem mudar os totais
+        assertEquals(11, countEvents());
+        assertRanking(0, 4, 1, 1);
+        assertRanking(5, 0, 1, 0);
+        assertEquals(4, sumLedgerPoints(0));
+    }
+
+    @Test
+    void testLegacyMatchWinnerSwapReversesTheLegacyContribution() {
+        simulateLegacyMatch();
+
+        Match match = matchService.findById(matchId);
+        Team winner = match.getWinner();
+        match.setWinner(match.getLoser());
+        match.setLoser(winner);
+        match.setMvp(performance(match.getWinner(), 5));
+        matchService.save(match);
+
+        assertRanking(0, 0, 1, 0);
+        assertRanking(5, 4, 1, 1);
+        assertRanking(9, 3, 1, 1);
+        assertEquals(0, sumLedgerPoints(0));
+        assertEquals(4, sumLedgerPoints(5));
+    }
+
+    /**
+     * Deixa a partida como as pontuadas antes do ledger: rankings com os totais, mas
+     * sem eventos nem resultado aplicado registrado. Então roda a migração da inicialização.
+     */
+    private void simulateLegacyMatch() {
+        entityManager.createQuery("DELETE FROM RankingEvent e WHERE e.season = :season")
+                .setParameter("season", SEASON)
+                .executeUpdate();
+        entityManager.createQuery("UPDATE Match m SET m.rankedResult = NULL WHERE m.id = :matchId")
+                .setParameter("matchId", matchId)
+                .executeUpdate();
+        entityManager.clear();
+
+        playerRankingService.recordOpeningBalances();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long sumLedgerPoints(int player) {
+        return entityManager.createQuery("SELECT COALESCE(SUM(e.deltaPoints), 0) FROM RankingEvent e "
+                + "WHERE e.player.id = :playerId AND e.season = :season", Long.class)
+                .setParameter("playerId", players.get(player).getId())
+                .setParameter("season", SEASON)
+                .getSingleResult();
+    }
+
+    private Team team(Match match, List<Player> members) {
+        Team team = new Team();
+        team.setMatch(match);
+        team.getPlayers().addAll(members);
+        return teamService.createTeam(team);
+    }
+
+    private PlayerPerformance performance(Team team, int player) {
+        return team.getPerformances().stream()
+                .filter(performance -> performance.getPlayer().getId().equals(players.get(player).getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private long countEvents() {
+        return entityManager.createQuery("SELECT COUNT(e) FROM RankingEvent e WHERE e.matchId = :matchId", Long.class)
+                .setParameter("matchId", matchId)
+                .getSingleResult();
+    }
+
+    private void assertRanking(int player, int points, int played, int won) {
+        entityManager.flush();
+        entityManager.clear();
+        PlayerRanking ranking = playerRankingRepository.findByPlayerIdAndSeason(players.get(player).getId(), SEASON)
+                .orElseThrow();
+        assertEquals(points, ranking.getTotalPoints());
+        assertEquals(played, ranking.getMatchesPlayed());
+        assertEquals(won, ranking.getMatchesWon());
+    }
+}
@@ -0,0 +1,167 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.codenilson.lavava2025.entities.Match;
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.ValorantMap;
+import io.github.codenilson.lavava2025.entities.dto.match.MatchSubmissionDTO;
+import io.github.codenilson.lavava2025.entities.dto.playerperformance.PlayerPerformanceUpdateDTO;
+import io.github.codenilson.lavava2025.repositories.ValorantMapRepository;
+import io.github.codenilson.lavava2025.services.MatchSubmissionService;
+import io.github.codenilson.lavava2025.services.PlayerRankingService;
+import io.github.codenilson.lavava2025.services.PlayerSeasonStatsService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Registra partidas inteiras em uma chamada e garante que o custo em statements não
+ * cresce com o tamanho dos times.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class MatchSubmissionIntegrationTest {
+
+    private static final String SEASON = "submission";
+
+    @Autowired
+    private MatchSubmissionService matchSubmissionService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRankingService playerRankingService;
+
+    @Autowired
+    private PlayerSeasonStatsService playerSeasonStatsService;
+
+    @Autowired
+    private ValorantMapRepository valorantMapRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Player> players = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 10; i++) {
+            players.add(playerService.save(new Player("SubmissionPlayer" + i, "Test@123")));
+        }
+        ValorantMap map = new ValorantMap();
+        map.setName("SubmissionMap");
+        valorantMapRepository.save(map);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testSubmissionRecordsWholeMatch() {
+        Match match = matchSubmissionService.submit(submission(5, players.get(0), players.get(5)));
+        entityManager.flush();
+
+        assertEquals(SEASON, match.getSeason());
+        assertEquals(5, match.getWinner().getPlayers().size());
+        assertEquals(5, match.getLoser().getPlayers().size());
+        assertEquals(10, match.getPlayerPerformances().size());
+        assertEquals(10L, entityManager.createQuery(
+                "SELECT COUNT(pp) FROM PlayerPerformance pp WHERE pp.match.id = :matchId", Long.class)
+                .setParameter("matchId", match.getId())
+                .getSingleResult());
+        assertEquals(players.get(0).getId(), match.getMvp().getPlayer().getId());
+
+        // Vitória (3) + MVP (1); vitória (3) + ace (1); só vitória; derrota
+        assertEquals(4, points(players.get(0)));
+        assertEquals(4, points(players.get(4)));
+        assertEquals(3, points(players.get(1)));
+        assertEquals(0, points(players.get(6)));
+        assertEquals(1, playerSeasonStatsService.getTotalAces(players.get(9).getId(), SEASON));
+    }
+
+    @Test
+    void testSubmissionCostsConstantStatements() {
+        // Given: todos os jogadores já têm ranking e totais na temporada
+        matchSubmissionService.submit(submission(5, null, null));
+        entityManager.flush();
+
+        // When
+        long smallMatch = countStatements(() -> matchSubmissionService.submit(submission(1, null, null)));
+        long largeMatch = countStatements(() -> matchSubmissionService.submit(submission(5, null, null)));
+
+        // Then
+        assertEquals(smallMatch, largeMatch);
+    }
+
+    @Test
+    void testInvalidSubmissionsAreRejected() {
+        MatchSubmissionDTO duplicated = submission(2, null, null);
+        duplicated.getLoser().getPlayers().get(0).setPlayerUsername(players.get(0).getUsername());
+        assertThrows(IllegalArgumentException.class, () -> matchSubmissionService.submit(duplicated));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> matchSubmissionService.submit(submission(2, players.get(5), null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> matchSubmissionService.submit(submission(2, null, players.get(0))));
+
+        MatchSubmissionDTO unknownPlayer = submission(2, null, null);
+        unknownPlayer.getWinner().getPlayers().get(0).setPlayerUsername("NobodyWithThisName");
+        assertThrows(EntityNotFoundException.class, () -> matchSubmissionService.submit(unknownPlayer));
+
+        MatchSubmissionDTO unknownMap = submission(2, null, null);
+        unknownMap.setMapName("NoSuchMap");
+        assertThrows(EntityNotFoundException.class, () -> matchSubmissionService.submit(unknownMap));
+    }
+
+    /**
+     * Os jogadores {@code 0..size-1} vencem {@code 5..5+size-1}; o último de cada time fez um ace.
+     */
+    private MatchSubmissionDTO submission(int size, Player mvp, Player loserMvp) {
+        return new MatchSubmissionDTO("SubmissionMap", SEASON, roster(0, size), roster(5, size),
+                mvp == null ? null : mvp.getUsername(), loserMvp == null ? null : loserMvp.getUsername());
+    }
+
+    private MatchSubmissionDTO.TeamSubmission roster(int first, int size) {
+        List<MatchSubmissionDTO.PlayerSubmission> roster = new ArrayList<>();
+        for (int i = first; i < first + size; i++) {
+            PlayerPerformanceUpdateDTO stats = new PlayerPerformanceUpdateDTO(10 + i, 8, 3, "Jett", i == first + size - 1 ? 1 : 0);
+            roster.add(new MatchSubmissionDTO.PlayerSubmission(players.get(i).getUsername(), stats));
+        }
+        return new MatchSubmissionDTO.TeamSubmission(roster);
+    }
+
+    private int points(Player player) {
+        return playerRankingService.getPlayerRanking(player.getId(), SEASON).orElseThrow().getTotalPoints();
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+}
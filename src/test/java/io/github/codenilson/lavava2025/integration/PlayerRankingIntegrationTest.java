@@ -5,23 +5,28 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.github.codenilson.lavava2025.entities.Match;
 import io.github.codenilson.lavava2025.entities.Player;
 import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.RankingEvent;
 import io.github.codenilson.lavava2025.entities.Team;
 import io.github.codenilson.lavava2025.entities.ValorantMap;
 import io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.RankingEventReason;
 import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
 import io.github.codenilson.lavava2025.repositories.ValorantMapRepository;
 import io.github.codenilson.lavava2025.services.MatchService;
+import io.github.codenilson.lavava2025.services.PlayerRankingCounters;
 import io.github.codenilson.lavava2025.services.PlayerRankingService;
 import io.github.codenilson.lavava2025.services.PlayerService;
 import io.github.codenilson.lavava2025.services.TeamService;
@@ -49,6 +54,12 @@ public class PlayerRankingIntegrationTest {
     @Autowired
     private ValorantMapRepository valorantMapRepository;
 
+    @Autowired
+    private PlayerRankingCounters playerRankingCounters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void testCompleteMatchRankingIntegration() {
         // Criar jogadores
@@ -171,4 +182,60 @@ public class PlayerRankingIntegrationTest {
         System.out.println("✅ Teste de múltiplas partidas passou com sucesso!");
         System.out.println("📊 Estatísticas finais: " + playerRanking.getTotalPoints() + " pontos base + 5 bônus = 11 total");
     }
+
+    @Test
+    void testSortKeyWrittenByCountersAndBackfill() {
+        Player player = new Player();
+        player.setUsername("SortKeyPlayer");
+        player.setPassword("Test@123");
+        player = playerService.save(player);
+
+        playerRankingService.updatePlayerRanking(player.getId(), true);
+        playerRankingService.updatePlayerRanking(player.getId(), false);
+        playerRankingService.updatePlayerRanking(player.getId(), true);
+
+        // O incremento em SQL calcula a mesma chave que a entidade
+        long expected = PlayerRanking.sortKeyOf(6, 0.67, 2);
+        assertEquals(expected, storedSortKey(player));
+        long position = playerRankingRepository.findPlayerPosition("2025", expected);
+        assertEquals(playerRankingService.getPlayerRanking(player.getId()).get().getPosition(), position);
+
+        // Rankings gravados antes da coluna existir recebem a chave na inicialização
+        jdbcTemplate.update("UPDATE player_rankings SET sort_key = 0 WHERE player_id = ?", player.getId());
+        assertTrue(playerRankingCounters.backfillSortKeys() >= 1);
+        assertEquals(expected, storedSortKey(player));
+    }
+
+    @Test
+    void testCountersAndEntityRoundWinRateAlike() {
+        // won, played e a taxa esperada: 29/200 e 7/40 caem exatamente na metade
+        int[][] cases = { { 29, 200 }, { 7, 40 }, { 2, 3 } };
+        double[] expected = { 0.15, 0.18, 0.67 };
+        for (int i = 0; i < cases.length; i++) {
+            int won = cases[i][0];
+            int played = cases[i][1];
+            Player player = playerService.save(new Player("WinRatePlayer" + i, "Test@123"));
+            PlayerRanking ranking = playerRankingService.getOrCreatePlayerRanking(player, "win-rate");
+
+            // Caminho ao vivo: incremento atômico em SQL
+            playerRankingCounters.apply("win-rate", List.of(ranking), List.of(new RankingEvent(player, "win-rate",
+                    null, RankingEventReason.WIN, won * PlayerRanking.POINTS_PER_WIN, played, won)));
+
+            // Recálculo e replay: a entidade
+            double winRate = PlayerRanking.winRateOf(won, played);
+            assertEquals(expected[i], winRate);
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT win_rate, sort_key FROM player_rankings WHERE player_id = ? AND season = 'win-rate'",
+                    player.getId());
+            assertEquals(winRate, ((Number) row.get("win_rate")).doubleValue(), won + "/" + played);
+            assertEquals(PlayerRanking.sortKeyOf(won * PlayerRanking.POINTS_PER_WIN, winRate, won),
+                    ((Number) row.get("sort_key")).longValue(), won + "/" + played);
+        }
+    }
+
+    private long storedSortKey(Player player) {
+        return jdbcTemplate.queryForObject(
+                "SELECT sort_key FROM player_rankings WHERE player_id = ? AND season = '2025'", Long.class,
+                player.getId());
+    }
 }
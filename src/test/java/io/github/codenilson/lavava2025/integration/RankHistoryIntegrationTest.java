@@ -0,0 +1,147 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.RankHistory;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankHistoryDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.MatchResult;
+import io.github.codenilson.lavava2025.repositories.RankHistoryRepository;
+import io.github.codenilson.lavava2025.services.PlayerRankingIndex;
+import io.github.codenilson.lavava2025.services.PlayerRankingService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import io.github.codenilson.lavava2025.services.RankHistoryService;
+import io.github.codenilson.lavava2025.services.SeasonPercentileSketches;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * O snapshot roda em sua própria transação, por isso este teste não é transacional e
+ * remove os dados que cria.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class RankHistoryIntegrationTest {
+
+    private static final String SEASON = "history";
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRankingService playerRankingService;
+
+    @Autowired
+    private RankHistoryService rankHistoryService;
+
+    @Autowired
+    private RankHistoryRepository rankHistoryRepository;
+
+    @Autowired
+    private PlayerRankingIndex playerRankingIndex;
+
+    @Autowired
+    private SeasonPercentileSketches seasonPercentileSketches;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Player> players;
+
+    @BeforeEach
+    void setUp() {
+        players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(playerService.save(new Player("HistoryPlayer" + i, "Test@123")));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<UUID> playerIds = players.stream().map(Player::getId).toList();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            rankHistoryRepository.deleteBySeason(SEASON);
+            entityManager.createQuery("DELETE FROM RankingEvent e WHERE e.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM PlayerRanking pr WHERE pr.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            playerIds.forEach(playerId -> entityManager.remove(entityManager.find(Player.class, playerId)));
+        });
+        seasonPercentileSketches.evictSeason(SEASON);
+        playerRankingIndex.evictSeason(SEASON);
+        playerRankingIndex.evictSeason("2025");
+    }
+
+    @Test
+    void testSnapshotsOnlyStoreChanges() {
+        playerRankingService.applyMatchResult(result(0, 1, 2, 3));
+        assertEquals(4, rankHistoryService.takeSnapshot(SEASON, DAY));
+
+        // Mesmo dia de novo e um dia sem mudanças não adicionam entradas
+        assertEquals(0, rankHistoryService.takeSnapshot(SEASON, DAY));
+        assertEquals(0, rankHistoryService.takeSnapshot(SEASON, DAY.plusDays(1)));
+
+        // Players 2 e 3 vencem: 0 continua em primeiro (empatado com 2) com os mesmos pontos
+        playerRankingService.applyMatchResult(result(2, 3, 0, 1));
+        assertEquals(3, rankHistoryService.takeSnapshot(SEASON, DAY.plusDays(2)));
+
+        assertEquals(List.of(point(DAY, 1, 4)), history(0));
+        assertEquals(List.of(point(DAY, 2, 3), point(DAY.plusDays(2), 3, 3)), history(1));
+        assertEquals(List.of(point(DAY, 3, 0), point(DAY.plusDays(2), 1, 4)), history(2));
+        assertEquals(List.of(point(DAY, 3, 0), point(DAY.plusDays(2), 3, 3)), history(3));
+
+        // Três bytes por entrada com diferenças pequenas
+        RankHistory stored = rankHistoryRepository.findBySeason(SEASON).stream()
+                .filter(history -> history.getEntries() == 2)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(6, stored.getData().length);
+    }
+
+    @Test
+    void testHistoryBeforeFirstSnapshotAndUnknownPlayer() {
+        playerRankingService.applyMatchResult(result(0, 1, 2, 3));
+
+        assertTrue(history(0).isEmpty());
+        assertThrows(EntityNotFoundException.class,
+                () -> rankHistoryService.getHistory(UUID.randomUUID(), SEASON));
+    }
+
+    private List<RankHistoryDTO.Point> history(int player) {
+        return rankHistoryService.getHistory(players.get(player).getId(), SEASON).getPoints();
+    }
+
+    private static RankHistoryDTO.Point point(LocalDate date, long position, int points) {
+        return new RankHistoryDTO.Point(date, position, points);
+    }
+
+    /**
+     * Os jogadores {@code a} e {@code b} vencem {@code c} e {@code d}; {@code a} é o MVP.
+     */
+    private MatchResult result(int a, int b, int c, int d) {
+        return new MatchResult(UUID.randomUUID(), SEASON, List.of(players.get(a).getId(), players.get(b).getId()),
+                List.of(players.get(c).getId(), players.get(d).getId()), players.get(a).getId(), null);
+    }
+}
@@ -0,0 +1,246 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.RankingOutboxEntry;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingOutboxStatusDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.MatchResult;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.repositories.RankingEventRepository;
+import io.github.codenilson.lavava2025.repositories.RankingOutboxRepository;
+import io.github.codenilson.lavava2025.services.PlayerRankingIndex;
+import io.github.codenilson.lavava2025.services.PlayerRankingService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import io.github.codenilson.lavava2025.services.RankingOutboxService;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Os resultados passam pelo outbox e são aplicados pelo worker em segundo plano,
+ * por isso este teste não é transacional e remove os dados que cria.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "ranking.outbox.enabled=true",
+    "ranking.outbox.poll-interval=50ms"
+})
+public class RankingOutboxIntegrationTest {
+
+    private static final String SEASON = "outbox";
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRankingService playerRankingService;
+
+    @Autowired
+    private RankingOutboxService rankingOutboxService;
+
+    @Autowired
+    private PlayerRankingRepository playerRankingRepository;
+
+    @Autowired
+    private RankingEventRepository rankingEventRepository;
+
+    @Autowired
+    private RankingOutboxRepository rankingOutboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlayerRankingIndex playerRankingIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Player> players;
+
+    @BeforeEach
+    void setUp() {
+        players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(playerService.save(new Player("OutboxPlayer" + i, "Test@123")));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<UUID> playerIds = players.stream().map(Player::getId).toList();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM RankingOutboxEntry").executeUpdate();
+            entityManager.createQuery("DELETE FROM RankingEvent e WHERE e.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM PlayerRanking pr WHERE pr.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            playerIds.forEach(playerId -> entityManager.remove(entityManager.find(Player.class, playerId)));
+        });
+        playerRankingIndex.evictSeason(SEASON);
+        playerRankingIndex.evictSeason("2025");
+    }
+
+    @Test
+    void testWorkerAppliesEnqueuedResultsOnce() {
+        MatchResult first = result(UUID.randomUUID(), 0, 1, 2, 3);
+        MatchResult second = result(UUID.randomUUID(), 2, 3, 0, 1);
+
+        // When: a mesma partida entra duas vezes no outbox, na mesma transação
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            rankingOutboxService.enqueue(first);
+            rankingOutboxService.enqueue(first);
+            rankingOutboxService.enqueue(second);
+        });
+        awaitUntil(() -> rankingOutboxService.getStatus().getPending() == 0);
+
+        // Then
+        PlayerRanking mvp = ranking(players.get(0));
+        assertEquals(4, mvp.getTotalPoints()); // 3 pela vitória + 1 de MVP
+        assertEquals(2, mvp.getMatchesPlayed());
+        assertEquals(4, ranking(players.get(2)).getTotalPoints()); // MVP da segunda partida
+        assertEquals(3, ranking(players.get(1)).getTotalPoints());
+        assertEquals(3, rankingEventRepository.findByPlayerIdAndSeason(players.get(0).getId(), SEASON).size());
+
+        RankingOutboxStatusDTO status = rankingOutboxService.getStatus();
+        assertEquals(0, status.getLagMillis());
+        // A primeira entrada repetida é substituída pela segunda, sem ser aplicada
+        assertTrue(status.getAppliedTotal() >= 2);
+    }
+
+    @Test
+    void testResultAlreadyInLedgerIsNotAppliedAgain() {
+        MatchResult result = result(UUID.randomUUID(), 0, 1, 2, 3);
+        playerRankingService.applyMatchResult(result);
+
+        rankingOutboxService.enqueue(result);
+        awaitUntil(() -> rankingOutboxService.getStatus().getPending() == 0);
+
+        assertEquals(4, ranking(players.get(0)).getTotalPoints());
+        assertEquals(1, ranking(players.get(0)).getMatchesPlayed());
+    }
+
+    @Test
+    void testFailingEntryDoesNotBlockTheOutbox() {
+        MatchResult broken = new MatchResult(UUID.randomUUID(), SEASON, List.of(UUID.randomUUID()),
+                List.of(players.get(3).getId()), null, null);
+        MatchResult valid = result(UUID.randomUUID(), 0, 1, 2, 3);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            rankingOutboxService.enqueue(broken);
+            rankingOutboxService.enqueue(valid);
+        });
+
+        // A entrada com jogador inexistente é tentada até o limite e deixada de lado
+        awaitUntil(() -> rankingOutboxService.getStatus().getFailed() == 1);
+        assertEquals(0, rankingOutboxService.getStatus().getPending());
+        assertEquals(4, ranking(players.get(0)).getTotalPoints());
+    }
+
+    @Test
+    void testNewerResultSupersedesPendingEntryOfTheMatch() throws Exception {
+        UUID matchId = UUID.randomUUID();
+        MatchResult corrected = result(matchId, 2, 3, 0, 1);
+
+        // Não confirmada, para que o worker não aplique as entradas
+        List<RankingOutboxEntry> pending = inRolledBackTransaction(() -> {
+            rankingOutboxService.enqueue(result(matchId, 0, 1, 2, 3));
+            rankingOutboxService.enqueue(corrected);
+            return pendingOf(matchId);
+        });
+
+        assertEquals(1, pending.size());
+        assertEquals(corrected, objectMapper.readValue(pending.get(0).getPayload(), MatchResult.class));
+    }
+
+    @Test
+    void testNewerEntryWaitsWhileOlderEntryOfTheMatchIsRetried() {
+        UUID matchId = UUID.randomUUID();
+
+        // Duas entradas da mesma partida, como gravadas por transações concorrentes
+        List<UUID> locked = inRolledBackTransaction(() -> {
+            RankingOutboxEntry older = rankingOutboxRepository.saveAndFlush(new RankingOutboxEntry(matchId, "{}"));
+            Thread.sleep(5);
+            rankingOutboxRepository.saveAndFlush(new RankingOutboxEntry(matchId, "{}"));
+            older.recordFailure("failed");
+            rankingOutboxRepository.flush();
+            return rankingOutboxRepository.lockPending(5, PageRequest.of(0, 100)).stream()
+                    .filter(entry -> entry.getMatchId().equals(matchId))
+                    .map(RankingOutboxEntry::getId)
+                    .toList();
+        });
+
+        assertEquals(1, locked.size());
+    }
+
+    /**
+     * Os jogadores {@code a} e {@code b} vencem {@code c} e {@code d}; {@code a} é o MVP.
+     */
+    private MatchResult result(UUID matchId, int a, int b, int c, int d) {
+        return new MatchResult(matchId, SEASON, List.of(players.get(a).getId(), players.get(b).getId()),
+                List.of(players.get(c).getId(), players.get(d).getId()), players.get(a).getId(), null);
+    }
+
+    private List<RankingOutboxEntry> pendingOf(UUID matchId) {
+        return entityManager.createQuery("SELECT o FROM RankingOutboxEntry o "
+                + "WHERE o.matchId = :matchId AND o.processedAt IS NULL", RankingOutboxEntry.class)
+                .setParameter("matchId", matchId)
+                .getResultList();
+    }
+
+    private <T> T inRolledBackTransaction(Callable<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            status.setRollbackOnly();
+            try {
+                return action.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private PlayerRanking ranking(Player player) {
+        return playerRankingRepository.findByPlayerIdAndSeason(player.getId(), SEASON).orElseThrow();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Ranking outbox was not drained in time");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
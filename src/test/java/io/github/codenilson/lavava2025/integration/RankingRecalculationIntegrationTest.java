@@ -0,0 +1,315 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.codenilson.lavava2025.entities.Match;
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.PlayerPerformance;
+import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.PlayerSeasonStats;
+import io.github.codenilson.lavava2025.entities.Team;
+import io.github.codenilson.lavava2025.entities.ValorantMap;
+import io.github.codenilson.lavava2025.entities.dto.playerperformance.PlayerPerformanceUpdateDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingRecalculationProgressDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingEventResponseDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingRecalculationReportDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.RankingEventReason;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerSeasonStatsRepository;
+import io.github.codenilson.lavava2025.repositories.ValorantMapRepository;
+import io.github.codenilson.lavava2025.services.MatchService;
+import io.github.codenilson.lavava2025.services.PlayerPerformanceService;
+import io.github.codenilson.lavava2025.services.PlayerRankingIndex;
+import io.github.codenilson.lavava2025.services.PlayerRankingService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import io.github.codenilson.lavava2025.services.TeamService;
+import jakarta.persistence.EntityManager;
+
+/**
+ * O recálculo roda em transações próprias (uma por temporada, em outras threads),
+ * por isso este teste não é transacional e remove os dados que cria.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "ranking.scoring.seasons.recalc-elo=ELO")
+public class RankingRecalculationIntegrationTest {
+
+    private static final String SEASON = "recalc";
+    private static final String ELO_SEASON = "recalc-elo";
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private PlayerPerformanceService playerPerformanceService;
+
+    @Autowired
+    private PlayerRankingService playerRankingService;
+
+    @Autowired
+    private PlayerRankingRepository playerRankingRepository;
+
+    @Autowired
+    private PlayerSeasonStatsRepository playerSeasonStatsRepository;
+
+    @Autowired
+    private PlayerRankingIndex playerRankingIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ValorantMapRepository valorantMapRepository;
+
+    private ValorantMap map;
+    private List<Player> players;
+    private final List<UUID> teamIds = new ArrayList<>();
+    private final List<UUID> matchIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(playerService.save(new Player("RecalcPlayer" + i, "Test@123")));
+        }
+        ValorantMap newMap = new ValorantMap();
+        newMap.setName("RecalcMap");
+        map = valorantMapRepository.save(newMap);
+
+        Player a = players.get(0);
+        Player b = players.get(1);
+        Player c = players.get(2);
+        Player d = players.get(3);
+        playMatch(List.of(a, b), List.of(c, d), a, 1); // A: 3 (vitória) + 1 (MVP) + 1 (ace)
+        playMatch(List.of(c, d), List.of(a, b), null, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<UUID> playerIds = players.stream().map(Player::getId).toList();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (UUID matchId : matchIds) {
+                Match match = entityManager.find(Match.class, matchId);
+                match.setWinner(null);
+                match.setLoser(null);
+                match.setMvp(null);
+                match.setLoserMvp(null);
+            }
+            entityManager.flush();
+            entityManager.createQuery("DELETE FROM PlayerPerformance pp WHERE pp.match.id IN :ids")
+                    .setParameter("ids", matchIds)
+                    .executeUpdate();
+            entityManager.clear();
+            teamIds.forEach(teamId -> entityManager.remove(entityManager.find(Team.class, teamId)));
+            entityManager.flush();
+            entityManager.clear();
+            matchIds.forEach(matchId -> entityManager.remove(entityManager.find(Match.class, matchId)));
+            entityManager.flush();
+            entityManager.clear();
+            entityManager.createQuery("DELETE FROM RankingEvent e WHERE e.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM PlayerSeasonStats s WHERE s.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM PlayerRanking pr WHERE pr.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            playerIds.forEach(playerId -> entityManager.remove(entityManager.find(Player.class, playerId)));
+            entityManager.remove(entityManager.find(ValorantMap.class, map.getId()));
+        });
+        // As exclusões em lote não passam pelo índice em memória
+        playerRankingIndex.evictSeason(SEASON);
+        playerRankingIndex.evictSeason(ELO_SEASON);
+        playerRankingIndex.evictSeason("2025");
+    }
+
+    @Test
+    void testRecalculationRestoresDriftedRankings() {
+        // Given: ranking corrompido e totais da temporada perdidos
+        PlayerRanking drifted = ranking(players.get(0));
+        drifted.setTotalPoints(999);
+        drifted.setMatchesPlayed(7);
+        playerRankingRepository.save(drifted);
+        playerSeasonStatsRepository.deleteAll(playerSeasonStatsRepository
+                .findByPlayerIdInAndSeason(players.stream().map(Player::getId).toList(), SEASON));
+
+        // When
+        RankingRecalculationReportDTO report = playerRankingService.recalculateAllRankings();
+
+        // Then
+        PlayerRanking restored = ranking(players.get(0));
+        assertEquals(5, restored.getTotalPoints());
+        assertEquals(2, restored.getMatchesPlayed());
+        assertEquals(1, restored.getMatchesWon());
+        assertEquals(0.5, restored.getWinRate(), 0.001);
+        assertEquals(3, ranking(players.get(2)).getTotalPoints());
+
+        PlayerSeasonStats stats = playerSeasonStatsRepository
+                .findByPlayerIdAndSeason(players.get(0).getId(), SEASON).orElseThrow();
+        assertEquals(1, stats.getAces());
+        assertEquals(20, stats.getKills());
+        assertEquals(1, stats.getAcesAwarded());
+
+        RankingRecalculationReportDTO.SeasonReport seasonReport = report.getSeasons().stream()
+                .filter(entry -> entry.getSeason().equals(SEASON))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(4, seasonReport.getPlayers());
+        assertEquals(4, seasonReport.getRankingsWritten());
+        // 4 rankings + 4 vencedores + 4 perdedores + 1 MVP + 8 performances
+        assertEquals(21, seasonReport.getRowsRead());
+    }
+
+    @Test
+    void testRecalculationIsIdempotentAndRefreshesPositions() {
+        playerRankingService.recalculateAllRankings();
+        List<Integer> firstRun = players.stream().map(player -> ranking(player).getTotalPoints()).toList();
+
+        playerRankingService.recalculateAllRankings();
+        List<Integer> secondRun = players.stream().map(player -> ranking(player).getTotalPoints()).toList();
+
+        assertEquals(List.of(5, 3, 3, 3), firstRun);
+        assertEquals(firstRun, secondRun);
+        assertEquals(1L, playerRankingService.getPlayerPosition(players.get(0).getId(), SEASON));
+        assertEquals(2L, playerRankingService.getPlayerPosition(players.get(1).getId(), SEASON));
+    }
+
+    @Test
+    void testReplayRebuildsRankingsFromLedger() {
+        // Given: bônus de admin registrado no ledger e rankings corrompidos
+        playerRankingService.addBonusPoints(players.get(3).getId(), 2, SEASON);
+        PlayerRanking drifted = ranking(players.get(0));
+        drifted.setTotalPoints(999);
+        drifted.setMatchesWon(0);
+        playerRankingRepository.save(drifted);
+
+        // When
+        RankingRecalculationReportDTO report = playerRankingService.replaySeason(SEASON);
+
+        // Then
+        assertEquals(List.of(5, 3, 3, 5), players.stream().map(player -> ranking(player).getTotalPoints()).toList());
+        assertEquals(1, ranking(players.get(0)).getMatchesWon());
+        assertEquals(0.5, ranking(players.get(0)).getWinRate(), 0.001);
+        assertEquals(1L, playerRankingService.getPlayerPosition(players.get(0).getId(), SEASON));
+        assertEquals(4, report.getRankingsWritten());
+
+        List<RankingEventReason> reasons = playerRankingService.getRankingEvents(players.get(0).getId(), SEASON)
+                .stream()
+                .map(RankingEventResponseDTO::getReason)
+                .toList();
+        assertEquals(4, reasons.size());
+        assertEquals(Set.of(RankingEventReason.WIN, RankingEventReason.MVP, RankingEventReason.ACE,
+                RankingEventReason.LOSS), Set.copyOf(reasons));
+    }
+
+    @Test
+    void testRecalculationKeepsAdminBonus() {
+        playerRankingService.addBonusPoints(players.get(3).getId(), 2, SEASON);
+
+        playerRankingService.recalculateAllRankings();
+
+        assertEquals(5, ranking(players.get(3)).getTotalPoints());
+    }
+
+    @Test
+    void testEloSeasonRecalculationMatchesLiveRatings() {
+        Player a = players.get(0);
+        Player b = players.get(1);
+        Player c = players.get(2);
+        Player d = players.get(3);
+        // Times iguais: 16 pontos; depois o azarão (-16) vence o favorito (+16): 17 pontos
+        playMatch(ELO_SEASON, List.of(a, b), List.of(c, d), a, 1);
+        playMatch(ELO_SEASON, List.of(c, d), List.of(a, b), null, 0);
+
+        List<Integer> live = players.stream().map(player -> ranking(player, ELO_SEASON).getTotalPoints()).toList();
+        assertEquals(List.of(-1, -1, 1, 1), live); // sem bônus de MVP ou ace
+
+        PlayerRanking drifted = ranking(a, ELO_SEASON);
+        drifted.setTotalPoints(999);
+        playerRankingRepository.save(drifted);
+
+        playerRankingService.recalculateAllRankings();
+
+        assertEquals(live, players.stream().map(player -> ranking(player, ELO_SEASON).getTotalPoints()).toList());
+        assertEquals(5, ranking(a, SEASON).getTotalPoints()); // a temporada FLAT não muda
+    }
+
+    @Test
+    void testProgressReportsFinishedRecalculation() {
+        RankingRecalculationReportDTO report = playerRankingService.recalculateAllRankings();
+
+        RankingRecalculationProgressDTO progress = playerRankingService.getRecalculationProgress();
+
+        assertFalse(progress.isRunning());
+        assertEquals(progress.getSeasonsTotal(), progress.getSeasonsDone());
+        assertEquals(report.getSeasons().size(), progress.getSeasonsDone());
+        assertEquals(report.getRowsRead(), progress.getRowsRead());
+    }
+
+    private void playMatch(List<Player> winners, List<Player> losers, Player mvp, int aces) {
+        playMatch(SEASON, winners, losers, mvp, aces);
+    }
+
+    private void playMatch(String season, List<Player> winners, List<Player> losers, Player mvp, int aces) {
+        Match match = new Match(map);
+        match.setSeason(season);
+        match = matchService.save(match);
+        matchIds.add(match.getId());
+
+        Team winnerTeam = createTeam(match, winners);
+        Team loserTeam = createTeam(match, losers);
+
+        if (mvp != null) {
+            PlayerPerformance performance = playerPerformanceService.findByPlayerAndMatch(mvp.getId(), match.getId());
+            playerPerformanceService.updatePerformance(performance.getId(),
+                    new PlayerPerformanceUpdateDTO(20, 10, 5, "Jett", aces));
+            match.setMvp(playerPerformanceService.findById(performance.getId()));
+        }
+        match.setWinner(winnerTeam);
+        match.setLoser(loserTeam);
+        matchService.save(match);
+    }
+
+    private Team createTeam(Match match, List<Player> members) {
+        Team team = new Team();
+        team.setMatch(match);
+        team.getPlayers().addAll(members);
+        team = teamService.createTeam(team);
+        teamIds.add(team.getId());
+        return team;
+    }
+
+    private PlayerRanking ranking(Player player) {
+        return ranking(player, SEASON);
+    }
+
+    private PlayerRanking ranking(Player player, String season) {
+        return playerRankingRepository.findByPlayerIdAndSeason(player.getId(), season).orElseThrow();
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.codenilson.lavava2025.entities.Match;
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.Team;
+import io.github.codenilson.lavava2025.entities.ValorantMap;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingDriftDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.RankingVerificationStatusDTO;
+import io.github.codenilson.lavava2025.repositories.ValorantMapRepository;
+import io.github.codenilson.lavava2025.services.MatchService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import io.github.codenilson.lavava2025.services.RankingVerificationService;
+import io.github.codenilson.lavava2025.services.TeamService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class RankingVerificationIntegrationTest {
+
+    private static final String SEASON = "verify";
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private ValorantMapRepository valorantMapRepository;
+
+    @Autowired
+    private RankingVerificationService rankingVerificationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Player winner;
+    private Player loser;
+
+    @BeforeEach
+    void setUp() {
+        winner = playerService.save(new Player("VerifyWinner", "Test@123"));
+        loser = playerService.save(new Player("VerifyLoser", "Test@123"));
+
+        ValorantMap map = new ValorantMap();
+        map.setName("VerifyMap");
+        map = valorantMapRepository.save(map);
+
+        Match match = new Match(map);
+        match.setSeason(SEASON);
+        match = matchService.save(match);
+
+        Team winners = new Team();
+        winners.setMatch(match);
+        winners.getPlayers().add(winner);
+        winners = teamService.createTeam(winners);
+
+        Team losers = new Team();
+        losers.setMatch(match);
+        losers.getPlayers().add(loser);
+        losers = teamService.createTeam(losers);
+
+        match.setWinner(winners);
+        match.setLoser(losers);
+        matchService.save(match);
+    }
+
+    @Test
+    void testConsistentRankingsAreSkippedOnLaterRuns() {
+        RankingVerificationStatusDTO first = rankingVerificationService.verifyAll();
+        assertTrue(driftOf(first, winner).isEmpty());
+        assertTrue(driftOf(first, loser).isEmpty());
+
+        RankingVerificationStatusDTO second = rankingVerificationService.verifyAll();
+
+        assertEquals(first.getRuns() + 1, second.getRuns());
+        assertEquals(0, second.getLastRunChecked());
+        assertTrue(second.getLastRunSkipped() >= 2);
+    }
+
+    @Test
+    void testDriftIsReportedUntilFixed() {
+        rankingVerificationService.verifyAll();
+        // Pontos somados duas vezes, como ao salvar a partida de novo
+        jdbcTemplate.update("UPDATE player_rankings SET total_points = total_points + 3 "
+                + "WHERE player_id = ? AND season = ?", winner.getId(), SEASON);
+
+        RankingVerificationStatusDTO status = rankingVerificationService.verifyAll();
+
+        RankingDriftDTO drift = driftOf(status, winner).orElseThrow();
+        assertEquals(SEASON, drift.getSeason());
+        assertEquals(3, drift.getExpectedPoints());
+        assertEquals(6, drift.getActualPoints());
+        assertEquals(1, drift.getExpectedMatchesPlayed());
+        assertEquals(1, drift.getActualMatchesWon());
+        assertEquals(1, status.getLastRunChecked());
+        assertTrue(status.getDriftedTotal() >= 1);
+
+        // Sem checksum, a divergência aparece de novo na próxima execução
+        assertTrue(driftOf(rankingVerificationService.verifyAll(), winner).isPresent());
+    }
+
+    @Test
+    void testMatchEditedBehindTheRankingsIsVerifiedAgain() {
+        rankingVerificationService.verifyAll();
+        // Vencedor e perdedor trocados direto no banco: os rankings não mudam
+        jdbcTemplate.update("UPDATE matches SET winner_id = loser_id, loser_id = winner_id WHERE season = ?", SEASON);
+
+        RankingVerificationStatusDTO status = rankingVerificationService.verifyAll();
+
+        RankingDriftDTO drift = driftOf(status, loser).orElseThrow();
+        assertEquals(1, drift.getExpectedMatchesWon());
+        assertEquals(0, drift.getActualMatchesWon());
+        assertTrue(driftOf(status, winner).isPresent());
+    }
+
+    private static java.util.Optional<RankingDriftDTO> driftOf(RankingVerificationStatusDTO status, Player player) {
+        List<RankingDriftDTO> drifts = status.getDrifts();
+        UUID playerId = player.getId();
+        return drifts.stream().filter(drift -> drift.getPlayerId().equals(playerId)).findFirst();
+    }
+}
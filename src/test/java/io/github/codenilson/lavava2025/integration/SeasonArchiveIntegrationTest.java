@@ -0,0 +1,181 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.codenilson.lavava2025.entities.ArchivedPlayerRanking;
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.PlayerSeasonStats;
+import io.github.codenilson.lavava2025.entities.dto.ranking.SeasonOperationReportDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.MatchResult;
+import io.github.codenilson.lavava2025.entities.valueobjects.PerformanceStats;
+import io.github.codenilson.lavava2025.repositories.ArchivedPlayerRankingRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerRepository;
+import io.github.codenilson.lavava2025.repositories.PlayerSeasonStatsRepository;
+import io.github.codenilson.lavava2025.repositories.RankingEventRepository;
+import io.github.codenilson.lavava2025.services.PlayerRankingIndex;
+import io.github.codenilson.lavava2025.services.PlayerRankingService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import io.github.codenilson.lavava2025.services.SeasonArchiveService;
+import jakarta.persistence.EntityManager;
+
+/**
+ * As operações em massa rodam em suas próprias transações, por isso este teste não é
+ * transacional e remove os dados que cria.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SeasonArchiveIntegrationTest {
+
+    private static final String SEASON = "archive-old";
+    private static final String NEW_SEASON = "archive-new";
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlayerRankingService playerRankingService;
+
+    @Autowired
+    private SeasonArchiveService seasonArchiveService;
+
+    @Autowired
+    private PlayerRankingRepository playerRankingRepository;
+
+    @Autowired
+    private ArchivedPlayerRankingRepository archivedPlayerRankingRepository;
+
+    @Autowired
+    private PlayerSeasonStatsRepository playerSeasonStatsRepository;
+
+    @Autowired
+    private RankingEventRepository rankingEventRepository;
+
+    @Autowired
+    private PlayerRankingIndex playerRankingIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Player> players;
+
+    @BeforeEach
+    void setUp() {
+        players = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            players.add(playerService.save(new Player("ArchivePlayer" + i, "Test@123")));
+        }
+        Player inactive = players.get(2);
+        inactive.setActive(false);
+        playerRepository.save(inactive);
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<UUID> playerIds = players.stream().map(Player::getId).toList();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM RankingEvent e WHERE e.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM PlayerSeasonStats s WHERE s.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM PlayerRanking pr WHERE pr.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            // A virada também cria rankings para os jogadores de outros testes
+            playerRankingRepository.deleteBySeason(NEW_SEASON);
+            entityManager.createQuery("DELETE FROM ArchivedPlayerRanking a WHERE a.season = :season")
+                    .setParameter("season", SEASON)
+                    .executeUpdate();
+            playerIds.forEach(playerId -> entityManager.remove(entityManager.find(Player.class, playerId)));
+        });
+        playerRankingIndex.evictSeason(SEASON);
+        playerRankingIndex.evictSeason(NEW_SEASON);
+        playerRankingIndex.evictSeason("2025");
+    }
+
+    @Test
+    void testArchiveMovesRankingsToArchiveTable() {
+        playerRankingService.applyMatchResult(result());
+        assertEquals(2, playerRankingIndex.size(SEASON));
+
+        SeasonOperationReportDTO report = seasonArchiveService.archiveSeason(SEASON);
+
+        assertEquals(SEASON, report.getSeason());
+        assertEquals(2, report.getRowsAffected());
+        assertTrue(report.getElapsedMillis() >= 0);
+        assertEquals(0, playerRankingRepository.countBySeason(SEASON));
+        assertEquals(0, playerRankingIndex.size(SEASON));
+
+        List<ArchivedPlayerRanking> archived = archivedPlayerRankingRepository.findBySeasonOrderByTotalPointsDesc(SEASON);
+        assertEquals(2, archived.size());
+        assertEquals(players.get(0).getId(), archived.get(0).getPlayerId());
+        assertEquals(4, archived.get(0).getTotalPoints()); // 3 pela vitória e 1 de MVP
+        assertEquals(1, archived.get(0).getMatchesPlayed());
+        // O ledger continua explicando os pontos arquivados
+        assertFalse(rankingEventRepository.findByPlayerIdAndSeason(players.get(0).getId(), SEASON).isEmpty());
+    }
+
+    @Test
+    void testRolloverCreatesRankingsForActivePlayersOnce() {
+        long activePlayers = playerRepository.findByActiveTrue().size();
+
+        SeasonOperationReportDTO report = seasonArchiveService.rolloverSeason(NEW_SEASON);
+
+        assertEquals(activePlayers, report.getRowsAffected());
+        assertTrue(playerRankingRepository.existsByPlayerIdAndSeason(players.get(0).getId(), NEW_SEASON));
+        assertFalse(playerRankingRepository.existsByPlayerIdAndSeason(players.get(2).getId(), NEW_SEASON));
+        assertEquals(activePlayers, playerRankingIndex.size(NEW_SEASON));
+
+        // Jogadores que já têm ranking na temporada são ignorados
+        assertEquals(0, seasonArchiveService.rolloverSeason(NEW_SEASON).getRowsAffected());
+    }
+
+    @Test
+    void testResetDeletesRankingsLedgerAndStats() {
+        playerRankingService.applyMatchResult(result());
+        // Dois aces já convertidos em pontos
+        PlayerSeasonStats stats = new PlayerSeasonStats(players.get(0), SEASON);
+        stats.apply(PerformanceStats.of(2, 10, 5, 3));
+        stats.awardPendingAces();
+        playerSeasonStatsRepository.save(stats);
+
+        SeasonOperationReportDTO report = playerRankingService.resetSeasonRankings(SEASON);
+
+        assertEquals(2, report.getRowsAffected());
+        assertEquals(0, playerRankingRepository.countBySeason(SEASON));
+        assertEquals(0, playerRankingIndex.size(SEASON));
+        assertTrue(rankingEventRepository.findByPlayerIdAndSeason(players.get(0).getId(), SEASON).isEmpty());
+        assertTrue(playerSeasonStatsRepository.findByPlayerIdAndSeason(players.get(0).getId(), SEASON).isEmpty());
+    }
+
+    /**
+     * O jogador 0 vence o jogador 1 e é o MVP.
+     */
+    private MatchResult result() {
+        return new MatchResult(UUID.randomUUID(), SEASON, List.of(players.get(0).getId()),
+                List.of(players.get(1).getId()), players.get(0).getId(), null);
+    }
+}
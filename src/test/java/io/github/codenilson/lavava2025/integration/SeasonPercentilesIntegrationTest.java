@@ -0,0 +1,201 @@
+package io.github.codenilson.lavava2025.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.codenilson.lavava2025.entities.Match;
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.PlayerPerformance;
+import io.github.codenilson.lavava2025.entities.SeasonMetricSketch;
+import io.github.codenilson.lavava2025.entities.Team;
+import io.github.codenilson.lavava2025.entities.ValorantMap;
+import io.github.codenilson.lavava2025.entities.dto.ranking.MetricPercentileDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.PlayerPercentilesDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.SeasonPercentilesDTO;
+import io.github.codenilson.lavava2025.entities.valueobjects.MatchResult;
+import io.github.codenilson.lavava2025.entities.valueobjects.PercentileMetric;
+import io.github.codenilson.lavava2025.repositories.SeasonMetricSketchRepository;
+import io.github.codenilson.lavava2025.services.PlayerPercentileService;
+import io.github.codenilson.lavava2025.services.PlayerRankingIndex;
+import io.github.codenilson.lavava2025.services.PlayerRankingService;
+import io.github.codenilson.lavava2025.services.PlayerSeasonStatsService;
+import io.github.codenilson.lavava2025.services.PlayerService;
+import io.github.codenilson.lavava2025.services.SeasonPercentileSketches;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Os sketches são atualizados depois do commit, por isso este teste não é
+ * transacional e remove os dados que cria.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SeasonPercentilesIntegrationTest {
+
+    private static final String SEASON = "percentiles";
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRankingService playerRankingService;
+
+    @Autowired
+    private PlayerSeasonStatsService playerSeasonStatsService;
+
+    @Autowired
+    private PlayerPercentileService playerPercentileService;
+
+    @Autowired
+    private SeasonPercentileSketches seasonPercentileSketches;
+
+    @Autowired
+    private SeasonMetricSketchRepository seasonMetricSketchRepository;
+
+    @Autowired
+    private PlayerRankingIndex playerRankingIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Player> players;
+
+    @BeforeEach
+    void setUp() {
+        players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(playerService.save(new Player("PercentilePlayer" + i, "Test@123")));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<UUID> playerIds = players.stream().map(Player::getId).toList();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM PlayerSeasonStats s WHERE s.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM RankingEvent e WHERE e.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM PlayerRanking pr WHERE pr.player.id IN :ids")
+                    .setParameter("ids", playerIds)
+                    .executeUpdate();
+            playerIds.forEach(playerId -> entityManager.remove(entityManager.find(Player.class, playerId)));
+        });
+        seasonPercentileSketches.evictSeason(SEASON);
+        playerRankingIndex.evictSeason(SEASON);
+        playerRankingIndex.evictSeason("2025");
+    }
+
+    @Test
+    void testPointsPercentilesFollowMatchResults() {
+        // Players 0 e 1 vencem duas vezes (0 é MVP), 2 e 3 perdem
+        playerRankingService.applyMatchResult(result(0, 1, 2, 3));
+        playerRankingService.applyMatchResult(result(0, 1, 2, 3));
+
+        SeasonPercentilesDTO percentiles = playerPercentileService.getSeasonPercentiles(SEASON,
+                PercentileMetric.POINTS, List.of(0.0, 1.0));
+        assertEquals(4, percentiles.getSampleSize());
+        assertEquals(0.0, percentiles.getValues().get("p0"));
+        assertEquals(8.0, percentiles.getValues().get("p100"), 8.0 * 0.01); // 6 pelas vitórias + 2 de MVP
+
+        PlayerPercentilesDTO best = playerPercentileService.getPlayerPercentiles(players.get(0).getId(), SEASON);
+        MetricPercentileDTO points = byMetric(best).get(PercentileMetric.POINTS);
+        assertEquals(8.0, points.getValue());
+        assertEquals(87.5, points.getPercentile()); // 3 abaixo e metade do próprio bucket, de 4
+        assertEquals(12.5, points.getTopPercent());
+    }
+
+    @Test
+    void testStatsPercentilesAreUpdatedAndStored() {
+        recordPerformance(players.get(0), 30, 10);
+        recordPerformance(players.get(1), 20, 10);
+        recordPerformance(players.get(2), 10, 10);
+        PlayerPerformance corrected = recordPerformance(players.get(3), 5, 10);
+
+        // A correção troca o valor antigo pelo novo
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            corrected.setKills(40);
+            playerSeasonStatsService.record(corrected);
+        });
+
+        SeasonPercentilesDTO killsPerMatch = playerPercentileService.getSeasonPercentiles(SEASON,
+                PercentileMetric.KILLS_PER_MATCH, List.of(0.0, 1.0));
+        assertEquals(4, killsPerMatch.getSampleSize());
+        assertEquals(10.0, killsPerMatch.getValues().get("p0"), 10.0 * 0.01);
+        assertEquals(40.0, killsPerMatch.getValues().get("p100"), 40.0 * 0.01);
+
+        Map<PercentileMetric, MetricPercentileDTO> top = byMetric(
+                playerPercentileService.getPlayerPercentiles(players.get(3).getId(), SEASON));
+        assertEquals(4.0, top.get(PercentileMetric.KD_RATIO).getValue());
+        assertEquals(87.5, top.get(PercentileMetric.KILLS_PER_MATCH).getPercentile());
+
+        // Os sketches gravados reproduzem os mesmos percentis
+        seasonPercentileSketches.flush();
+        List<SeasonMetricSketch> stored = seasonMetricSketchRepository.findBySeason(SEASON);
+        assertEquals(PercentileMetric.values().length, stored.size());
+        assertTrue(stored.stream()
+                .anyMatch(row -> row.getMetric() == PercentileMetric.KILLS_PER_MATCH && row.getSampleCount() == 4));
+    }
+
+    @Test
+    void testEmptySeasonAndUnknownPlayer() {
+        SeasonPercentilesDTO percentiles = playerPercentileService.getSeasonPercentiles(SEASON,
+                PercentileMetric.ACES, null);
+
+        assertEquals(0, percentiles.getSampleSize());
+        assertNull(percentiles.getValues().get("p95"));
+        assertThrows(EntityNotFoundException.class,
+                () -> playerPercentileService.getPlayerPercentiles(players.get(0).getId(), SEASON));
+        assertThrows(IllegalArgumentException.class, () -> playerPercentileService.getSeasonPercentiles(SEASON,
+                PercentileMetric.POINTS, List.of(1.5)));
+    }
+
+    /**
+     * Os jogadores {@code a} e {@code b} vencem {@code c} e {@code d}; {@code a} é o MVP.
+     */
+    private MatchResult result(int a, int b, int c, int d) {
+        return new MatchResult(UUID.randomUUID(), SEASON, List.of(players.get(a).getId(), players.get(b).getId()),
+                List.of(players.get(c).getId(), players.get(d).getId()), players.get(a).getId(), null);
+    }
+
+    /**
+     * Contabiliza uma performance nas estatísticas da temporada, sem gravar a partida.
+     */
+    private PlayerPerformance recordPerformance(Player player, int kills, int deaths) {
+        Match match = new Match(new ValorantMap());
+        match.setSeason(SEASON);
+        PlayerPerformance performance = new PlayerPerformance(player, new Team(), match);
+        performance.setKills(kills);
+        performance.setDeaths(deaths);
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> playerSeasonStatsService.record(performance));
+        return performance;
+    }
+
+    private static Map<PercentileMetric, MetricPercentileDTO> byMetric(PlayerPercentilesDTO percentiles) {
+        return percentiles.getMetrics().stream()
+                .collect(Collectors.toMap(MetricPercentileDTO::getMetric, metric -> metric));
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.codenilson.lavava2025.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import io.github.codenilson.lavava2025.entities.dto.ranking.DecayedRankingDTO;
+import io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+
+@ExtendWith(MockitoExtension.class)
+class DecayedLeaderboardServiceTest {
+
+    private static final String SEASON = "2025";
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    @Mock
+    private PlayerRankingRepository playerRankingRepository;
+
+    @Mock
+    private PlayerRankingIndex playerRankingIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DecayedLeaderboardService decayedLeaderboardService;
+
+    private PlayerRankingResponseDTO inactive;
+    private PlayerRankingResponseDTO activeA;
+    private PlayerRankingResponseDTO activeB;
+
+    @BeforeEach
+    void setUp() {
+        // Meia-vida padrão de 30 dias
+        decayedLeaderboardService = new DecayedLeaderboardService(playerRankingRepository, playerRankingIndex, transactionManager,
+                new RankingProperties());
+        // Em ordem de leaderboard, como vêm do banco
+        inactive = row("Inactive", 100, TODAY.minusDays(60));
+        activeA = row("ActiveA", 40, TODAY);
+        activeB = row("ActiveB", 40, TODAY);
+        when(playerRankingRepository.streamLeaderboardRows(SEASON))
+                .thenAnswer(invocation -> Stream.of(inactive, activeA, activeB));
+    }
+
+    @Test
+    void testInactivePlayerDropsBelowActivePlayers() {
+        Page<DecayedRankingDTO> page = decayedLeaderboardService.getDecayedLeaderboard(SEASON,
+                PageRequest.of(0, 10), TODAY);
+
+        List<DecayedRankingDTO> rows = page.getContent();
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of("ActiveA", "ActiveB", "Inactive"),
+                rows.stream().map(DecayedRankingDTO::getPlayerUsername).toList());
+        // Empatados dividem a posição
+        assertEquals(List.of(1L, 1L, 3L), rows.stream().map(DecayedRankingDTO::getPosition).toList());
+        assertEquals(40.0, rows.get(0).getDecayedPoints());
+        // Duas meias-vidas
+        assertEquals(25.0, rows.get(2).getDecayedPoints());
+        assertEquals(100, rows.get(2).getTotalPoints());
+    }
+
+    @Test
+    void testLaterReadsDecayScoresWithoutReloadingOrder() {
+        decayedLeaderboardService.getDecayedLeaderboard(SEASON, PageRequest.of(0, 10), TODAY);
+
+        Page<DecayedRankingDTO> page = decayedLeaderboardService.getDecayedLeaderboard(SEASON,
+                PageRequest.of(1, 2), TODAY.plusDays(1));
+
+        assertEquals(1, page.getContent().size());
+        DecayedRankingDTO row = page.getContent().get(0);
+        assertEquals("Inactive", row.getPlayerUsername());
+        assertEquals(3L, row.getPosition());
+        assertEquals(Math.round(100 * Math.pow(0.5, 61 / 30.0) * 100.0) / 100.0, row.getDecayedPoints());
+        verify(playerRankingRepository, times(1)).streamLeaderboardRows(SEASON);
+    }
+
+    @Test
+    void testMaterializeReplacesOrderAndEvictReloads() {
+        assertEquals(3, decayedLeaderboardService.materialize(SEASON, TODAY));
+        decayedLeaderboardService.getDecayedLeaderboard(SEASON, PageRequest.of(0, 10), TODAY);
+        decayedLeaderboardService.evictSeason(SEASON);
+        decayedLeaderboardService.getDecayedLeaderboard(SEASON, PageRequest.of(0, 10), TODAY);
+
+        verify(playerRankingRepository, times(2)).streamLeaderboardRows(SEASON);
+    }
+
+    @Test
+    void testRankingChangeRebuildsOrder() {
+        decayedLeaderboardService.getDecayedLeaderboard(SEASON, PageRequest.of(0, 10), TODAY);
+        // Uma partida nova muda a versão da temporada no índice
+        when(playerRankingIndex.version(SEASON)).thenReturn(1L);
+        activeB = row("ActiveB", 43, TODAY);
+
+        Page<DecayedRankingDTO> page = decayedLeaderboardService.getDecayedLeaderboard(SEASON,
+                PageRequest.of(0, 1), TODAY);
+
+        assertEquals("ActiveB", page.getContent().get(0).getPlayerUsername());
+        assertEquals(1L, page.getContent().get(0).getPosition());
+        verify(playerRankingRepository, times(2)).streamLeaderboardRows(SEASON);
+    }
+
+    private static PlayerRankingResponseDTO row(String username, int points, LocalDate lastUpdated) {
+        return new PlayerRankingResponseDTO(UUID.randomUUID(), UUID.randomUUID(), username, points, 0, 0, 0.0,
+                SEASON, null, lastUpdated.atTime(12, 0), LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+}
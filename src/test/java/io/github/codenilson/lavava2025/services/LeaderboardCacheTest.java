@@ -0,0 +1,136 @@
+package io.github.codenilson.lavava2025.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardCacheTest {
+
+    private static final String SEASON = "2025";
+
+    @Mock
+    private PlayerRankingIndex playerRankingIndex;
+
+    private RankingProperties rankingProperties;
+    private LeaderboardCache leaderboardCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        rankingProperties = new RankingProperties();
+        leaderboardCache = new LeaderboardCache(playerRankingIndex, rankingProperties);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testSameVersionIsLoadedOnce() {
+        when(playerRankingIndex.version(SEASON)).thenReturn(1L);
+
+        assertEquals("v1", leaderboardCache.get(SEASON, "top:10", () -> load("v1")));
+        assertEquals("v1", leaderboardCache.get(SEASON, "top:10", () -> load("v2")));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testNewVersionIsLoadedAgain() {
+        when(playerRankingIndex.version(SEASON)).thenReturn(1L, 2L);
+
+        assertEquals("v1", leaderboardCache.get(SEASON, "top:10", () -> load("v1")));
+        assertEquals("v2", leaderboardCache.get(SEASON, "top:10", () -> load("v2")));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testConcurrentMissesLoadOnce() throws Exception {
+        when(playerRankingIndex.version(SEASON)).thenReturn(1L);
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> reads = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                reads.add(executor.submit(() -> {
+                    start.await();
+                    return leaderboardCache.get(SEASON, "leaderboard:0:10", () -> {
+                        sleep(200);
+                        return load("page");
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> read : reads) {
+                assertEquals("page", read.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsDropped() {
+        rankingProperties.getCache().setMaxEntries(2);
+        when(playerRankingIndex.version(SEASON)).thenReturn(1L);
+
+        leaderboardCache.get(SEASON, "a", () -> load("a"));
+        leaderboardCache.get(SEASON, "b", () -> load("b"));
+        leaderboardCache.get(SEASON, "a", () -> load("a")); // "a" passa a ser o mais recente
+        leaderboardCache.get(SEASON, "c", () -> load("c"));
+        leaderboardCache.get(SEASON, "a", () -> load("a"));
+        leaderboardCache.get(SEASON, "b", () -> load("b"));
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        when(playerRankingIndex.version(SEASON)).thenReturn(1L);
+
+        assertThrows(IllegalStateException.class, () -> leaderboardCache.get(SEASON, "top:10", () -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertEquals("v1", leaderboardCache.get(SEASON, "top:10", () -> load("v1")));
+    }
+
+    @Test
+    void testDisabledCacheAlwaysLoads() {
+        rankingProperties.getCache().setEnabled(false);
+
+        leaderboardCache.get(SEASON, "top:10", () -> load("v1"));
+        leaderboardCache.get(SEASON, "top:10", () -> load("v1"));
+
+        assertEquals(2, loads.get());
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
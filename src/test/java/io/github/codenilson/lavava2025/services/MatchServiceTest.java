@@ -31,6 +31,9 @@ public class MatchServiceTest {
     @Mock
     private MatchRepository matchRepository;
 
+    @Mock
+    private MatchDeletionService matchDeletionService;
+
     @Test
     void testSaveShouldSaveMatch() {
 
@@ -131,8 +134,8 @@ public class MatchServiceTest {
         // When
         matchService.deleteById(matchId);
 
-        // Then
-        verify(matchRepository).delete(match);
+        // Then: a remoção reverte os pontos da partida
+        verify(matchDeletionService).delete(matchId);
     }
 
     @Test
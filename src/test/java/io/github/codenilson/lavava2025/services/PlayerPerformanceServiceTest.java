@@ -30,6 +30,9 @@ public class PlayerPerformanceServiceTest {
     @Mock
     private PlayerPerformanceRepository playerPerformanceRepository;
 
+    @Mock
+    private PlayerSeasonStatsService playerSeasonStatsService;
+
     @Test
     public void testSaveShouldSavePlayerPerformance() {
         // Given
@@ -0,0 +1,132 @@
+package io.github.codenilson.lavava2025.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.codenilson.lavava2025.entities.valueobjects.RankingScore;
+import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerRankingIndexTest {
+
+    private static final String SEASON = "2025";
+
+    @Mock
+    private PlayerRankingRepository playerRankingRepository;
+
+    @InjectMocks
+    private PlayerRankingIndex playerRankingIndex;
+
+    private RankingScore first;
+    private RankingScore tiedA;
+    private RankingScore tiedB;
+    private RankingScore last;
+
+    @BeforeEach
+    void setUp() {
+        first = new RankingScore(UUID.randomUUID(), 12, 0.8, 4);
+        tiedA = new RankingScore(UUID.randomUUID(), 9, 0.6, 3);
+        tiedB = new RankingScore(UUID.randomUUID(), 9, 0.6, 3);
+        last = new RankingScore(UUID.randomUUID(), 0, 0.0, 0);
+        when(playerRankingRepository.findScoresBySeason(SEASON)).thenReturn(List.of(last, tiedA, first, tiedB));
+    }
+
+    @Test
+    void testPositionSharesRankOnTies() {
+        assertEquals(1, playerRankingIndex.position(SEASON, first));
+        assertEquals(2, playerRankingIndex.position(SEASON, tiedA));
+        assertEquals(2, playerRankingIndex.position(SEASON, tiedB));
+        assertEquals(4, playerRankingIndex.position(SEASON, last));
+    }
+
+    @Test
+    void testTopReturnsLeaderboardOrderWithPositions() {
+        List<PlayerRankingIndex.Entry> top = playerRankingIndex.top(SEASON, 3);
+
+        assertEquals(3, top.size());
+        assertEquals(first, top.get(0).score());
+        assertEquals(List.of(1L, 2L, 2L), top.stream().map(PlayerRankingIndex.Entry::position).toList());
+    }
+
+    @Test
+    void testUpsertMovesRankingAndRemoveDropsIt() {
+        playerRankingIndex.top(SEASON, 1); // carrega a temporada
+
+        RankingScore promoted = new RankingScore(last.rankingId(), 15, 1.0, 5);
+        playerRankingIndex.upsert(SEASON, promoted);
+
+        assertEquals(4, playerRankingIndex.size(SEASON));
+        assertEquals(1, playerRankingIndex.position(SEASON, promoted));
+        assertEquals(2, playerRankingIndex.position(SEASON, first));
+
+        playerRankingIndex.remove(SEASON, promoted.rankingId());
+
+        assertEquals(3, playerRankingIndex.size(SEASON));
+        assertEquals(1, playerRankingIndex.position(SEASON, first));
+        assertTrue(playerRankingIndex.find(SEASON, promoted.rankingId()).isEmpty());
+    }
+
+    @Test
+    void testAroundReturnsNeighborsWithPositions() {
+        // Entre os empatados, o de menor id vem primeiro
+        RankingScore second = tiedA.rankingId().compareTo(tiedB.rankingId()) < 0 ? tiedA : tiedB;
+
+        List<PlayerRankingIndex.Entry> window = playerRankingIndex.around(SEASON, second.rankingId(), 1);
+
+        assertEquals(3, window.size());
+        assertEquals(first, window.get(0).score());
+        assertEquals(second, window.get(1).score());
+        assertEquals(List.of(1L, 2L, 2L), window.stream().map(PlayerRankingIndex.Entry::position).toList());
+    }
+
+    @Test
+    void testAroundIsClippedAtTheEdgesOfTheLeaderboard() {
+        List<PlayerRankingIndex.Entry> top = playerRankingIndex.around(SEASON, first.rankingId(), 2);
+        List<PlayerRankingIndex.Entry> bottom = playerRankingIndex.around(SEASON, last.rankingId(), 2);
+
+        assertEquals(3, top.size());
+        assertEquals(first, top.get(0).score());
+        assertEquals(3, bottom.size());
+        assertEquals(last, bottom.get(2).score());
+        assertEquals(4L, bottom.get(2).position());
+        assertTrue(playerRankingIndex.around(SEASON, UUID.randomUUID(), 2).isEmpty());
+    }
+
+    @Test
+    void testMatchesCountQueryOnRandomUpdates() {
+        playerRankingIndex.top(SEASON, 1);
+        Random random = new Random(42);
+        List<RankingScore> current = new ArrayList<>(List.of(first, tiedA, tiedB, last));
+        for (int i = 0; i < 200; i++) {
+            current.add(new RankingScore(UUID.randomUUID(), random.nextInt(20), random.nextInt(5) / 4.0, random.nextInt(6)));
+        }
+        current.forEach(score -> playerRankingIndex.upsert(SEASON, score));
+
+        for (int i = 0; i < 500; i++) {
+            int slot = random.nextInt(current.size());
+            RankingScore moved = new RankingScore(current.get(slot).rankingId(), random.nextInt(20),
+                    random.nextInt(5) / 4.0, random.nextInt(6));
+            current.set(slot, moved);
+            playerRankingIndex.upsert(SEASON, moved);
+        }
+
+        for (RankingScore score : current) {
+            long expected = current.stream().filter(other -> other.beats(score)).count() + 1;
+            assertEquals(expected, playerRankingIndex.position(SEASON, score));
+        }
+        assertEquals(current.size(), playerRankingIndex.size(SEASON));
+    }
+}
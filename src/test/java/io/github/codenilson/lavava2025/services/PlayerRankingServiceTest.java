@@ -5,13 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,12 +29,11 @@ import org.springframework.data.domain.Pageable;
 
 import io.github.codenilson.lavava2025.entities.Player;
 import io.github.codenilson.lavava2025.entities.PlayerRanking;
+import io.github.codenilson.lavava2025.entities.RankingEvent;
 import io.github.codenilson.lavava2025.entities.dto.ranking.PlayerRankingResponseDTO;
 import io.github.codenilson.lavava2025.repositories.PlayerRankingRepository;
 import io.github.codenilson.lavava2025.repositories.PlayerRepository;
-
-import io.github.codenilson.lavava2025.repositories.MatchRepository;
-import io.github.codenilson.lavava2025.repositories.PlayerPerformanceRepository;
+import io.github.codenilson.lavava2025.repositories.RankingEventRepository;
 
 @ExtendWith(MockitoExtension.class)
 class PlayerRankingServiceTest {
@@ -44,10 +46,25 @@ class PlayerRankingServiceTest {
     private PlayerRepository playerRepository;
 
     @Mock
-    private MatchRepository matchRepository;
+    private PlayerSeasonStatsService playerSeasonStatsService;
+
+    @Mock
+    private PlayerRankingIndex playerRankingIndex;
+
+    @Mock
+    private RankingEventRepository rankingEventRepository;
+
+    @Mock
+    private PlayerRankingCounters playerRankingCounters;
 
     @Mock
-    private PlayerPerformanceRepository playerPerformanceRepository;
+    private LeaderboardCache leaderboardCache;
+
+    @Mock
+    private SeasonArchiveService seasonArchiveService;
+
+    @Mock
+    private LeaderboardEventHub leaderboardEventHub;
 
     @InjectMocks
     private PlayerRankingService playerRankingService;
@@ -79,6 +96,7 @@ class PlayerRankingServiceTest {
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
         when(playerRankingRepository.findByPlayerAndSeason(testPlayer, "2025")).thenReturn(Optional.empty());
         when(playerRankingRepository.save(any(PlayerRanking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        incrementInMemory();
 
         // When
         PlayerRanking result = playerRankingService.updatePlayerRanking(playerId, true);
@@ -91,7 +109,7 @@ class PlayerRankingServiceTest {
         assertEquals(1, result.getMatchesWon());
         assertEquals(1, result.getMatchesPlayed());
         
-        verify(playerRankingRepository, times(2)).save(any(PlayerRanking.class)); // Once for creation, once for update
+        verify(playerRankingRepository).save(any(PlayerRanking.class)); // Only for creation, counters are incremented in SQL
     }
 
     @Test
@@ -99,7 +117,7 @@ class PlayerRankingServiceTest {
         // Given
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
         when(playerRankingRepository.findByPlayerAndSeason(testPlayer, "2025")).thenReturn(Optional.of(testRanking));
-        when(playerRankingRepository.save(any(PlayerRanking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        incrementInMemory();
 
         // When
         PlayerRanking result = playerRankingService.updatePlayerRanking(playerId, true);
@@ -110,7 +128,7 @@ class PlayerRankingServiceTest {
         assertEquals(3, result.getMatchesWon()); // 2 + 1
         assertEquals(4, result.getMatchesPlayed()); // 3 + 1
         
-        verify(playerRankingRepository).save(testRanking);
+        verify(playerRankingCounters).apply(eq("2025"), eq(List.of(testRanking)), any());
     }
 
     @Test
@@ -118,7 +136,7 @@ class PlayerRankingServiceTest {
         // Given
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
         when(playerRankingRepository.findByPlayerAndSeason(testPlayer, "2025")).thenReturn(Optional.of(testRanking));
-        when(playerRankingRepository.save(any(PlayerRanking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        incrementInMemory();
 
         // When
         PlayerRanking result = playerRankingService.updatePlayerRanking(playerId, false);
@@ -129,7 +147,24 @@ class PlayerRankingServiceTest {
         assertEquals(2, result.getMatchesWon()); // Same wins
         assertEquals(4, result.getMatchesPlayed()); // 3 + 1
         
-        verify(playerRankingRepository).save(testRanking);
+        verify(playerRankingCounters).apply(eq("2025"), eq(List.of(testRanking)), any());
+    }
+
+    @Test
+    void testUpdatePlayerRanking_AddsOnlyPendingAces() {
+        // Given: o jogador tem 2 aces na temporada ainda não convertidos em pontos
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
+        when(playerRankingRepository.findByPlayerAndSeason(testPlayer, "2025")).thenReturn(Optional.of(testRanking));
+        incrementInMemory();
+        when(playerSeasonStatsService.awardPendingAces(playerId, "2025")).thenReturn(2, 0);
+
+        // When: duas partidas seguidas
+        playerRankingService.updatePlayerRanking(playerId, false);
+        PlayerRanking result = playerRankingService.updatePlayerRanking(playerId, false);
+
+        // Then: os aces contam uma única vez
+        assertEquals(8, result.getTotalPoints()); // 6 + 2 aces
+        assertEquals(5, result.getMatchesPlayed());
     }
 
     @Test
@@ -137,7 +172,7 @@ class PlayerRankingServiceTest {
         // Given
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
         when(playerRankingRepository.findByPlayerAndSeason(testPlayer, "2025")).thenReturn(Optional.of(testRanking));
-        when(playerRankingRepository.save(any(PlayerRanking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        incrementInMemory();
 
         // When
         PlayerRanking result = playerRankingService.addBonusPoints(playerId, 2);
@@ -146,20 +181,19 @@ class PlayerRankingServiceTest {
         assertNotNull(result);
         assertEquals(8, result.getTotalPoints()); // 6 + 2 bonus
         
-        verify(playerRankingRepository).save(testRanking);
+        verify(playerRankingCounters).apply(eq("2025"), eq(List.of(testRanking)), any());
     }
 
     @Test
     void testGetCurrentSeasonLeaderboard() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        List<PlayerRanking> rankings = List.of(testRanking);
-        Page<PlayerRanking> page = new PageImpl<>(rankings, pageable, 1);
+        List<PlayerRankingResponseDTO> rankings = List.of(new PlayerRankingResponseDTO(testRanking, 1L));
+        Page<PlayerRankingResponseDTO> page = new PageImpl<>(rankings, pageable, 1);
         
-        when(playerRankingRepository.findBySeasonOrderByTotalPointsDesc("2025", pageable)).thenReturn(page);
-        when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
-        when(playerRankingRepository.findByPlayerAndSeason(testPlayer, "2025")).thenReturn(Optional.of(testRanking));
-        when(playerRankingRepository.findPlayerPosition("2025", 6, 0.67, 2)).thenReturn(1L);
+        when(playerRankingRepository.findLeaderboardWithPositions("2025", pageable)).thenReturn(page);
+        when(leaderboardCache.get(eq("2025"), any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(2).get());
 
         // When
         Page<PlayerRankingResponseDTO> result = playerRankingService.getCurrentSeasonLeaderboard(pageable);
@@ -180,7 +214,7 @@ class PlayerRankingServiceTest {
         // Given
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
         when(playerRankingRepository.findByPlayerAndSeason(testPlayer, "2025")).thenReturn(Optional.of(testRanking));
-        when(playerRankingRepository.findPlayerPosition("2025", 6, 0.67, 2)).thenReturn(1L);
+        when(playerRankingIndex.position(testRanking)).thenReturn(1L);
 
         // When
         Optional<PlayerRankingResponseDTO> result = playerRankingService.getPlayerRanking(playerId);
@@ -223,6 +257,7 @@ class PlayerRankingServiceTest {
         when(playerRankingRepository.findByPlayerAndSeason(any(Player.class), any(String.class)))
                 .thenReturn(Optional.empty());
         when(playerRankingRepository.save(any(PlayerRanking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        incrementInMemory();
 
         // When
         playerRankingService.updateTeamRankings(playerIds, true);
@@ -230,7 +265,8 @@ class PlayerRankingServiceTest {
         // Then
         verify(playerRepository).findById(playerId);
         verify(playerRepository).findById(player2Id);
-        verify(playerRankingRepository, times(4)).save(any(PlayerRanking.class)); // 2 saves per player (create + update)
+        verify(playerRankingRepository, times(2)).save(any(PlayerRanking.class)); // Ranking creation
+        verify(playerRankingCounters, times(2)).apply(eq("2025"), any(), any());
     }
 
     @Test
@@ -238,6 +274,8 @@ class PlayerRankingServiceTest {
         // Given
         List<String> seasons = List.of("2025", "2024", "2023");
         when(playerRankingRepository.findAllSeasons()).thenReturn(seasons);
+        when(leaderboardCache.getAcrossSeasons(any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(1).get());
 
         // When
         List<String> result = playerRankingService.getAvailableSeasons();
@@ -247,4 +285,21 @@ class PlayerRankingServiceTest {
         assertEquals(3, result.size());
         assertEquals(seasons, result);
     }
+
+    /**
+     * Simula os incrementos atômicos aplicando os eventos diretamente ao ranking recebido.
+     */
+    private void incrementInMemory() {
+        when(playerRankingCounters.apply(any(), any(), any())).thenAnswer(invocation -> {
+            Collection<PlayerRanking> rankings = invocation.getArgument(1);
+            Collection<RankingEvent> events = invocation.getArgument(2);
+            PlayerRanking ranking = rankings.iterator().next();
+            for (RankingEvent event : events) {
+                ranking.setTotalPoints(ranking.getTotalPoints() + event.getDeltaPoints());
+                ranking.setMatchesPlayed(ranking.getMatchesPlayed() + event.getDeltaPlayed());
+                ranking.setMatchesWon(ranking.getMatchesWon() + event.getDeltaWon());
+            }
+            return List.copyOf(rankings);
+        });
+    }
 }
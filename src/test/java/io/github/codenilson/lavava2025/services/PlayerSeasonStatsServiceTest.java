@@ -0,0 +1,143 @@
+package io.github.codenilson.lavava2025.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.codenilson.lavava2025.entities.Match;
+import io.github.codenilson.lavava2025.entities.Player;
+import io.github.codenilson.lavava2025.entities.PlayerPerformance;
+import io.github.codenilson.lavava2025.entities.PlayerSeasonStats;
+import io.github.codenilson.lavava2025.entities.Team;
+import io.github.codenilson.lavava2025.entities.ValorantMap;
+import io.github.codenilson.lavava2025.entities.valueobjects.PerformanceStats;
+import io.github.codenilson.lavava2025.repositories.PlayerSeasonStatsRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerSeasonStatsServiceTest {
+
+    @Mock
+    private PlayerSeasonStatsRepository playerSeasonStatsRepository;
+
+    @Mock
+    private SeasonPercentileSketches seasonPercentileSketches;
+
+    @InjectMocks
+    private PlayerSeasonStatsService playerSeasonStatsService;
+
+    private Player player;
+    private PlayerPerformance performance;
+    private PlayerSeasonStats stats;
+    private Match match;
+
+    @BeforeEach
+    void setUp() {
+        player = new Player();
+        player.setId(UUID.randomUUID());
+
+        match = new Match(new ValorantMap());
+        performance = new PlayerPerformance(player, new Team(), match);
+        stats = new PlayerSeasonStats(player, "2025");
+    }
+
+    @Test
+    void testRecordAddsNewPerformanceToSeasonTotals() {
+        // Given
+        performance.setKills(20);
+        performance.setDeaths(10);
+        performance.setAce(1);
+        when(playerSeasonStatsRepository.lockByPlayerIdAndSeason(player.getId(), "2025")).thenReturn(Optional.of(stats));
+
+        // When
+        playerSeasonStatsService.record(performance);
+
+        // Then
+        assertEquals(1, stats.getAces());
+        assertEquals(20, stats.getKills());
+        assertEquals(10, stats.getDeaths());
+        assertEquals(0, stats.getAssists());
+        assertEquals(1, stats.getMatches());
+        verify(playerSeasonStatsRepository).save(stats);
+        verify(seasonPercentileSketches).recordStats("2025", PerformanceStats.ZERO, new PerformanceStats(1, 20, 10, 0, 1));
+    }
+
+    @Test
+    void testRecordAddsOnlyTheDifferenceOnEdit() {
+        // Given: performance já contabilizada com 20 kills e 1 ace
+        performance.setKills(20);
+        performance.setAce(1);
+        when(playerSeasonStatsRepository.lockByPlayerIdAndSeason(player.getId(), "2025")).thenReturn(Optional.of(stats));
+        playerSeasonStatsService.record(performance);
+
+        // When: a performance é corrigida
+        performance.setKills(25);
+        performance.setAce(0);
+        playerSeasonStatsService.record(performance);
+
+        // Then
+        assertEquals(25, stats.getKills());
+        assertEquals(0, stats.getAces());
+        assertEquals(1, stats.getMatches());
+        verify(seasonPercentileSketches).recordStats("2025", new PerformanceStats(1, 20, 0, 0, 1),
+                new PerformanceStats(0, 25, 0, 0, 1));
+    }
+
+    @Test
+    void testRecordMovesTotalsWithMatchToAnotherSeason() {
+        // Given: performance contabilizada em 2025
+        performance.setKills(20);
+        performance.setAce(1);
+        when(playerSeasonStatsRepository.lockByPlayerIdAndSeason(player.getId(), "2025")).thenReturn(Optional.of(stats));
+        playerSeasonStatsService.record(performance);
+        PlayerSeasonStats moved = new PlayerSeasonStats(player, "2026");
+        when(playerSeasonStatsRepository.lockByPlayerIdAndSeason(player.getId(), "2026")).thenReturn(Optional.of(moved));
+
+        // When: a partida muda de temporada e a performance é corrigida
+        match.setSeason("2026");
+        performance.setKills(22);
+        playerSeasonStatsService.record(performance);
+
+        // Then
+        assertEquals(PerformanceStats.ZERO, stats.totals());
+        assertEquals(new PerformanceStats(1, 22, 0, 0, 1), moved.totals());
+        verify(seasonPercentileSketches).recordStats("2025", new PerformanceStats(1, 20, 0, 0, 1), PerformanceStats.ZERO);
+        verify(seasonPercentileSketches).recordStats("2026", PerformanceStats.ZERO, new PerformanceStats(1, 22, 0, 0, 1));
+    }
+
+    @Test
+    void testRecordSkipsUnchangedPerformance() {
+        // Given: performance sem estatísticas (como as criadas junto com o time)
+
+        // When
+        playerSeasonStatsService.record(performance);
+
+        // Then
+        verify(playerSeasonStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void testAwardPendingAcesCountsEachAceOnce() {
+        // Given
+        performance.setAce(2);
+        when(playerSeasonStatsRepository.lockByPlayerIdAndSeason(player.getId(), "2025")).thenReturn(Optional.of(stats));
+        when(playerSeasonStatsRepository.findByPlayerIdAndSeason(player.getId(), "2025")).thenReturn(Optional.of(stats));
+        playerSeasonStatsService.record(performance);
+
+        // When & Then
+        assertEquals(2, playerSeasonStatsService.awardPendingAces(player.getId(), "2025"));
+        assertEquals(0, playerSeasonStatsService.awardPendingAces(player.getId(), "2025"));
+        assertEquals(2, playerSeasonStatsService.getTotalAces(player.getId(), "2025"));
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.codenilson.lavava2025.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class QuantileSketchTest {
+
+    private static final double ACCURACY = QuantileSketch.RELATIVE_ACCURACY;
+
+    @Test
+    void testQuantilesAreWithinRelativeAccuracy() {
+        Random random = new Random(7);
+        double[] values = new double[10_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian() * 2); // cauda longa
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double quantile : new double[] { 0.0, 0.1, 0.5, 0.9, 0.95, 0.99, 1.0 }) {
+            double expected = values[(int) Math.floor(quantile * (values.length - 1))];
+            assertEquals(expected, sketch.quantile(quantile), expected * ACCURACY, "quantile " + quantile);
+        }
+        assertEquals(10_000, sketch.count());
+    }
+
+    @Test
+    void testPercentRankOfValues() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int value = 1; value <= 100; value++) {
+            sketch.add(value);
+        }
+
+        assertEquals(94.5, sketch.percentRank(95), 1.0);
+        assertEquals(0.0, sketch.percentRank(0.5));
+        assertEquals(100.0, sketch.percentRank(1_000));
+    }
+
+    @Test
+    void testNegativeAndZeroValues() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int value = -50; value <= 50; value++) {
+            sketch.add(value);
+        }
+
+        assertEquals(-50, sketch.quantile(0), 50 * ACCURACY);
+        assertEquals(0, sketch.quantile(0.5));
+        assertEquals(50, sketch.quantile(1), 50 * ACCURACY);
+        assertEquals(50.0, sketch.percentRank(0), 0.01);
+        assertTrue(sketch.percentRank(-25) < sketch.percentRank(-1));
+    }
+
+    @Test
+    void testRemovedValuesNoLongerCount() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(10);
+        sketch.add(20);
+        sketch.add(30);
+
+        // O jogador com 30 passa a ter 5
+        sketch.remove(30);
+        sketch.add(5);
+
+        assertEquals(3, sketch.count());
+        assertEquals(20, sketch.quantile(1), 20 * ACCURACY);
+        assertEquals(5, sketch.quantile(0), 5 * ACCURACY);
+    }
+
+    @Test
+    void testMergeEqualsSketchOfAllValues() {
+        QuantileSketch all = new QuantileSketch();
+        QuantileSketch left = new QuantileSketch();
+        QuantileSketch right = new QuantileSketch();
+        Random random = new Random(11);
+        for (int i = 0; i < 1_000; i++) {
+            double value = random.nextInt(2_000) - 500;
+            all.add(value);
+            (i % 2 == 0 ? left : right).add(value);
+        }
+
+        left.merge(right);
+
+        assertEquals(all.count(), left.count());
+        for (double quantile : new double[] { 0.0, 0.25, 0.5, 0.75, 1.0 }) {
+            assertEquals(all.quantile(quantile), left.quantile(quantile));
+        }
+    }
+
+    @Test
+    void testEncodeRoundTrip() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int value = -100; value <= 1_000; value += 3) {
+            sketch.add(value);
+        }
+
+        byte[] data = sketch.encode();
+        QuantileSketch decoded = QuantileSketch.decode(data);
+
+        assertEquals(sketch.count(), decoded.count());
+        for (double quantile : new double[] { 0.0, 0.3, 0.5, 0.9, 1.0 }) {
+            assertEquals(sketch.quantile(quantile), decoded.quantile(quantile));
+        }
+        // Poucos bytes por bucket: bem menor que um double por valor
+        assertTrue(data.length < 8 * sketch.count() / 2, "encoded size " + data.length);
+        assertThrows(IllegalArgumentException.class, () -> QuantileSketch.decode(new byte[] { 9 }));
+    }
+
+    @Test
+    void testEmptySketch() {
+        QuantileSketch sketch = new QuantileSketch();
+
+        assertTrue(sketch.isEmpty());
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+        assertTrue(Double.isNaN(sketch.percentRank(1)));
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+    }
+}
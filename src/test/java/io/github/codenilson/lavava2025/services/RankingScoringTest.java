@@ -0,0 +1,63 @@
+package io.github.codenilson.lavava2025.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.codenilson.lavava2025.config.RankingProperties;
+import io.github.codenilson.lavava2025.entities.valueobjects.ScoringMode;
+import io.github.codenilson.lavava2025.services.RankingScoringStrategy.MatchPoints;
+
+class RankingScoringTest {
+
+    private RankingProperties rankingProperties;
+    private FlatPointsScoring flat;
+    private EloScoring elo;
+    private RankingScoring rankingScoring;
+
+    @BeforeEach
+    void setUp() {
+        rankingProperties = new RankingProperties();
+        flat = new FlatPointsScoring();
+        elo = new EloScoring(rankingProperties);
+        rankingScoring = new RankingScoring(rankingProperties, List.of(flat, elo));
+    }
+
+    @Test
+    void testFlatScoringIgnoresRatings() {
+        assertEquals(new MatchPoints(3, 0), flat.score(0, 500));
+        assertEquals(1, flat.mvpBonus());
+        assertTrue(flat.awardsAces());
+    }
+
+    @Test
+    void testEloRewardsUpsetsMoreThanExpectedWins() {
+        assertEquals(new MatchPoints(16, -16), elo.score(0, 0));
+
+        MatchPoints favouriteWins = elo.score(200, 0);
+        MatchPoints underdogWins = elo.score(0, 200);
+
+        assertTrue(favouriteWins.winner() < 16);
+        assertTrue(underdogWins.winner() > 16);
+        assertEquals(32, favouriteWins.winner() + underdogWins.winner());
+        assertEquals(-underdogWins.winner(), underdogWins.loser());
+        // Mesmo uma vitória muito provável vale pelo menos um ponto
+        assertEquals(new MatchPoints(1, -1), elo.score(2000, 0));
+    }
+
+    @Test
+    void testModeIsChosenPerSeason() {
+        rankingProperties.getScoring().getSeasons().put("2026", ScoringMode.ELO);
+
+        assertSame(flat, rankingScoring.forSeason("2025"));
+        assertSame(elo, rankingScoring.forSeason("2026"));
+
+        rankingProperties.getScoring().setDefaultMode(ScoringMode.ELO);
+        assertSame(elo, rankingScoring.forSeason("2025"));
+    }
+}